@@ -22,6 +22,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.epam.digital.data.platform.starter.localization.MessageResolver;
@@ -170,16 +171,20 @@ public abstract class BaseIT {
     return objectMapper.readValue(json, tClass);
   }
 
-  @SneakyThrows
   protected ResultActions performWithTokenOfficerRole(MockHttpServletRequestBuilder request) {
-    return mockMvc
-        .perform(request.header(tokenConfig.getName(), tokenConfig.getValueWithRoleOfficer()));
+    return perform(request.header(tokenConfig.getName(), tokenConfig.getValueWithRoleOfficer()));
   }
 
-  @SneakyThrows
   protected ResultActions performWithTokenCitizenRole(MockHttpServletRequestBuilder request) {
-    return mockMvc
-        .perform(request.header(tokenConfig.getName(), tokenConfig.getValueWithRoleCitizen()));
+    return perform(request.header(tokenConfig.getName(), tokenConfig.getValueWithRoleCitizen()));
+  }
+
+  @SneakyThrows
+  private ResultActions perform(MockHttpServletRequestBuilder request) {
+    var resultActions = mockMvc.perform(request);
+    var mvcResult = resultActions.andReturn();
+    return mvcResult.getRequest().isAsyncStarted()
+        ? mockMvc.perform(asyncDispatch(mvcResult)) : resultActions;
   }
 
   protected void mockPutStartFormCephKey(String body) {
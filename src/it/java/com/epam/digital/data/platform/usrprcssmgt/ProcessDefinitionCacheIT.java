@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.epam.digital.data.platform.bpms.api.dto.DdmProcessDefinitionDto;
+import com.epam.digital.data.platform.usrprcssmgt.model.StubRequest;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@TestPropertySource(properties = {"cache.process-definition.enabled=true",
+    "management.endpoints.web.exposure.include=health,processdefinitioncache"})
+class ProcessDefinitionCacheIT extends BaseIT {
+
+  private static final String PROCESS_DEFINITIONS_PATH = "/api/extended/process-definition";
+
+  @Test
+  @SneakyThrows
+  void shouldCacheProcessDefinitionsPerRolesUntilInvalidated() {
+    mockProcessDefinitions(tokenConfig.getValueWithRoleOfficer(), "officerProcessDefinition");
+    mockProcessDefinitions(tokenConfig.getValueWithRoleCitizen(), "citizenProcessDefinition");
+
+    var officerResult = performForObjectAsOfficer(getProcessDefinitions(),
+        DdmProcessDefinitionDto[].class);
+    var cachedOfficerResult = performForObjectAsOfficer(getProcessDefinitions(),
+        DdmProcessDefinitionDto[].class);
+    var citizenResult = performForObjectAsCitizen(getProcessDefinitions(),
+        DdmProcessDefinitionDto[].class);
+
+    assertThat(officerResult).extracting(DdmProcessDefinitionDto::getId)
+        .containsExactly("officerProcessDefinition");
+    assertThat(cachedOfficerResult).extracting(DdmProcessDefinitionDto::getId)
+        .containsExactly("officerProcessDefinition");
+    assertThat(citizenResult).extracting(DdmProcessDefinitionDto::getId)
+        .containsExactly("citizenProcessDefinition");
+    verifyProcessDefinitionsRequested(tokenConfig.getValueWithRoleOfficer(), 1);
+    verifyProcessDefinitionsRequested(tokenConfig.getValueWithRoleCitizen(), 1);
+
+    performWithTokenOfficerRole(delete("/actuator/processdefinitioncache"))
+        .andExpect(status().isNoContent());
+    var reloadedOfficerResult = performForObjectAsOfficer(getProcessDefinitions(),
+        DdmProcessDefinitionDto[].class);
+
+    assertThat(reloadedOfficerResult).extracting(DdmProcessDefinitionDto::getId)
+        .containsExactly("officerProcessDefinition");
+    verifyProcessDefinitionsRequested(tokenConfig.getValueWithRoleOfficer(), 2);
+  }
+
+  private void mockProcessDefinitions(String accessToken, String processDefinitionId) {
+    mockBpmsRequest(StubRequest.builder()
+        .method(HttpMethod.POST)
+        .path(urlPathEqualTo(PROCESS_DEFINITIONS_PATH))
+        .requestHeaders(Map.of(tokenConfig.getName(), List.of(equalTo(accessToken))))
+        .status(200)
+        .responseBody(String.format("[ { \"id\": \"%s\", \"key\": \"%s\", \"name\": \"%s\" } ]",
+            processDefinitionId, processDefinitionId, processDefinitionId))
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .build());
+  }
+
+  private void verifyProcessDefinitionsRequested(String accessToken, int count) {
+    bpmServer.verify(count, postRequestedFor(urlPathEqualTo(PROCESS_DEFINITIONS_PATH))
+        .withHeader(tokenConfig.getName(), equalTo(accessToken)));
+  }
+
+  private static MockHttpServletRequestBuilder getProcessDefinitions() {
+    return get("/api/process-definition").accept(MediaType.APPLICATION_JSON_VALUE);
+  }
+}
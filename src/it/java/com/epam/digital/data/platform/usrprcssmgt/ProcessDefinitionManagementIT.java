@@ -18,6 +18,7 @@ package com.epam.digital.data.platform.usrprcssmgt;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +30,8 @@ import com.epam.digital.data.platform.bpms.api.dto.DdmProcessDefinitionDto;
 import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GroupedProcessDefinitionResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceTicketResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceTicketResponse.Status;
 import com.epam.digital.data.platform.usrprcssmgt.model.StubRequest;
 import java.util.List;
 import java.util.Map;
@@ -191,6 +194,97 @@ class ProcessDefinitionManagementIT extends BaseIT {
     assertThat(result).isEqualTo(expectedResponse);
   }
 
+  @Test
+  void startProcessInstanceWithFormOncePerIdempotencyKey() {
+    var processDefinitionKey = "testKey";
+
+    mockBpmsRequest(StubRequest.builder()
+        .method(HttpMethod.GET)
+        .path(urlPathEqualTo("/api/extended/process-definition/key/testKey"))
+        .status(200)
+        .responseBody("{\"id\":\"processInstanceId\",\"name\":\"name1\",\"formKey\":\"formKey\"}")
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .build());
+    mockBpmsRequest(StubRequest.builder()
+        .method(HttpMethod.POST)
+        .path(urlPathEqualTo("/api/process-definition/key/testKey/start"))
+        .status(200)
+        .responseBody("{ \"id\":\"processInstanceId\", \"definitionId\":\"processDefinitionId\", "
+            + "\"ended\":false }")
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .build());
+
+    var payload = "{\"data\":{\"formData\":\"testData\"},"
+        + "\"signature\":\"eSign\","
+        + "\"x-access-token\":\"" + tokenConfig.getValueWithRoleOfficer() + "\"}";
+    mockPutStartFormCephKey(payload);
+    mockValidationFormData(200, payload);
+    mockGetForm("{\"components\":[{\"key\":\"name\",\"type\":\"textfield\"}]}");
+
+    var request =
+        post(String.format("/api/process-definition/%s/start-with-form", processDefinitionKey))
+            .accept(MediaType.APPLICATION_JSON_VALUE).contentType("application/json")
+            .header("Idempotency-Key", "9f1c2d3e-start-once")
+            .content(payload);
+
+    var first = performForObjectAsOfficer(request, StartProcessInstanceResponse.class);
+    var retried = performForObjectAsOfficer(request, StartProcessInstanceResponse.class);
+
+    assertThat(retried).isEqualTo(first);
+    bpmServer.verify(1, postRequestedFor(
+        urlPathEqualTo("/api/process-definition/key/testKey/start")));
+  }
+
+  @Test
+  void acceptProcessInstanceStartWithForm() throws Exception {
+    var processDefinitionKey = "testKey";
+
+    mockBpmsRequest(StubRequest.builder()
+        .method(HttpMethod.GET)
+        .path(urlPathEqualTo("/api/extended/process-definition/key/testKey"))
+        .status(200)
+        .responseBody("{\"id\":\"processInstanceId\",\"name\":\"name1\",\"formKey\":\"formKey\"}")
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .build());
+    mockBpmsRequest(StubRequest.builder()
+        .method(HttpMethod.POST)
+        .path(urlPathEqualTo("/api/process-definition/key/testKey/start"))
+        .status(200)
+        .responseBody("{ \"id\":\"processInstanceId\", \"definitionId\":\"processDefinitionId\", "
+            + "\"ended\":false }")
+        .responseHeaders(Map.of("Content-Type", List.of("application/json")))
+        .build());
+
+    var payload = "{\"data\":{\"formData\":\"testData\"},"
+        + "\"signature\":\"eSign\","
+        + "\"x-access-token\":\"" + tokenConfig.getValueWithRoleOfficer() + "\"}";
+    mockPutStartFormCephKey(payload);
+    mockValidationFormData(200, payload);
+    mockGetForm("{\"components\":[{\"key\":\"name\",\"type\":\"textfield\"}]}");
+
+    var request =
+        post(String.format("/api/process-definition/%s/start-with-form/async",
+            processDefinitionKey))
+            .accept(MediaType.APPLICATION_JSON_VALUE).contentType("application/json")
+            .content(payload);
+
+    var ticket = performForObjectAsOfficerAndExpect(request,
+        StartProcessInstanceTicketResponse.class, status().isAccepted());
+    assertThat(ticket.getStatus()).isEqualTo(Status.ACCEPTED);
+
+    var ticketRequest = get("/api/process-definition/start-ticket/" + ticket.getTicketId())
+        .accept(MediaType.APPLICATION_JSON_VALUE);
+    var result = performForObjectAsOfficer(ticketRequest,
+        StartProcessInstanceTicketResponse.class);
+    for (var attempt = 0; attempt < 50 && result.getStatus() == Status.ACCEPTED; attempt++) {
+      Thread.sleep(100);
+      result = performForObjectAsOfficer(ticketRequest, StartProcessInstanceTicketResponse.class);
+    }
+
+    assertThat(result.getStatus()).isEqualTo(Status.STARTED);
+    assertThat(result.getResult().getId()).isEqualTo("processInstanceId");
+  }
+
   @Test
   void failedStartProcessInstanceWithForm() throws Exception {
     var processDefinitionKey = "testKey";
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.usrprcssmgt.load.LoadTestProperties;
+import com.epam.digital.data.platform.usrprcssmgt.load.LoadTestResults;
+import com.epam.digital.data.platform.usrprcssmgt.load.LoadTestScenario;
+import com.epam.digital.data.platform.usrprcssmgt.load.LoadTestStubs;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the {@link LoadTestProperties#getMix() traffic mix} against the started service over http,
+ * BPMS and form validation service are stubbed with injected latency, form data is stored in the
+ * embedded redis. Process definition and count caches are enabled as in the deployed service.
+ * Disabled unless {@code -Dload-test.enabled=true} is set, the report is logged and written to
+ * {@link LoadTestProperties#getReportFile()}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "load-test.enabled", matches = "true")
+@TestPropertySource(properties = {"cache.process-definition.enabled=true",
+    "cache.count.enabled=true"})
+class ProcessManagementLoadIT extends BaseIT {
+
+  @LocalServerPort
+  private int port;
+  @Value("${server.servlet.context-path}")
+  private String contextPath;
+  @Value("${virtual-threads.enabled}")
+  private boolean virtualThreadsEnabled;
+  @Autowired
+  private LoadTestProperties loadTestProperties;
+
+  @AfterEach
+  void resetFormProvider() {
+    formProviderServer.resetAll();
+  }
+
+  @Test
+  void shouldServeTrafficMixWithinErrorRate() throws Exception {
+    LoadTestStubs.register(bpmServer, formProviderServer, loadTestProperties);
+    var mix = trafficMix();
+    var httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    var results = new LoadTestResults();
+
+    var concurrency = loadTestProperties.getConcurrency();
+    var rate = loadTestProperties.getRate();
+    var interval = rate > 0 ? TimeUnit.SECONDS.toNanos(concurrency) / rate : 0L;
+    var startTime = System.nanoTime();
+    var measurementStartTime = startTime + loadTestProperties.getWarmUp().toNanos();
+    var endTime = measurementStartTime + loadTestProperties.getDuration().toNanos();
+
+    var clients = Executors.newFixedThreadPool(concurrency);
+    for (var i = 0; i < concurrency; i++) {
+      var firstScheduledTime = startTime + interval * i / concurrency;
+      clients.execute(() -> runClient(httpClient, mix, results, firstScheduledTime, interval,
+          endTime));
+    }
+    parkUntil(measurementStartTime);
+    results.reset();
+    parkUntil(endTime);
+    clients.shutdown();
+    assertThat(clients.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+    var report = results.report(loadTestProperties.getDuration());
+    var summary = String.format("concurrency=%d, rate=%d req/s, duration=%s, bpms latency=%s, "
+            + "form validation latency=%s, virtual threads=%s%n%s", concurrency, rate,
+        loadTestProperties.getDuration(), loadTestProperties.getBpmsLatency(),
+        loadTestProperties.getFormValidationLatency(), virtualThreadsEnabled, report.getTable());
+    log.info("Load test results: {}{}", System.lineSeparator(), summary);
+    var reportFile = Path.of(loadTestProperties.getReportFile());
+    Files.createDirectories(reportFile.toAbsolutePath().getParent());
+    Files.writeString(reportFile, summary);
+
+    assertThat(report.getErrorRate()).isLessThanOrEqualTo(loadTestProperties.getMaxErrorRate());
+  }
+
+  private void runClient(HttpClient httpClient, NavigableMap<Integer, LoadTestScenario> mix,
+      LoadTestResults results, long firstScheduledTime, long interval, long endTime) {
+    var baseUri = "http://localhost:" + port + contextPath;
+    var totalWeight = mix.lastKey();
+    var scheduledTime = firstScheduledTime;
+    while (scheduledTime < endTime && !Thread.currentThread().isInterrupted()) {
+      if (interval > 0) {
+        parkUntil(scheduledTime);
+      } else {
+        scheduledTime = System.nanoTime();
+      }
+      var scenario = mix.higherEntry(ThreadLocalRandom.current().nextInt(totalWeight)).getValue();
+      var request = scenario.request(baseUri, tokenConfig.getName(),
+          tokenConfig.getValueWithRoleOfficer());
+      try {
+        var response = httpClient.send(request, BodyHandlers.discarding());
+        if (response.statusCode() < 400) {
+          results.recordResponse(scenario, System.nanoTime() - scheduledTime);
+        } else {
+          results.recordError(scenario);
+        }
+      } catch (IOException ex) {
+        results.recordError(scenario);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      scheduledTime += interval;
+    }
+  }
+
+  private NavigableMap<Integer, LoadTestScenario> trafficMix() {
+    var mix = new TreeMap<Integer, LoadTestScenario>();
+    var totalWeight = 0;
+    for (var entry : loadTestProperties.getMix().entrySet()) {
+      if (entry.getValue() > 0) {
+        totalWeight += entry.getValue();
+        mix.put(totalWeight, entry.getKey());
+      }
+    }
+    assertThat(mix).as("load-test.mix").isNotEmpty();
+    return mix;
+  }
+
+  private static void parkUntil(long nanoTime) {
+    for (var delay = nanoTime - System.nanoTime(); delay > 0;
+        delay = nanoTime - System.nanoTime()) {
+      LockSupport.parkNanos(delay);
+    }
+  }
+}
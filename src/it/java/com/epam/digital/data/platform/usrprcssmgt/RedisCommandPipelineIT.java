@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataStoragePipelineProperties;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.RedisIdempotencyStore;
+import com.epam.digital.data.platform.usrprcssmgt.storage.RedisCommandPipeline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class RedisCommandPipelineIT extends BaseIT {
+
+  private static final int CONCURRENCY = 8;
+
+  @Autowired
+  private RedisConnectionFactory redisConnectionFactory;
+
+  private SimpleMeterRegistry meterRegistry;
+  private RedisCommandPipeline redisCommandPipeline;
+  private RedisIdempotencyStore idempotencyStore;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new FormDataStoragePipelineProperties();
+    properties.setEnabled(true);
+    properties.setMaxBatchSize(CONCURRENCY);
+    properties.setMaxDelay(Duration.ofMillis(50));
+    meterRegistry = new SimpleMeterRegistry();
+    redisCommandPipeline = new RedisCommandPipeline(
+        new StringRedisTemplate(redisConnectionFactory), properties, meterRegistry);
+    idempotencyStore = new RedisIdempotencyStore(redisCommandPipeline);
+  }
+
+  @AfterEach
+  void destroyPipeline() throws InterruptedException {
+    redisCommandPipeline.destroy();
+  }
+
+  @Test
+  void shouldSendConcurrentCommandsInOnePipeline() throws Exception {
+    var key = UUID.randomUUID().toString();
+    var executor = Executors.newFixedThreadPool(CONCURRENCY);
+    var start = new CountDownLatch(1);
+    var puts = new ArrayList<CompletableFuture<String>>();
+    try {
+      for (var i = 0; i < CONCURRENCY; i++) {
+        var value = "value" + i;
+        puts.add(CompletableFuture.supplyAsync(() -> {
+          await(start);
+          return idempotencyStore.putIfAbsent(key, value, Duration.ofMinutes(1));
+        }, executor));
+      }
+      start.countDown();
+      CompletableFuture.allOf(puts.toArray(new CompletableFuture[0])).join();
+    } finally {
+      executor.shutdown();
+    }
+
+    var results = puts.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    assertThat(results.stream().filter(Objects::isNull)).hasSize(1);
+    var storedValue = idempotencyStore.get(key);
+    assertThat(results.stream().filter(Objects::nonNull)).allMatch(storedValue::equals);
+    var pipelineDepth = meterRegistry.get(RedisCommandPipeline.PIPELINE_DEPTH_METRIC).summary();
+    assertThat(pipelineDepth.max()).isGreaterThan(1);
+    assertThat(meterRegistry.get(RedisCommandPipeline.PIPELINE_FALLBACK_METRIC).counter().count())
+        .isZero();
+  }
+
+  @Test
+  void shouldReturnReadResultsFromPipeline() {
+    var key = UUID.randomUUID().toString();
+
+    idempotencyStore.put(key, "value", Duration.ofMinutes(1));
+
+    assertThat(idempotencyStore.get(key)).isEqualTo("value");
+    assertThat(idempotencyStore.putIfAbsent(key, "other", Duration.ofMinutes(1)))
+        .isEqualTo("value");
+    idempotencyStore.remove(key);
+    assertThat(idempotencyStore.get(key)).isNull();
+  }
+
+  @Test
+  void shouldExecuteCommandsDirectlyAfterPipelineIsStopped() throws InterruptedException {
+    var key = UUID.randomUUID().toString();
+    redisCommandPipeline.destroy();
+
+    idempotencyStore.put(key, "value", Duration.ofMinutes(1));
+
+    assertThat(idempotencyStore.get(key)).isEqualTo("value");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
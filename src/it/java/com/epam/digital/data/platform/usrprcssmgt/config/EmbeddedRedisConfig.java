@@ -19,7 +19,6 @@ package com.epam.digital.data.platform.usrprcssmgt.config;
 import com.google.common.net.HostAndPort;
 import java.util.List;
 import javax.annotation.PostConstruct;
-import javax.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -29,7 +28,9 @@ import redis.embedded.RedisCluster;
 @ConditionalOnProperty(prefix = "storage.form-data", name = "type", havingValue = "redis")
 public class EmbeddedRedisConfig {
 
-  private RedisCluster redisCluster;
+  // the cluster listens on the fixed sentinel port, so it's shared by all the test application
+  // contexts and stopped with the JVM
+  private static RedisCluster redisCluster;
 
   @Value("${storage.backend.redis.sentinel.master}")
   private String master;
@@ -38,6 +39,9 @@ public class EmbeddedRedisConfig {
 
   @PostConstruct
   public void postConstruct() {
+      if (redisCluster != null) {
+        return;
+      }
       var hostAndPort = HostAndPort.fromString(nodes);
       redisCluster = RedisCluster.builder()
           .sentinelPorts(List.of(hostAndPort.getPort()))
@@ -48,10 +52,6 @@ public class EmbeddedRedisConfig {
           .build();
 
       redisCluster.start();
-  }
-
-  @PreDestroy
-  public void preDestroy() {
-    redisCluster.stop();
+      Runtime.getRuntime().addShutdownHook(new Thread(redisCluster::stop));
   }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Load test settings, every property could be overridden with a system property, e.g.
+ * {@code -Dload-test.duration=5m}.
+ */
+@Data
+@Component
+@ConfigurationProperties("load-test")
+public class LoadTestProperties {
+
+  /**
+   * Measured run duration, the results of the warm-up run before it are dropped.
+   */
+  private Duration duration = Duration.ofSeconds(60);
+  private Duration warmUp = Duration.ofSeconds(15);
+  /**
+   * Number of client threads that send requests.
+   */
+  private int concurrency = 32;
+  /**
+   * Total rate of requests per second, 0 to send the next request as soon as the previous one is
+   * responded. With a fixed rate latency is measured from the time the request was scheduled, so a
+   * stalled service isn't hidden by the clients waiting for it.
+   */
+  private int rate = 0;
+  /**
+   * Share of failed requests above which the load test fails.
+   */
+  private double maxErrorRate = 0.01;
+  private String reportFile = "target/load-test/report.txt";
+  /**
+   * Relative weights of the scenarios in the traffic mix.
+   */
+  private Map<LoadTestScenario, Integer> mix = new EnumMap<>(LoadTestScenario.class);
+
+  private int processDefinitionCount = 100;
+  private int processInstanceCount = 10;
+
+  private Latency bpmsLatency = new Latency();
+  private Latency formValidationLatency = new Latency();
+
+  /**
+   * Log-normal latency injected into the stub responses, most responses are close to the median
+   * while a few ones of the long tail are several times slower.
+   */
+  @Data
+  public static class Latency {
+
+    private Duration median = Duration.ZERO;
+    private double sigma = 0.5;
+  }
+}
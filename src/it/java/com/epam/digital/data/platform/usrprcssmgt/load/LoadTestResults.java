@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies and errors of the load test requests by scenario. Latencies are kept in HdrHistogram
+ * with microsecond precision, so the tail percentiles aren't approximated.
+ */
+public class LoadTestResults {
+
+  private static final String ROW_FORMAT = "%-28s %10s %8s %12s %10s %10s %10s %10s%n";
+
+  private final Map<LoadTestScenario, Recorder> latencies = new EnumMap<>(LoadTestScenario.class);
+  private final Map<LoadTestScenario, LongAdder> errors = new EnumMap<>(LoadTestScenario.class);
+
+  public LoadTestResults() {
+    for (var scenario : LoadTestScenario.values()) {
+      latencies.put(scenario, new Recorder(3));
+      errors.put(scenario, new LongAdder());
+    }
+  }
+
+  public void recordResponse(LoadTestScenario scenario, long latencyNanos) {
+    latencies.get(scenario).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+  }
+
+  public void recordError(LoadTestScenario scenario) {
+    errors.get(scenario).increment();
+  }
+
+  /**
+   * Dropping the results recorded so far, e.g. during warm-up
+   */
+  public void reset() {
+    latencies.values().forEach(Recorder::reset);
+    errors.values().forEach(LongAdder::reset);
+  }
+
+  /**
+   * Building the report of the results recorded since the last reset
+   *
+   * @param elapsed the time the results were recorded for
+   * @return the report with throughput and latency percentiles by scenario and in total
+   */
+  public Report report(Duration elapsed) {
+    var seconds = elapsed.toMillis() / 1000.0;
+    var total = new Histogram(3);
+    var totalErrors = 0L;
+    var table = new StringBuilder(String.format(ROW_FORMAT, "scenario", "requests", "errors",
+        "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+    for (var scenario : LoadTestScenario.values()) {
+      var histogram = latencies.get(scenario).getIntervalHistogram();
+      var scenarioErrors = errors.get(scenario).sum();
+      if (histogram.getTotalCount() + scenarioErrors > 0) {
+        table.append(row(scenario.name(), histogram, scenarioErrors, seconds));
+      }
+      total.add(histogram);
+      totalErrors += scenarioErrors;
+    }
+    table.append(row("TOTAL", total, totalErrors, seconds));
+    var requests = total.getTotalCount() + totalErrors;
+    return new Report(table.toString(), requests == 0 ? 0 : (double) totalErrors / requests);
+  }
+
+  private String row(String name, Histogram histogram, long errors, double seconds) {
+    var requests = histogram.getTotalCount() + errors;
+    return String.format(ROW_FORMAT, name, requests, errors,
+        String.format("%.1f", requests / seconds), millis(histogram.getValueAtPercentile(50)),
+        millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()));
+  }
+
+  private String millis(long micros) {
+    return String.format("%.2f", micros / 1000.0);
+  }
+
+  @Value
+  public static class Report {
+
+    String table;
+    double errorRate;
+  }
+}
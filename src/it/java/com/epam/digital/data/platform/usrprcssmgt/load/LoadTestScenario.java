@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Requests of the load test traffic mix.
+ */
+@RequiredArgsConstructor
+public enum LoadTestScenario {
+
+  PROCESS_DEFINITIONS("GET", "/api/process-definition", null),
+  GROUPED_PROCESS_DEFINITIONS("GET", "/api/grouped-process-definition", null),
+  PROCESS_DEFINITION_COUNT("GET", "/api/process-definition/count", null),
+  PROCESS_INSTANCE_COUNT("GET", "/api/process-instance/count", null),
+  OFFICER_PROCESS_INSTANCES("GET", "/api/officer/process-instance?maxResults=10", null),
+  START_WITH_FORM("POST",
+      "/api/process-definition/" + LoadTestStubs.PROCESS_DEFINITION_KEY + "/start-with-form",
+      "{\"data\":{\"formData\":\"testData\"},\"signature\":\"eSign\"}");
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final String method;
+  private final String path;
+  private final String body;
+
+  /**
+   * Creating the scenario request
+   *
+   * @param baseUri     the service url with context path
+   * @param tokenHeader the access token header name
+   * @param token       the access token
+   * @return the request
+   */
+  public HttpRequest request(String baseUri, String tokenHeader, String token) {
+    var bodyPublisher = body == null ? BodyPublishers.noBody() : BodyPublishers.ofString(body);
+    return HttpRequest.newBuilder(URI.create(baseUri + path))
+        .method(method, bodyPublisher)
+        .header(tokenHeader, token)
+        .header("Accept", "application/json")
+        .header("Content-Type", "application/json")
+        .timeout(REQUEST_TIMEOUT)
+        .build();
+  }
+}
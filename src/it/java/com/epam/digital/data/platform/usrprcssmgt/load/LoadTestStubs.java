@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+
+import com.epam.digital.data.platform.usrprcssmgt.load.LoadTestProperties.Latency;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Stubs of BPMS and form validation service that respond to the load test scenarios with the
+ * configured latency.
+ */
+public final class LoadTestStubs {
+
+  public static final String PROCESS_DEFINITION_KEY = "load-test-process";
+  private static final String FORM_KEY = "load-test-form";
+
+  /**
+   * Registering the stubs
+   *
+   * @param bpmsServer         BPMS stub server
+   * @param formProviderServer form validation service stub server
+   * @param properties         load test properties
+   */
+  public static void register(WireMockServer bpmsServer, WireMockServer formProviderServer,
+      LoadTestProperties properties) {
+    var bpmsLatency = properties.getBpmsLatency();
+    bpmsServer.stubFor(post(urlPathEqualTo("/api/extended/process-definition"))
+        .willReturn(withLatency(okJson(processDefinitions(properties)), bpmsLatency)));
+    bpmsServer.stubFor(get(urlPathEqualTo("/api/process-definition/count"))
+        .willReturn(withLatency(okJson(count(properties.getProcessDefinitionCount())),
+            bpmsLatency)));
+    bpmsServer.stubFor(get(urlPathMatching("/api/extended/process-definition/key/.+"))
+        .willReturn(withLatency(okJson(processDefinition(PROCESS_DEFINITION_KEY)), bpmsLatency)));
+    bpmsServer.stubFor(post(urlPathMatching("/api/process-definition/key/.+/start"))
+        .willReturn(withLatency(okJson("{\"id\":\"processInstanceId\","
+            + "\"definitionId\":\"processDefinitionId\",\"ended\":false}"), bpmsLatency)));
+    bpmsServer.stubFor(get(urlPathEqualTo("/api/process-instance/count"))
+        .willReturn(withLatency(okJson(count(properties.getProcessInstanceCount())),
+            bpmsLatency)));
+    bpmsServer.stubFor(post(urlPathEqualTo("/api/extended/process-instance"))
+        .willReturn(withLatency(okJson(processInstances(properties)), bpmsLatency)));
+
+    var formValidationLatency = properties.getFormValidationLatency();
+    formProviderServer.stubFor(get(urlPathEqualTo("/" + FORM_KEY))
+        .willReturn(withLatency(okJson("{\"components\":[{\"key\":\"formData\","
+            + "\"type\":\"textfield\"}]}"), formValidationLatency)));
+    formProviderServer.stubFor(
+        post(urlPathEqualTo("/api/form-submissions/" + FORM_KEY + "/validate"))
+            .willReturn(withLatency(okJson("{\"data\":{\"formData\":\"testData\"}}"),
+                formValidationLatency)));
+  }
+
+  private static ResponseDefinitionBuilder withLatency(ResponseDefinitionBuilder response,
+      Latency latency) {
+    var medianMillis = latency.getMedian().toMillis();
+    return medianMillis > 0
+        ? response.withLogNormalRandomDelay(medianMillis, latency.getSigma()) : response;
+  }
+
+  private static String processDefinitions(LoadTestProperties properties) {
+    return IntStream.range(0, properties.getProcessDefinitionCount())
+        .mapToObj(i -> processDefinition(PROCESS_DEFINITION_KEY + "-" + i))
+        .collect(Collectors.joining(",", "[", "]"));
+  }
+
+  private static String processDefinition(String key) {
+    return String.format("{\"id\":\"%1$s-id\",\"key\":\"%1$s\",\"name\":\"Process %1$s\","
+        + "\"formKey\":\"%2$s\"}", key, FORM_KEY);
+  }
+
+  private static String processInstances(LoadTestProperties properties) {
+    return IntStream.range(0, properties.getProcessInstanceCount())
+        .mapToObj(i -> String.format("{\"id\":\"process-instance-%1$d\","
+            + "\"processDefinitionName\":\"Process %1$d\","
+            + "\"startTime\":\"2020-12-01T12:00:00.000Z\",\"state\":\"ACTIVE\"}", i))
+        .collect(Collectors.joining(",", "[", "]"));
+  }
+
+  private static String count(int count) {
+    return "{\"count\":" + count + "}";
+  }
+
+  private LoadTestStubs() {
+  }
+}
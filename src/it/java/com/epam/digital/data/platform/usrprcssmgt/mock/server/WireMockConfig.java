@@ -29,21 +29,21 @@ import org.springframework.context.annotation.Configuration;
 public class WireMockConfig {
 
   @Qualifier("bpms")
-  @Bean(destroyMethod = "stop")
+  @Bean(destroyMethod = "")
   public WireMockServer bpmsWireMock(@Value("${bpms.url}") String urlStr)
       throws MalformedURLException {
     return WireMockUtil.createAndStartMockServerForUrl(urlStr);
   }
 
   @Qualifier("ceph")
-  @Bean(destroyMethod = "stop")
+  @Bean(destroyMethod = "")
   public WireMockServer cephWireMock(@Value("${storage.backend.ceph.http-endpoint}") String urlStr)
       throws MalformedURLException {
     return WireMockUtil.createAndStartMockServerForUrl(urlStr);
   }
 
   @Qualifier("form-provider")
-  @Bean(destroyMethod = "stop")
+  @Bean(destroyMethod = "")
   public WireMockServer formProviderWireMock(@Value("${form-submission-validation.url}") String urlStr)
       throws MalformedURLException {
     return WireMockUtil.createAndStartMockServerForUrl(urlStr);
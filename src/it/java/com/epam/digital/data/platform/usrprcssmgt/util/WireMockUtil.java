@@ -22,16 +22,25 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class WireMockUtil {
 
+  // servers listen on the fixed ports of the test configuration, so they are shared by all the
+  // test application contexts and stopped with the JVM
+  private static final Map<Integer, WireMockServer> SERVERS = new ConcurrentHashMap<>();
+
   public static WireMockServer createAndStartMockServerForUrl(String urlStr)
       throws MalformedURLException {
     URL url = new URL(urlStr);
-    WireMockServer wireMockServer = new WireMockServer(wireMockConfig().port(url.getPort()));
     WireMock.configureFor(url.getHost(), url.getPort());
-    wireMockServer.start();
-    return wireMockServer;
+    return SERVERS.computeIfAbsent(url.getPort(), port -> {
+      WireMockServer wireMockServer = new WireMockServer(wireMockConfig().port(port));
+      wireMockServer.start();
+      Runtime.getRuntime().addShutdownHook(new Thread(wireMockServer::stop));
+      return wireMockServer;
+    });
   }
 
   private WireMockUtil() {
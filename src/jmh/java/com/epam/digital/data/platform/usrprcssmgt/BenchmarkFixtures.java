@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt;
+
+import com.epam.digital.data.platform.bpms.api.dto.DdmProcessDefinitionDto;
+import com.epam.digital.data.platform.bpms.api.dto.DdmProcessInstanceDto;
+import com.epam.digital.data.platform.bpms.api.dto.enums.DdmProcessInstanceStatus;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.epam.digital.data.platform.starter.localization.MessageTitle;
+import com.epam.digital.data.platform.usrprcssmgt.config.GeneralConfig;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpGroupConfigurationProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpGroupConfigurationProperties.GroupedProcessDefinition;
+import com.epam.digital.data.platform.usrprcssmgt.i18n.ProcessInstanceStatusMessageTitle;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Test data of the benchmarks, sized like the data of a big registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkFixtures {
+
+  /**
+   * @return object mapper configured as the application one
+   */
+  public static ObjectMapper objectMapper() {
+    var jacksonBuilder = Jackson2ObjectMapperBuilder.json();
+    new GeneralConfig().jackson2ObjectMapperBuilderCustomizer().customize(jacksonBuilder);
+    return jacksonBuilder.build();
+  }
+
+  /**
+   * @return message resolver that resolves process instance status titles from a {@link
+   * StaticMessageSource} with the current locale, as it's done by the localization starter
+   */
+  public static MessageResolver messageResolver() {
+    var messageSource = new StaticMessageSource();
+    Stream.of(ProcessInstanceStatusMessageTitle.values()).forEach(title -> messageSource
+        .addMessage(title.getTitleKey(), LocaleContextHolder.getLocale(), title.name()));
+    return (MessageResolver) Proxy.newProxyInstance(BenchmarkFixtures.class.getClassLoader(),
+        new Class<?>[]{MessageResolver.class},
+        (proxy, method, args) -> messageSource.getMessage(((MessageTitle) args[0]).getTitleKey(),
+            null, LocaleContextHolder.getLocale()));
+  }
+
+  public static List<DdmProcessInstanceDto> processInstances(int count) {
+    var statuses = DdmProcessInstanceStatus.values();
+    return IntStream.range(0, count)
+        .mapToObj(i -> DdmProcessInstanceDto.builder()
+            .id(UUID.randomUUID().toString())
+            .processDefinitionId("business-process-" + i % 100 + ":1:" + UUID.randomUUID())
+            .processDefinitionName("Business process name " + i % 100)
+            .startTime(LocalDateTime.now())
+            .state(statuses[i % statuses.length])
+            .build())
+        .collect(Collectors.toUnmodifiableList());
+  }
+
+  public static List<DdmProcessDefinitionDto> processDefinitionDtos(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> DdmProcessDefinitionDto.builder()
+            .id("business-process-" + i + ":1:" + UUID.randomUUID())
+            .key("business-process-" + i)
+            .name("Business process name " + i)
+            .formKey("start-form-" + i)
+            .build())
+        .collect(Collectors.toUnmodifiableList());
+  }
+
+  public static List<ProcessDefinitionResponse> processDefinitions(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> ProcessDefinitionResponse.builder()
+            .id("business-process-" + i + ":1:" + UUID.randomUUID())
+            .key("business-process-" + i)
+            .name("Business process name " + i)
+            .formKey("start-form-" + i)
+            .build())
+        .collect(Collectors.toUnmodifiableList());
+  }
+
+  /**
+   * Builds bp-grouping configuration for process definitions from {@link #processDefinitions}.
+   * The first 80% of definitions are split between the groups, next 10% are configured as
+   * ungrouped and the rest is not mentioned in the configuration.
+   *
+   * @param groupCount      number of groups
+   * @param definitionCount number of process definitions
+   * @return bp-grouping configuration
+   */
+  public static BpGroupConfigurationProperties bpGroupConfiguration(int groupCount,
+      int definitionCount) {
+    var groupedCount = definitionCount * 8 / 10;
+    var ungroupedCount = definitionCount / 10;
+    var groups = IntStream.range(0, groupCount)
+        .mapToObj(group -> {
+          var groupedProcessDefinition = new GroupedProcessDefinition();
+          groupedProcessDefinition.setName("Group name " + group);
+          groupedProcessDefinition.setProcessDefinitions(IntStream.range(0, groupedCount)
+              .filter(i -> i % groupCount == group)
+              .mapToObj(i -> "business-process-" + i)
+              .collect(Collectors.toList()));
+          return groupedProcessDefinition;
+        })
+        .collect(Collectors.toList());
+    var properties = new BpGroupConfigurationProperties();
+    properties.setGroups(groups);
+    properties.setUngrouped(IntStream.range(groupedCount, groupedCount + ungroupedCount)
+        .mapToObj(i -> "business-process-" + i)
+        .collect(Collectors.toList()));
+    return properties;
+  }
+}
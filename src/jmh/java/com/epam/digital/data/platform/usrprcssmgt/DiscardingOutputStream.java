@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt;
+
+import java.io.OutputStream;
+
+/**
+ * Servlet output stream stand-in that is not closed by Jackson and does not buffer the content.
+ */
+public class DiscardingOutputStream extends OutputStream {
+
+  @Override
+  public void write(int b) {
+    // discarded
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    // discarded
+  }
+}
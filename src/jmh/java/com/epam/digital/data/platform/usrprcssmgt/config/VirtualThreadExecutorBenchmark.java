@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties.ExecutorProperties;
+import com.epam.digital.data.platform.usrprcssmgt.util.VirtualThreads;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to run a burst of process start steps that block on a downstream call, as the steps of
+ * concurrent start-with-form requests do. The default process start pool runs at most
+ * {@code max-pool-size} steps at once, the rest wait in the queue or on the request thread, the
+ * virtual thread executor runs all of them at once. Requires Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadExecutorBenchmark {
+
+  @Param({"50", "200"})
+  private int concurrentSteps;
+  @Param({"20"})
+  private int downstreamLatencyMillis;
+
+  private ExecutorService threadPoolExecutor;
+  private ExecutorService virtualThreadExecutor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    threadPoolExecutor = ProcessStartConfig.newThreadPoolExecutor(new ExecutorProperties());
+    virtualThreadExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor("benchmark-virtual-");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    threadPoolExecutor.shutdown();
+    virtualThreadExecutor.shutdown();
+  }
+
+  @Benchmark
+  public void threadPool() {
+    runSteps(threadPoolExecutor);
+  }
+
+  @Benchmark
+  public void virtualThreads() {
+    runSteps(virtualThreadExecutor);
+  }
+
+  private void runSteps(ExecutorService executor) {
+    var steps = new ArrayList<CompletableFuture<Void>>(concurrentSteps);
+    for (var i = 0; i < concurrentSteps; i++) {
+      steps.add(CompletableFuture.runAsync(this::callDownstream, executor));
+    }
+    CompletableFuture.allOf(steps.toArray(CompletableFuture[]::new)).join();
+  }
+
+  private void callDownstream() {
+    try {
+      Thread.sleep(downstreamLatencyMillis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
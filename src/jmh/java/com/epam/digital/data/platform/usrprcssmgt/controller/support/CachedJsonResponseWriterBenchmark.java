@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.controller.support;
+
+import com.epam.digital.data.platform.usrprcssmgt.BenchmarkFixtures;
+import com.epam.digital.data.platform.usrprcssmgt.DiscardingOutputStream;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessDefinitionCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares writing of the process definition list serialized by Jackson per request (as it's done
+ * by the message converter) with writing of the cached bytes. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm} to get bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CachedJsonResponseWriterBenchmark {
+
+  @Param({"50", "500"})
+  private int definitionCount;
+
+  private final OutputStream outputStream = new DiscardingOutputStream();
+  private final GetProcessDefinitionsParams params = new GetProcessDefinitionsParams();
+
+  private ObjectMapper objectMapper;
+  private CachedJsonResponseWriter cachedJsonResponseWriter;
+  private List<ProcessDefinitionResponse> processDefinitions;
+
+  @Setup
+  public void setup() {
+    objectMapper = BenchmarkFixtures.objectMapper();
+    cachedJsonResponseWriter = new CachedJsonResponseWriter(objectMapper,
+        new ProcessDefinitionCacheProperties());
+    processDefinitions = BenchmarkFixtures.processDefinitions(definitionCount);
+  }
+
+  @Benchmark
+  public void serializePerRequest() throws IOException {
+    objectMapper.writeValue(outputStream, processDefinitions);
+  }
+
+  @Benchmark
+  public void writeCachedBytes() throws IOException {
+    var cachedResponse = cachedJsonResponseWriter.getCachedResponse("process-definitions", params,
+        processDefinitions);
+    outputStream.write(cachedResponse.getBody());
+  }
+}
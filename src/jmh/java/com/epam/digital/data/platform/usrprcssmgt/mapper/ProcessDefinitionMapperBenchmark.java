@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.mapper;
+
+import com.epam.digital.data.platform.bpms.api.dto.DdmProcessDefinitionDto;
+import com.epam.digital.data.platform.usrprcssmgt.BenchmarkFixtures;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping of the BPMS process definition list, done on every catalog cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessDefinitionMapperBenchmark {
+
+  @Param({"500", "5000"})
+  private int definitionCount;
+
+  private final ProcessDefinitionMapper processDefinitionMapper = Mappers.getMapper(
+      ProcessDefinitionMapper.class);
+  private List<DdmProcessDefinitionDto> processDefinitions;
+
+  @Setup
+  public void setup() {
+    processDefinitions = BenchmarkFixtures.processDefinitionDtos(definitionCount);
+  }
+
+  @Benchmark
+  public List<ProcessDefinitionResponse> mapProcessDefinitions() {
+    return processDefinitionMapper.toProcessDefinitionResponseList(processDefinitions);
+  }
+}
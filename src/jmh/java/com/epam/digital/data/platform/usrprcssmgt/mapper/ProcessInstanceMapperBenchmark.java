@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.mapper;
+
+import com.epam.digital.data.platform.bpms.api.dto.DdmProcessInstanceDto;
+import com.epam.digital.data.platform.bpms.api.dto.enums.DdmProcessInstanceStatus;
+import com.epam.digital.data.platform.starter.localization.MessageResolver;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.BenchmarkFixtures;
+import com.epam.digital.data.platform.usrprcssmgt.i18n.ProcessInstanceStatusMessageTitle;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Mapping of a process instance page for both roles. Status title mapping is compared with the
+ * previous implementation that scanned {@link ProcessInstanceStatusMessageTitle} values and
+ * resolved the message for every process instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessInstanceMapperBenchmark {
+
+  @Param({"1000"})
+  private int processInstanceCount;
+  @Param({"OFFICER", "CITIZEN"})
+  private SystemRole systemRole;
+
+  private MessageResolver messageResolver;
+  private ProcessInstanceMapper processInstanceMapper;
+  private List<DdmProcessInstanceDto> processInstances;
+
+  @Setup
+  public void setup() {
+    LocaleContextHolder.setDefaultLocale(Locale.forLanguageTag("uk"));
+    messageResolver = BenchmarkFixtures.messageResolver();
+    processInstanceMapper = Mappers.getMapper(ProcessInstanceMapper.class);
+    ReflectionTestUtils.setField(processInstanceMapper, "messageResolver", messageResolver);
+    processInstances = BenchmarkFixtures.processInstances(processInstanceCount);
+  }
+
+  @Benchmark
+  public void scanStatusTitles(Blackhole blackhole) {
+    for (var processInstance : processInstances) {
+      var code = scanStatusTitle(processInstance.getState(), systemRole);
+      blackhole.consume(Objects.isNull(code) ? null : messageResolver.getMessage(code));
+    }
+  }
+
+  @Benchmark
+  public void lookUpStatusTitles(Blackhole blackhole) {
+    for (var processInstance : processInstances) {
+      blackhole.consume(
+          processInstanceMapper.toStatusTitle(processInstance.getState(), systemRole));
+    }
+  }
+
+  @Benchmark
+  public List<?> mapProcessInstancePage() {
+    return processInstanceMapper.toProcessInstanceResponses(processInstances, systemRole);
+  }
+
+  private static ProcessInstanceStatusMessageTitle scanStatusTitle(
+      DdmProcessInstanceStatus processInstanceStatus, SystemRole systemRole) {
+    return Stream.of(ProcessInstanceStatusMessageTitle.values())
+        .filter(message -> message.getProcessInstanceStatus().equals(processInstanceStatus))
+        .filter(message -> Objects.isNull(message.getSystemRole())
+            || message.getSystemRole().equals(systemRole))
+        .reduce((messageTitle, messageTitle2) -> {
+          throw new IllegalStateException("More than 1 message found");
+        })
+        .orElse(null);
+  }
+}
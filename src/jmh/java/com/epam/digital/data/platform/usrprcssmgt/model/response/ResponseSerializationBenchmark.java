@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.model.response;
+
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.BenchmarkFixtures;
+import com.epam.digital.data.platform.usrprcssmgt.DiscardingOutputStream;
+import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessInstanceMapper;
+import com.epam.digital.data.platform.usrprcssmgt.model.ProcessDefinitionGroup;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Jackson serialization of the biggest responses: a page of 1000 process instances, a catalog of
+ * 5000 process definitions and the same catalog grouped into 100 groups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+  private final OutputStream outputStream = new DiscardingOutputStream();
+
+  private ObjectMapper objectMapper;
+  private List<GetProcessInstanceResponse> processInstances;
+  private List<ProcessDefinitionResponse> processDefinitions;
+  private GroupedProcessDefinitionResponse groupedProcessDefinitions;
+
+  @Setup
+  public void setup() {
+    objectMapper = BenchmarkFixtures.objectMapper();
+
+    var processInstanceMapper = Mappers.getMapper(ProcessInstanceMapper.class);
+    ReflectionTestUtils.setField(processInstanceMapper, "messageResolver",
+        BenchmarkFixtures.messageResolver());
+    processInstances = processInstanceMapper.toProcessInstanceResponses(
+        BenchmarkFixtures.processInstances(1000), SystemRole.OFFICER);
+
+    processDefinitions = BenchmarkFixtures.processDefinitions(5000);
+    var definitionsByKey = processDefinitions.stream()
+        .collect(Collectors.toMap(ProcessDefinitionResponse::getKey, d -> d));
+    var groups = BenchmarkFixtures.bpGroupConfiguration(100, 5000).getGroups().stream()
+        .map(group -> ProcessDefinitionGroup.builder()
+            .name(group.getName())
+            .processDefinitions(group.getProcessDefinitions().stream()
+                .map(definitionsByKey::get)
+                .collect(Collectors.toList()))
+            .build())
+        .collect(Collectors.toList());
+    groupedProcessDefinitions = GroupedProcessDefinitionResponse.builder()
+        .groups(groups)
+        .ungrouped(processDefinitions.subList(4000, 5000))
+        .build();
+  }
+
+  @Benchmark
+  public void serializeProcessInstancePage() throws IOException {
+    objectMapper.writeValue(outputStream, processInstances);
+  }
+
+  @Benchmark
+  public void serializeProcessDefinitions() throws IOException {
+    objectMapper.writeValue(outputStream, processDefinitions);
+  }
+
+  @Benchmark
+  public void serializeGroupedProcessDefinitions() throws IOException {
+    objectMapper.writeValue(outputStream, groupedProcessDefinitions);
+  }
+}
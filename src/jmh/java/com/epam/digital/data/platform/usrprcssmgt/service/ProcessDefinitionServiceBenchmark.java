@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.service;
+
+import com.epam.digital.data.platform.usrprcssmgt.BenchmarkFixtures;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ResilienceProperties;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.ProcessStartMetrics;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.GroupedProcessDefinitionResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessDefinitionRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ReactiveProcessDefinitionRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * Grouping of the process definition catalog by bp-grouping configuration. {@code
+ * groupProcessDefinitions} gets a new definition list on every call, so the grouping is rebuilt as
+ * after a catalog cache reload, {@code getGroupedProcessDefinitions} gets the same list and reuses
+ * the grouped snapshot as on a catalog cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessDefinitionServiceBenchmark {
+
+  @Param({"100"})
+  private int groupCount;
+  @Param({"5000"})
+  private int definitionCount;
+
+  private final GetProcessDefinitionsParams params = new GetProcessDefinitionsParams();
+
+  private List<ProcessDefinitionResponse> processDefinitions;
+  private ProcessDefinitionService reloadingProcessDefinitionService;
+  private ProcessDefinitionService cachingProcessDefinitionService;
+
+  @Setup
+  public void setup() {
+    processDefinitions = BenchmarkFixtures.processDefinitions(definitionCount);
+    var bpGroupConfiguration = BenchmarkFixtures.bpGroupConfiguration(groupCount,
+        definitionCount);
+    var reactiveRemoteService = new StaticListableBeanFactory()
+        .getBeanProvider(ReactiveProcessDefinitionRemoteService.class);
+    var meterRegistry = new SimpleMeterRegistry();
+    var processStartMetrics = new ProcessStartMetrics(meterRegistry,
+        new DownstreamGuards(new ResilienceProperties(), meterRegistry));
+    reloadingProcessDefinitionService = new ProcessDefinitionService(
+        new CatalogRemoteService(true), null, null, bpGroupConfiguration,
+        new ProcessStartProperties(), Runnable::run, reactiveRemoteService,
+        processStartMetrics, null, null);
+    cachingProcessDefinitionService = new ProcessDefinitionService(
+        new CatalogRemoteService(false), null, null, bpGroupConfiguration,
+        new ProcessStartProperties(), Runnable::run, reactiveRemoteService,
+        processStartMetrics, null, null);
+  }
+
+  @Benchmark
+  public GroupedProcessDefinitionResponse groupProcessDefinitions() {
+    return reloadingProcessDefinitionService.getGroupedProcessDefinitions(params);
+  }
+
+  @Benchmark
+  public GroupedProcessDefinitionResponse getGroupedProcessDefinitions() {
+    return cachingProcessDefinitionService.getGroupedProcessDefinitions(params);
+  }
+
+  /**
+   * Returns the benchmark process definitions as the catalog cache does.
+   */
+  private class CatalogRemoteService implements ProcessDefinitionRemoteService {
+
+    private final boolean reloading;
+
+    private CatalogRemoteService(boolean reloading) {
+      this.reloading = reloading;
+    }
+
+    @Override
+    public List<ProcessDefinitionResponse> getProcessDefinitions(
+        GetProcessDefinitionsParams params) {
+      return reloading ? new ArrayList<>(processDefinitions) : processDefinitions;
+    }
+
+    @Override
+    public ProcessDefinitionResponse getProcessDefinitionByKey(String key) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CountResponse countProcessDefinitions(GetProcessDefinitionsParams params) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public StartProcessInstanceResponse startProcessInstance(String key) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public StartProcessInstanceResponse startProcessInstance(String key, String formDataKey) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
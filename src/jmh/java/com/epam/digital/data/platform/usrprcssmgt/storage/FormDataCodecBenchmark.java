@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import com.epam.digital.data.platform.usrprcssmgt.BenchmarkFixtures;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataCodecProperties;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Compression;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Format;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodecInterceptor.Payload;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Encoding and decoding of start form data with every format and compression. The form data has
+ * {@code fieldCount} text, number and nested fields and a 6 KB signature. The JSON size and the
+ * stored base64 size are reported as {@code encode:jsonBytes} and {@code encode:storedBytes}
+ * secondary results, so the size and CPU time of every setting could be compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormDataCodecBenchmark {
+
+  @Param({"JSON", "SMILE", "CBOR"})
+  private Format format;
+  @Param({"NONE", "LZ4", "ZSTD"})
+  private Compression compression;
+  @Param({"20", "500"})
+  private int fieldCount;
+
+  private FormDataCodec formDataCodec;
+  private Payload payload;
+  private int jsonBytes;
+  private byte[] encoded;
+
+  @Setup
+  public void setup() throws JsonProcessingException {
+    var objectMapper = BenchmarkFixtures.objectMapper();
+    var properties = new FormDataCodecProperties();
+    properties.setFormat(format);
+    properties.setCompression(compression);
+    properties.setCompressionThreshold(DataSize.ofBytes(0));
+    formDataCodec = new FormDataCodec(objectMapper, properties);
+    payload = payload(fieldCount);
+    jsonBytes = objectMapper.writeValueAsBytes(payload).length;
+    encoded = formDataCodec.encode(payload);
+  }
+
+  @Benchmark
+  public String encode(EncodedSize encodedSize) {
+    var result = Base64.getEncoder().encodeToString(formDataCodec.encode(payload));
+    encodedSize.jsonBytes = jsonBytes;
+    encodedSize.storedBytes = result.length();
+    return result;
+  }
+
+  @Benchmark
+  public Payload decode() {
+    return formDataCodec.decode(encoded, Payload.class);
+  }
+
+  /**
+   * Sizes of the encoded form data. The counters are assigned, not incremented, so with a single
+   * benchmark thread every iteration reports the size in bytes.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class EncodedSize {
+
+    public long jsonBytes;
+    public long storedBytes;
+  }
+
+  private static Payload payload(int fieldCount) {
+    var random = new Random(42);
+    var data = new LinkedHashMap<String, Object>();
+    IntStream.range(0, fieldCount).forEach(i -> {
+      switch (i % 4) {
+        case 0:
+          data.put("textField" + i, "Значення текстового поля номер " + i);
+          break;
+        case 1:
+          data.put("numberField" + i, random.nextInt(1_000_000));
+          break;
+        case 2:
+          data.put("dateField" + i, "2023-10-" + (10 + i % 20) + "T10:15:30.000Z");
+          break;
+        default:
+          data.put("fileField" + i, List.of(Map.of(
+              "id", "b9d9b8f0-5a1e-4d4c-9c6a-" + String.format("%012d", i),
+              "checksum", Integer.toHexString(random.nextInt()) + Long.toHexString(
+                  random.nextLong()))));
+      }
+    });
+    var signatureBytes = new byte[4608];
+    random.nextBytes(signatureBytes);
+    var signature = Base64.getEncoder().encodeToString(signatureBytes);
+    return new Payload(data, signature);
+  }
+}
@@ -17,9 +17,11 @@
 package com.epam.digital.data.platform.usrprcssmgt;
 
 import com.epam.digital.data.platform.bpms.client.config.FeignConfig;
+import com.epam.digital.data.platform.usrprcssmgt.remote.client.ProcessInstanceStreamRestClient;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Import;
 
 /**
@@ -27,6 +29,7 @@ import org.springframework.context.annotation.Import;
  */
 @SpringBootApplication
 @Import(FeignConfig.class)
+@EnableFeignClients(clients = ProcessInstanceStreamRestClient.class)
 @EnableConfigurationProperties
 public class UserProcessManagementApplication {
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.actuator;
+
+import com.epam.digital.data.platform.usrprcssmgt.controller.support.CachedJsonResponseWriter;
+import com.epam.digital.data.platform.usrprcssmgt.remote.impl.CachedProcessDefinitionRemoteService;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for the process definition catalog cache. {@code DELETE
+ * /actuator/processdefinitioncache} is meant to be called by the deploy pipeline after new
+ * business processes are deployed to BPMS, it drops the encoded catalog responses as well.
+ * <p>
+ * The caches are local to the pod, so the invalidation affects only the pod that has received the
+ * call. The deploy pipeline has to call the endpoint of every pod, other pods keep serving the old
+ * catalog until {@code cache.process-definition.time-to-live} passes.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cache.process-definition", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+@Endpoint(id = "processdefinitioncache")
+public class ProcessDefinitionCacheEndpoint {
+
+  private final CachedProcessDefinitionRemoteService cachedProcessDefinitionRemoteService;
+  private final CachedJsonResponseWriter cachedJsonResponseWriter;
+
+  @ReadOperation
+  public Map<String, Object> cacheInfo() {
+    return Map.of("size", cachedProcessDefinitionRemoteService.estimatedSize());
+  }
+
+  @DeleteOperation
+  public void invalidate() {
+    cachedProcessDefinitionRemoteService.invalidate();
+    cachedJsonResponseWriter.invalidateAll();
+  }
+}
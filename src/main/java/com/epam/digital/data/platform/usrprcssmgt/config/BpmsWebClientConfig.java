@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpmsReactiveProperties;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@ConditionalOnProperty(prefix = "bpms.reactive", name = "enabled", havingValue = "true")
+public class BpmsWebClientConfig {
+
+  public static final String BPMS_CONNECTION_PROVIDER = "bpms";
+  public static final String ACCESS_TOKEN_HEADER = "X-Access-Token";
+
+  /**
+   * Non-blocking BPMS client. Requests wait for a free connection without holding a thread, so
+   * the number of concurrent BPMS calls is bounded by the connection pool, not by the servlet
+   * thread pool. The builder is configured by Spring Boot, so the client uses the application
+   * {@code ObjectMapper} and is traced by Sleuth. Pool metrics are published as
+   * {@code reactor_netty_connection_provider_*} meters with {@code name="bpms"} tag.
+   */
+  @Bean
+  public WebClient bpmsWebClient(WebClient.Builder webClientBuilder,
+      @Value("${bpms.url}") String bpmsUrl, BpmsReactiveProperties properties) {
+    var connectionProvider = ConnectionProvider.builder(BPMS_CONNECTION_PROVIDER)
+        .maxConnections(properties.getMaxConnections())
+        .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+        .metrics(true)
+        .build();
+    var httpClient = HttpClient.create(connectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+            (int) properties.getConnectTimeout().toMillis())
+        .responseTimeout(properties.getResponseTimeout());
+    return webClientBuilder
+        .baseUrl(bpmsUrl)
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .build();
+  }
+}
@@ -21,7 +21,15 @@ import com.epam.digital.data.platform.integration.ceph.factory.CephS3Factory;
 import com.epam.digital.data.platform.storage.form.config.CephStorageConfiguration;
 import com.epam.digital.data.platform.storage.form.factory.StorageServiceFactory;
 import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.IdempotencyStore;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.InMemoryIdempotencyStore;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodecInterceptor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -59,7 +67,27 @@ public class CephFormDataStorageConfig {
 
   @Bean
   public FormDataStorageService formDataStorageService(StorageServiceFactory factory,
-      CephStorageConfiguration config) {
-    return factory.formDataStorageService(config);
+      CephStorageConfiguration config, ObjectProvider<FormDataCodecInterceptor> codecInterceptor) {
+    var formDataStorageService = factory.formDataStorageService(config);
+    var interceptor = codecInterceptor.getIfAvailable();
+    if (interceptor == null) {
+      return formDataStorageService;
+    }
+    var proxyFactory = new ProxyFactory(formDataStorageService);
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvice(interceptor);
+    return (FormDataStorageService) proxyFactory.getProxy();
+  }
+
+  /**
+   * Ceph is too slow for the request deduplication, so idempotency keys and process start tickets
+   * are kept in memory.
+   */
+  @Bean
+  public IdempotencyStore idempotencyStore(ProcessStartProperties processStartProperties) {
+    var idempotencyProperties = processStartProperties.getIdempotency();
+    var ticketTimeToLive = processStartProperties.getAsync().getTicketTimeToLive();
+    return new InMemoryIdempotencyStore(idempotencyProperties.getMaximumSize(),
+        Collections.max(List.of(idempotencyProperties.getWindow(), ticketTimeToLive)));
   }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import okhttp3.ConnectionPool;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics of the connection pool of the http client used by the BPMS and form validation Feign
+ * clients. The client itself is configured by {@code feign.httpclient.*} (Apache http client,
+ * enabled by default) or {@code feign.okhttp.*} properties.
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+  public static final String FEIGN_HTTP_CLIENT = "feign";
+
+  /**
+   * Publishes {@code httpcomponents.httpclient.pool.*} meters for the Apache http client or
+   * {@code okhttp.pool.*} meters for the OkHttp client with {@code httpclient=feign} tag. Leased
+   * and pending connections of the Apache http client show the pool saturation.
+   */
+  @Bean
+  public MeterBinder feignHttpClientPoolMetrics(
+      ObjectProvider<HttpClientConnectionManager> connectionManager,
+      ObjectProvider<ConnectionPool> okHttpConnectionPool) {
+    return registry -> {
+      connectionManager.ifAvailable(manager -> {
+        if (manager instanceof PoolingHttpClientConnectionManager) {
+          new PoolingHttpClientConnectionManagerMetricsBinder(
+              (PoolingHttpClientConnectionManager) manager, FEIGN_HTTP_CLIENT).bindTo(registry);
+        }
+      });
+      okHttpConnectionPool.ifAvailable(pool -> new OkHttpConnectionPoolMetrics(pool, "okhttp.pool",
+          Tags.of("httpclient", FEIGN_HTTP_CLIENT)).bindTo(registry));
+    };
+  }
+}
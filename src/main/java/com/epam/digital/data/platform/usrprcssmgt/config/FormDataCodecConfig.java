@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataCodecProperties;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodecInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "storage.form-data.codec", name = "enabled", havingValue = "true")
+public class FormDataCodecConfig {
+
+  @Bean
+  public FormDataCodecInterceptor formDataCodecInterceptor(ObjectMapper objectMapper,
+      FormDataCodecProperties formDataCodecProperties, MeterRegistry meterRegistry) {
+    return new FormDataCodecInterceptor(
+        new FormDataCodec(objectMapper, formDataCodecProperties), meterRegistry);
+  }
+}
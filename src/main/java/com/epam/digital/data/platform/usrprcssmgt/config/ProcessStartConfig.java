@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties.ExecutorProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.VirtualThreadsProperties;
+import com.epam.digital.data.platform.usrprcssmgt.util.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+@Configuration
+public class ProcessStartConfig {
+
+  public static final String PROCESS_START_EXECUTOR = "process-start";
+
+  /**
+   * Bounded executor for the process start steps that are run in parallel with the request thread.
+   * If the queue is full, the task is run by the request thread. Tasks are run with the trace and
+   * security context of the request, pool and queue metrics are published as {@code executor*}
+   * meters with {@code name=process-start} tag. In {@link VirtualThreadsProperties virtual thread
+   * mode} every task is run on a new virtual thread, the steps wait for BPMS, form validation and
+   * form data storage without blocking a platform thread. At most {@code max-pool-size} tasks are
+   * run at once in both modes, so a batch start doesn't flood the downstream services.
+   */
+  @Bean
+  public ExecutorService processStartExecutor(ProcessStartProperties processStartProperties,
+      VirtualThreadsProperties virtualThreadsProperties, MeterRegistry meterRegistry,
+      CurrentTraceContext currentTraceContext) {
+    var executorProperties = processStartProperties.getExecutor();
+    var executor = virtualThreadsProperties.isEnabled()
+        ? VirtualThreads.newBoundedVirtualThreadPerTaskExecutor(
+            PROCESS_START_EXECUTOR + "-virtual-", executorProperties.getMaxPoolSize())
+        : newThreadPoolExecutor(executorProperties);
+    return new DelegatingSecurityContextExecutorService(currentTraceContext.executorService(
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, PROCESS_START_EXECUTOR)));
+  }
+
+  static ThreadPoolExecutor newThreadPoolExecutor(ExecutorProperties executorProperties) {
+    return new ThreadPoolExecutor(executorProperties.getCorePoolSize(),
+        executorProperties.getMaxPoolSize(), 60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(executorProperties.getQueueCapacity()),
+        new CustomizableThreadFactory(PROCESS_START_EXECUTOR + "-"),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+}
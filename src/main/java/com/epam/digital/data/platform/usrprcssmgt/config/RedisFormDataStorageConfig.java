@@ -19,12 +19,23 @@ package com.epam.digital.data.platform.usrprcssmgt.config;
 import com.epam.digital.data.platform.storage.form.config.RedisStorageConfiguration;
 import com.epam.digital.data.platform.storage.form.factory.StorageServiceFactory;
 import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.AccessTokenReferenceProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataStoragePipelineProperties;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.IdempotencyStore;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.RedisIdempotencyStore;
+import com.epam.digital.data.platform.usrprcssmgt.storage.AccessTokenReferenceInterceptor;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodecInterceptor;
+import com.epam.digital.data.platform.usrprcssmgt.storage.RedisCommandPipeline;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 @Configuration
 @ConditionalOnProperty(prefix = "storage.form-data", name = "type", havingValue = "redis")
@@ -43,8 +54,41 @@ public class RedisFormDataStorageConfig {
 
   @Bean
   public FormDataStorageService formDataStorageService(StorageServiceFactory factory,
-      RedisConnectionFactory redisConnectionFactory) {
-    return factory.formDataStorageService(redisConnectionFactory);
+      RedisConnectionFactory redisConnectionFactory,
+      ObjectProvider<AccessTokenReferenceInterceptor> accessTokenReferenceInterceptor,
+      ObjectProvider<FormDataCodecInterceptor> codecInterceptor) {
+    var formDataStorageService = factory.formDataStorageService(redisConnectionFactory);
+    if (accessTokenReferenceInterceptor.getIfAvailable() == null
+        && codecInterceptor.getIfAvailable() == null) {
+      return formDataStorageService;
+    }
+    var proxyFactory = new ProxyFactory(formDataStorageService);
+    proxyFactory.setProxyTargetClass(true);
+    accessTokenReferenceInterceptor.ifAvailable(proxyFactory::addAdvice);
+    codecInterceptor.ifAvailable(proxyFactory::addAdvice);
+    return (FormDataStorageService) proxyFactory.getProxy();
+  }
+
+  @Bean
+  public RedisCommandPipeline redisCommandPipeline(RedisConnectionFactory redisConnectionFactory,
+      FormDataStoragePipelineProperties pipelineProperties, MeterRegistry meterRegistry) {
+    return new RedisCommandPipeline(new StringRedisTemplate(redisConnectionFactory),
+        pipelineProperties, meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "storage.form-data.access-token-reference", name = "enabled",
+      havingValue = "true")
+  public AccessTokenReferenceInterceptor accessTokenReferenceInterceptor(
+      RedisCommandPipeline redisCommandPipeline, ObjectMapper objectMapper,
+      AccessTokenReferenceProperties accessTokenReferenceProperties, MeterRegistry meterRegistry) {
+    return new AccessTokenReferenceInterceptor(redisCommandPipeline, objectMapper,
+        accessTokenReferenceProperties, meterRegistry);
+  }
+
+  @Bean
+  public IdempotencyStore idempotencyStore(RedisCommandPipeline redisCommandPipeline) {
+    return new RedisIdempotencyStore(redisCommandPipeline);
   }
 
   @Bean
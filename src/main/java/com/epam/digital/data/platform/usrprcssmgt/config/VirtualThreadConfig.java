@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config;
+
+import com.epam.digital.data.platform.usrprcssmgt.util.VirtualThreads;
+import java.util.concurrent.ExecutorService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+  public static final String TOMCAT_THREAD_NAME_PREFIX = "tomcat-virtual-";
+
+  /**
+   * Runs every http request on its own virtual thread instead of the bounded Tomcat worker pool.
+   * Sleuth opens the trace scope in the request thread, so trace ids are put to MDC the same way as
+   * for platform threads. Concurrency is bounded by {@code server.tomcat.max-connections} and the
+   * outbound connection pools, {@code server.tomcat.threads.*} settings are not used.
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService tomcatVirtualThreadExecutor() {
+    log.info("Http requests are served by virtual threads");
+    return VirtualThreads.newVirtualThreadPerTaskExecutor(TOMCAT_THREAD_NAME_PREFIX);
+  }
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+      ExecutorService tomcatVirtualThreadExecutor) {
+    return protocolHandler -> protocolHandler.setExecutor(tomcatVirtualThreadExecutor);
+  }
+}
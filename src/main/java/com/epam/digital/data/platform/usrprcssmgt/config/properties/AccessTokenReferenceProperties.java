@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the access token storage by reference in the redis form data storage.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage.form-data.access-token-reference")
+public class AccessTokenReferenceProperties {
+
+  /**
+   * If enabled, an access token is stored in redis once until it expires and the stored start form
+   * data contains only a reference to it. Every reader of the start form data has to resolve the
+   * reference, so it has to be enabled only if BPMS does it too.
+   */
+  private boolean enabled = false;
+  /**
+   * Tokens that expire sooner than this are stored in the start form data as is.
+   */
+  private Duration minimumTimeToLive = Duration.ofSeconds(30);
+  /**
+   * Maximum number of stored token references remembered by the pod, so a token of the next start
+   * by the same user isn't sent to redis again.
+   */
+  private long maximumRememberedTokens = 10000;
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of hedged idempotent BPMS reads (process definition lists, process instance lists and
+ * counts).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "bpms.hedging")
+public class BpmsHedgingProperties {
+
+  /**
+   * If enabled, a read that isn't answered within the hedging delay is sent to BPMS once more and
+   * the first response is returned. The other read isn't cancelled, it holds its thread and BPMS
+   * bulkhead permit until BPMS answers or the read times out.
+   */
+  private boolean enabled = false;
+  /**
+   * Percentile of the recent read latencies of an operation used as the hedging delay.
+   */
+  private double percentile = 0.95;
+  private Duration minDelay = Duration.ofMillis(10);
+  /**
+   * Time the read latencies are kept for the percentile calculation.
+   */
+  private Duration latencyWindow = Duration.ofMinutes(1);
+  /**
+   * Number of reads of an operation that have to be measured before the first hedge is sent.
+   */
+  private int minimumNumberOfCalls = 50;
+  /**
+   * Maximum number of hedges per read, at most 1, so hedging never more than doubles BPMS load.
+   */
+  private double maxHedgeRatio = 0.1;
+  /**
+   * Maximum number of threads that run hedged reads, a read is run by the request thread without
+   * hedging if all of them are busy. It bounds the reads that are left running after they lost.
+   */
+  private int maxThreads = 64;
+}
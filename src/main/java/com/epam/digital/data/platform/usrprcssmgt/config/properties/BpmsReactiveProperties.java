@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the non-blocking BPMS client.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "bpms.reactive")
+public class BpmsReactiveProperties {
+
+  /**
+   * If enabled, process instance count and list and process instance start are served without
+   * holding a servlet thread while BPMS responds.
+   */
+  private boolean enabled = false;
+  private int maxConnections = 500;
+  /**
+   * Maximum number of requests that wait for a free connection, the next ones fail immediately.
+   */
+  private int pendingAcquireMaxCount = 5000;
+  private Duration connectTimeout = Duration.ofSeconds(2);
+  private Duration responseTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the local cache of process definition and process instance counts.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.count")
+public class CountCacheProperties {
+
+  private boolean enabled = true;
+  private long maximumSize = 10000;
+  /**
+   * Maximum age of a returned count.
+   */
+  private Duration timeToLive = Duration.ofSeconds(15);
+  /**
+   * Age after which a count is reloaded in the background on the next request.
+   */
+  private Duration refreshAfterWrite = Duration.ofSeconds(5);
+  /**
+   * Number of threads that reload counts in the background, per cache.
+   */
+  private int refreshThreads = 4;
+  /**
+   * Number of background reloads that wait for a thread, a reload is skipped if the queue is full.
+   */
+  private int refreshQueueCapacity = 100;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Compression;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Format;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings of the start form data encoding in the form data storage.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage.form-data.codec")
+public class FormDataCodecProperties {
+
+  /**
+   * If enabled, start form data is stored in the configured format and compressed. Every reader of
+   * the start form data has to decode it, so it has to be enabled only if BPMS does it too.
+   */
+  private boolean enabled = false;
+  /**
+   * Format the start form data is serialized to.
+   */
+  private Format format = Format.JSON;
+  /**
+   * Compression of the serialized start form data.
+   */
+  private Compression compression = Compression.LZ4;
+  /**
+   * Serialized start form data smaller than this size isn't compressed.
+   */
+  private DataSize compressionThreshold = DataSize.ofKilobytes(4);
+  /**
+   * Zstd compression level, higher levels compress better but slower.
+   */
+  private int zstdLevel = 3;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the pipelined redis commands of the start form requests, that are issued by the
+ * service itself.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage.form-data.pipeline")
+public class FormDataStoragePipelineProperties {
+
+  /**
+   * If enabled, idempotency entry and access token reference commands of concurrent requests are
+   * sent to redis in one pipeline.
+   */
+  private boolean enabled = false;
+  /**
+   * Maximum number of redis commands that are sent in one pipeline.
+   */
+  private int maxBatchSize = 64;
+  /**
+   * Maximum time the first command of a pipeline waits for the other ones.
+   */
+  private Duration maxDelay = Duration.ofMillis(2);
+  /**
+   * Maximum time a caller waits for its pipelined command to be sent, the command is cancelled
+   * then.
+   */
+  private Duration timeout = Duration.ofSeconds(5);
+}
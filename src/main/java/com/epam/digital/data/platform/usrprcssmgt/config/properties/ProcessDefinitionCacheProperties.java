@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the local process definition catalog cache that is placed in front of BPMS.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.process-definition")
+public class ProcessDefinitionCacheProperties {
+
+  private boolean enabled = true;
+  private long maximumSize = 500;
+  private Duration timeToLive = Duration.ofMinutes(5);
+  private Duration refreshAfterWrite = Duration.ofMinutes(1);
+}
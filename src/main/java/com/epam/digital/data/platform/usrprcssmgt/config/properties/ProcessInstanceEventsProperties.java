@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the process instance status change feed.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "process-instance.events")
+public class ProcessInstanceEventsProperties {
+
+  /**
+   * Interval between BPMS polls of a connected user.
+   */
+  private Duration pollInterval = Duration.ofSeconds(5);
+  /**
+   * Number of process instances that are watched for changes.
+   */
+  private int pageSize = 100;
+  /**
+   * Time after which a connection is closed, the client is expected to reconnect with a fresh
+   * access token.
+   */
+  private Duration timeout = Duration.ofMinutes(30);
+  /**
+   * Number of threads that poll BPMS on behalf of connected users.
+   */
+  private int pollerThreads = 8;
+  /**
+   * Number of consecutive failed polls after which the user's connections are closed.
+   */
+  private int maxFailures = 3;
+}
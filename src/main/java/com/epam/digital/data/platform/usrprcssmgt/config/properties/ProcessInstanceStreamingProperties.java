@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the process instance list responses.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "process-instance.streaming")
+public class ProcessInstanceStreamingProperties {
+
+  /**
+   * If enabled, process instances are read from BPMS, mapped and written to the response one by
+   * one instead of building the whole page in memory.
+   */
+  private boolean enabled = false;
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the process instance start with start form data.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "process-start")
+public class ProcessStartProperties {
+
+  /**
+   * If enabled, start form data is stored while it's validated and the stored form data is deleted
+   * if validation fails.
+   */
+  private boolean parallelFormDataStorage = false;
+  /**
+   * Maximum number of process instances that can be started in one batch.
+   */
+  private int maxBatchSize = 100;
+  private ExecutorProperties executor = new ExecutorProperties();
+  private IdempotencyProperties idempotency = new IdempotencyProperties();
+  private AsyncProperties async = new AsyncProperties();
+
+  @Getter
+  @Setter
+  public static class ExecutorProperties {
+
+    private int corePoolSize = 8;
+    private int maxPoolSize = 32;
+    private int queueCapacity = 200;
+  }
+
+  @Getter
+  @Setter
+  public static class IdempotencyProperties {
+
+    /**
+     * Time a started process instance is returned for a retried request with the same
+     * {@code Idempotency-Key}.
+     */
+    private Duration window = Duration.ofHours(1);
+    /**
+     * Time a request is considered in progress, a request with the same key is accepted after it
+     * if the first one hasn't finished (e.g. its pod has stopped).
+     */
+    private Duration inProgressTimeout = Duration.ofMinutes(2);
+    /**
+     * Maximum number of keys kept in memory if form data storage is not redis.
+     */
+    private long maximumSize = 10000;
+  }
+
+  @Getter
+  @Setter
+  public static class AsyncProperties {
+
+    /**
+     * Number of threads that start accepted process instances.
+     */
+    private int workers = 8;
+    /**
+     * Maximum number of accepted process instance starts waiting for a worker, the next requests
+     * are rejected.
+     */
+    private int queueCapacity = 1000;
+    /**
+     * Time the result of an accepted process instance start could be got by its ticket.
+     */
+    private Duration ticketTimeToLive = Duration.ofMinutes(10);
+    /**
+     * Time the accepted process instance starts are finished for on shutdown, the ones that
+     * haven't been started by then are failed.
+     */
+    private Duration drainTimeout = Duration.ofSeconds(20);
+  }
+}
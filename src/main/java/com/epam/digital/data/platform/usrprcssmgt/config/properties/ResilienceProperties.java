@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulkhead and circuit breaker settings of the downstream dependencies (BPMS, form validation
+ * service, form data storage).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceProperties {
+
+  private boolean enabled = true;
+  /**
+   * Maximum number of last known good process definition lists and counts (per set of user roles
+   * and parameters) that are returned while BPMS calls are rejected.
+   */
+  private int catalogFallbackMaximumSize = 1000;
+  /**
+   * Settings by dependency name, the defaults are used for a dependency that isn't configured.
+   */
+  private Map<String, DownstreamProperties> downstream = new HashMap<>();
+
+  public DownstreamProperties getDownstream(String dependency) {
+    return downstream.getOrDefault(dependency, new DownstreamProperties());
+  }
+
+  @Getter
+  @Setter
+  public static class DownstreamProperties {
+
+    /**
+     * Maximum number of concurrent calls, calls over the limit are rejected after
+     * {@code maxWaitDuration}.
+     */
+    private int maxConcurrentCalls = 100;
+    private Duration maxWaitDuration = Duration.ZERO;
+    /**
+     * Percentage of failed (5xx or no response) calls that opens the circuit.
+     */
+    private float failureRateThreshold = 50;
+    /**
+     * Percentage of calls slower than {@code slowCallDurationThreshold} that opens the circuit.
+     */
+    private float slowCallRateThreshold = 100;
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(10);
+    /**
+     * Number of last calls the failure and slow call rates are calculated for, the rates aren't
+     * calculated until {@code minimumNumberOfCalls} calls are made.
+     */
+    private int slidingWindowSize = 50;
+    private int minimumNumberOfCalls = 20;
+    /**
+     * Time the circuit stays open before {@code permittedNumberOfCallsInHalfOpenState} trial calls
+     * are let through.
+     */
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+    private int permittedNumberOfCallsInHalfOpenState = 5;
+  }
+}
@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.usrprcssmgt.controller;
 
 import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeAnySystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.controller.support.CachedJsonResponseWriter;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GroupedProcessDefinitionResponse;
 import com.epam.digital.data.platform.usrprcssmgt.service.ProcessDefinitionService;
@@ -28,6 +29,9 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -42,6 +46,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class GroupedProcessDefinitionController {
 
   private final ProcessDefinitionService processDefinitionService;
+  private final CachedJsonResponseWriter cachedJsonResponseWriter;
 
 
   @GetMapping
@@ -86,6 +91,10 @@ public class GroupedProcessDefinitionController {
                           + "    ]\n"
                           + "}")
                   })),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not modified, the client has the actual version of the response"
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -98,8 +107,9 @@ public class GroupedProcessDefinitionController {
           )
       }
   )
-  public GroupedProcessDefinitionResponse getProcessDefinitions(
-      GetProcessDefinitionsParams params) {
-    return processDefinitionService.getGroupedProcessDefinitions(params);
+  public void getProcessDefinitions(GetProcessDefinitionsParams params,
+      HttpServletRequest request, HttpServletResponse response) throws IOException {
+    cachedJsonResponseWriter.write("grouped-process-definitions", params,
+        processDefinitionService.getGroupedProcessDefinitions(params), request, response);
   }
 }
@@ -20,30 +20,42 @@ import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
 import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
 import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeAnySystemRole;
 import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
+import com.epam.digital.data.platform.usrprcssmgt.controller.support.CachedJsonResponseWriter;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.StartProcessInstanceWithFormRequest;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.BatchStartProcessInstanceItemResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceTicketResponse;
 import com.epam.digital.data.platform.usrprcssmgt.service.ProcessDefinitionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RequiredArgsConstructor
 @RestController
@@ -53,6 +65,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProcessDefinitionController {
 
   private final ProcessDefinitionService processDefinitionService;
+  private final CachedJsonResponseWriter cachedJsonResponseWriter;
 
   @GetMapping("/{key}")
   @Operation(
@@ -136,6 +149,10 @@ public class ProcessDefinitionController {
                       + "  \"formKey\": null\n"
                       + "}]"))
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not modified, the client has the actual version of the response"
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -147,8 +164,10 @@ public class ProcessDefinitionController {
               content = @Content(schema = @Schema(implementation = SystemErrorDto.class))
           )
       })
-  public List<ProcessDefinitionResponse> getProcessDefinitions(GetProcessDefinitionsParams params) {
-    return processDefinitionService.getProcessDefinitions(params);
+  public void getProcessDefinitions(GetProcessDefinitionsParams params,
+      HttpServletRequest request, HttpServletResponse response) throws IOException {
+    cachedJsonResponseWriter.write("process-definitions", params,
+        processDefinitionService.getProcessDefinitions(params), request, response);
   }
 
   @GetMapping("/count")
@@ -185,6 +204,10 @@ public class ProcessDefinitionController {
                       + "  \"count\": 10\n"
                       + "}"))
           ),
+          @ApiResponse(
+              responseCode = "304",
+              description = "Not modified, the client has the actual version of the response"
+          ),
           @ApiResponse(
               responseCode = "401",
               description = "Unauthorized",
@@ -196,8 +219,10 @@ public class ProcessDefinitionController {
               content = @Content(schema = @Schema(implementation = SystemErrorDto.class))
           )
       })
-  public CountResponse countProcessDefinitions(GetProcessDefinitionsParams params) {
-    return processDefinitionService.countProcessDefinitions(params);
+  public void countProcessDefinitions(GetProcessDefinitionsParams params,
+      HttpServletRequest request, HttpServletResponse response) throws IOException {
+    cachedJsonResponseWriter.write("process-definitions-count", params,
+        processDefinitionService.countProcessDefinitions(params), request, response);
   }
 
   @PostMapping("/{key}/start")
@@ -236,16 +261,86 @@ public class ProcessDefinitionController {
               content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
       })
   @ResponseBody
-  public StartProcessInstanceResponse startProcessInstance(@PathVariable("key") String key,
-      Authentication authentication) {
-    return processDefinitionService.startProcessInstance(key, authentication);
+  public CompletableFuture<StartProcessInstanceResponse> startProcessInstance(
+      @PathVariable("key") String key, Authentication authentication) {
+    return processDefinitionService.startProcessInstanceAsync(key, authentication);
   }
 
   @PostMapping("/{key}/start-with-form")
   @Operation(
       summary = "Start process instance with form",
       description = "### Endpoint purpose:\n This endpoint allows to start process instance by process definition key with start form data\n"
-          + "### Form validation:\n This endpoint requires valid form, if form provided in request body does not match form structure assigned to task, then _422_ status code returned.",
+          + "### Form validation:\n This endpoint requires valid form, if form provided in request body does not match form structure assigned to task, then _422_ status code returned.\n"
+          + "### Idempotency:\n If _Idempotency-Key_ header is passed, a retried request with the same key returns the process instance started by the first request without starting a new one. If the first request is still in progress, then _409_ status code returned. If the key was used with another request body, then _422_ status code returned.",
+      parameters = {
+          @Parameter(
+              in = ParameterIn.HEADER,
+              name = "X-Access-Token",
+              description = "Token used for endpoint security",
+              required = true,
+              schema = @Schema(type = "string")
+          ),
+          @Parameter(
+              in = ParameterIn.HEADER,
+              name = "Idempotency-Key",
+              description = "Unique key of the process instance start, generated by the client once and repeated on retries",
+              schema = @Schema(type = "string")
+          )
+      },
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = FormDataDto.class),
+              examples = {
+                  @ExampleObject(value = "{\n"
+                      + "  \"data\": {\n"
+                      + "     \"formFieldName1\": \"field value 1\",\n"
+                      + "     \"formFieldName2\": \"field value 2\"\n"
+                      + "}}"
+                  )
+              }
+          )
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Returns started process instance",
+              responseCode = "200",
+              content = @Content(schema = @Schema(implementation = StartProcessInstanceResponse.class),
+                  examples = @ExampleObject(value = "{\n"
+                      + "  \"id\": \"d81fd894-6842-11ee-b71c-0a580a811836\",\n"
+                      + "  \"processDefinitionId\": \"fcfea78f-66c2-11ee-b586-0a580a80065a\",\n"
+                      + "  \"ended\": false\n"
+                      + "}"))),
+          @ApiResponse(
+              description = "Business process definition hasn't found",
+              responseCode = "404",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
+          @ApiResponse(
+              description = "Request with the same Idempotency-Key is in progress",
+              responseCode = "409",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
+          @ApiResponse(
+              description = "Form validation failed",
+              responseCode = "422",
+              content = @Content(schema = @Schema(implementation = ValidationErrorDto.class))),
+          @ApiResponse(
+              description = "Internal server error",
+              responseCode = "500",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
+      })
+  @ResponseBody
+  public CompletableFuture<StartProcessInstanceResponse> startProcessInstanceWithForm(
+      @PathVariable("key") String key, @RequestBody FormDataDto formDataDto,
+      Authentication authentication,
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+    return processDefinitionService.startProcessInstanceWithFormAsync(key, formDataDto,
+        authentication, idempotencyKey);
+  }
+
+  @PostMapping("/{key}/start-with-form/async")
+  @Operation(
+      summary = "Accept process instance start with form",
+      description = "### Endpoint purpose:\n This endpoint allows to start process instance by process definition key with start form data without waiting for the process instance to be started\n"
+          + "### Form validation:\n This endpoint requires valid form, if form provided in request body does not match form structure assigned to task, then _422_ status code returned.\n"
+          + "### Result:\n The start form data is validated and saved, then the start is queued and _202_ status code is returned with the ticket. The ticket could be polled by the _Location_ header url until its status is _STARTED_ or _FAILED_. If there are too many accepted starts, then _503_ status code returned.",
       parameters = @Parameter(
           in = ParameterIn.HEADER,
           name = "X-Access-Token",
@@ -267,13 +362,13 @@ public class ProcessDefinitionController {
       ),
       responses = {
           @ApiResponse(
-              description = "Returns started process instance",
-              responseCode = "200",
-              content = @Content(schema = @Schema(implementation = StartProcessInstanceResponse.class),
+              description = "Returns accepted process instance start ticket",
+              responseCode = "202",
+              content = @Content(schema = @Schema(implementation = StartProcessInstanceTicketResponse.class),
                   examples = @ExampleObject(value = "{\n"
-                      + "  \"id\": \"d81fd894-6842-11ee-b71c-0a580a811836\",\n"
-                      + "  \"processDefinitionId\": \"fcfea78f-66c2-11ee-b586-0a580a80065a\",\n"
-                      + "  \"ended\": false\n"
+                      + "  \"ticketId\": \"1e5f1bb5-7a3c-4d3b-9d43-1c9c6b2b8f0e\",\n"
+                      + "  \"processDefinitionKey\": \"business-process-key\",\n"
+                      + "  \"status\": \"ACCEPTED\"\n"
                       + "}"))),
           @ApiResponse(
               description = "Business process definition hasn't found",
@@ -283,14 +378,135 @@ public class ProcessDefinitionController {
               description = "Form validation failed",
               responseCode = "422",
               content = @Content(schema = @Schema(implementation = ValidationErrorDto.class))),
+          @ApiResponse(
+              description = "Internal server error",
+              responseCode = "500",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
+          @ApiResponse(
+              description = "Too many process instance starts are accepted",
+              responseCode = "503",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
+      })
+  public ResponseEntity<StartProcessInstanceTicketResponse> acceptProcessInstanceStartWithForm(
+      @PathVariable("key") String key, @RequestBody FormDataDto formDataDto,
+      Authentication authentication) {
+    var ticket = processDefinitionService.acceptProcessInstanceStartWithForm(key, formDataDto,
+        authentication);
+    var location = ServletUriComponentsBuilder.fromCurrentContextPath()
+        .path("/api/process-definition/start-ticket/{ticketId}")
+        .buildAndExpand(ticket.getTicketId())
+        .toUri();
+    return ResponseEntity.accepted().location(location).body(ticket);
+  }
+
+  @GetMapping("/start-ticket/{ticketId}")
+  @Operation(
+      summary = "Retrieve process instance start ticket",
+      description = "### Endpoint purpose:\n This endpoint allows to get the state of the process instance start accepted by _start-with-form/async_ endpoint. The ticket is available only to the user that has started the process instance for a limited time.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Returns process instance start ticket",
+              responseCode = "200",
+              content = @Content(schema = @Schema(implementation = StartProcessInstanceTicketResponse.class),
+                  examples = @ExampleObject(value = "{\n"
+                      + "  \"ticketId\": \"1e5f1bb5-7a3c-4d3b-9d43-1c9c6b2b8f0e\",\n"
+                      + "  \"processDefinitionKey\": \"business-process-key\",\n"
+                      + "  \"status\": \"STARTED\",\n"
+                      + "  \"result\": {\n"
+                      + "    \"id\": \"d81fd894-6842-11ee-b71c-0a580a811836\",\n"
+                      + "    \"processDefinitionId\": \"fcfea78f-66c2-11ee-b586-0a580a80065a\",\n"
+                      + "    \"ended\": false\n"
+                      + "  },\n"
+                      + "  \"error\": null\n"
+                      + "}"))),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              description = "Ticket hasn't found or has expired",
+              responseCode = "404",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
           @ApiResponse(
               description = "Internal server error",
               responseCode = "500",
               content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
       })
   @ResponseBody
-  public StartProcessInstanceResponse startProcessInstanceWithForm(@PathVariable("key") String key,
-      @RequestBody FormDataDto formDataDto, Authentication authentication) {
-    return processDefinitionService.startProcessInstanceWithForm(key, formDataDto, authentication);
+  public StartProcessInstanceTicketResponse getProcessInstanceStartTicket(
+      @PathVariable("ticketId") String ticketId, Authentication authentication) {
+    return processDefinitionService.getProcessInstanceStartTicket(ticketId, authentication);
+  }
+
+  @PostMapping("/start-with-form/batch")
+  @Operation(
+      summary = "Start process instances with forms in a batch",
+      description = "### Endpoint purpose:\n This endpoint allows to start several process instances of one or more process definitions with start form data in one request\n"
+          + "### Result:\n Every process instance is started independently. The result of each start is returned in the order of the request items, a failed start contains _error_ or _validationError_ (if start form data doesn't match the start form) instead of _result_.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true,
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = StartProcessInstanceWithFormRequest.class)),
+              examples = {
+                  @ExampleObject(value = "[{\n"
+                      + "  \"processDefinitionKey\": \"business-process-key\",\n"
+                      + "  \"formData\": {\n"
+                      + "    \"data\": {\n"
+                      + "      \"formFieldName1\": \"field value 1\"\n"
+                      + "}}}]"
+                  )
+              }
+          )
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Returns results of process instance starts",
+              responseCode = "200",
+              content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchStartProcessInstanceItemResponse.class)),
+                  examples = @ExampleObject(value = "[{\n"
+                      + "  \"index\": 0,\n"
+                      + "  \"processDefinitionKey\": \"business-process-key\",\n"
+                      + "  \"status\": \"STARTED\",\n"
+                      + "  \"result\": {\n"
+                      + "    \"id\": \"d81fd894-6842-11ee-b71c-0a580a811836\",\n"
+                      + "    \"processDefinitionId\": \"fcfea78f-66c2-11ee-b586-0a580a80065a\",\n"
+                      + "    \"ended\": false\n"
+                      + "  },\n"
+                      + "  \"error\": null,\n"
+                      + "  \"validationError\": null\n"
+                      + "}]"))),
+          @ApiResponse(
+              description = "Batch size is exceeded",
+              responseCode = "400",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class))),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          ),
+          @ApiResponse(
+              description = "Internal server error",
+              responseCode = "500",
+              content = @Content(schema = @Schema(implementation = SystemErrorDto.class)))
+      })
+  @ResponseBody
+  public List<BatchStartProcessInstanceItemResponse> startProcessInstancesWithForm(
+      @RequestBody List<StartProcessInstanceWithFormRequest> requests,
+      Authentication authentication) {
+    return processDefinitionService.startProcessInstancesWithForm(requests, authentication);
   }
 }
@@ -20,34 +20,48 @@ import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
 import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeAnySystemRole;
 import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeCitizen;
 import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeOfficer;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.controller.support.JsonArrayResponseWriter;
 import com.epam.digital.data.platform.usrprcssmgt.controller.swagger.PageableAsQueryParam;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.service.ProcessInstanceEventService;
 import com.epam.digital.data.platform.usrprcssmgt.service.ProcessInstanceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.util.List;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api")
 @Tag(description = "User process instance Rest API", name = "user-process-instance-api")
 public class ProcessInstanceController {
 
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
   @Autowired
   private ProcessInstanceService processInstanceService;
+  @Autowired
+  private JsonArrayResponseWriter jsonArrayResponseWriter;
+  @Autowired
+  private ProcessInstanceEventService processInstanceEventService;
 
   @PreAuthorizeAnySystemRole
   @GetMapping("/process-instance/count")
@@ -81,8 +95,8 @@ public class ProcessInstanceController {
               content = @Content(schema = @Schema(implementation = SystemErrorDto.class))
           )
       })
-  public CountResponse countProcessInstances() {
-    return processInstanceService.countProcessInstances();
+  public CompletableFuture<CountResponse> countProcessInstances() {
+    return processInstanceService.countProcessInstancesAsync();
   }
 
   @PreAuthorizeOfficer
@@ -101,6 +115,9 @@ public class ProcessInstanceController {
           @ApiResponse(
               description = "Business process instances list",
               responseCode = "200",
+              headers = @Header(name = NEXT_CURSOR_HEADER,
+                  description = "Token of the next page if the cursor was requested and the page is full",
+                  schema = @Schema(type = "string")),
               content = @Content(array = @ArraySchema(uniqueItems = true,
                   schema = @Schema(implementation = GetProcessInstanceResponse.class)),
                   examples = @ExampleObject(
@@ -124,9 +141,9 @@ public class ProcessInstanceController {
       })
 
   @PageableAsQueryParam
-  public List<GetProcessInstanceResponse> getOfficerProcessInstances(
-      @Parameter(hidden = true) Pageable page) {
-    return processInstanceService.getOfficerProcessInstances(page);
+  public void getOfficerProcessInstances(@Parameter(hidden = true) Pageable page,
+      HttpServletResponse response) throws IOException {
+    writeProcessInstances(page, SystemRole.OFFICER, response);
   }
 
   @PreAuthorizeCitizen
@@ -145,6 +162,9 @@ public class ProcessInstanceController {
           @ApiResponse(
               description = "Business process instances list",
               responseCode = "200",
+              headers = @Header(name = NEXT_CURSOR_HEADER,
+                  description = "Token of the next page if the cursor was requested and the page is full",
+                  schema = @Schema(type = "string")),
               content = @Content(array = @ArraySchema(uniqueItems = true,
                   schema = @Schema(implementation = GetProcessInstanceResponse.class)),
                   examples = @ExampleObject(
@@ -167,8 +187,85 @@ public class ProcessInstanceController {
           )
       })
   @PageableAsQueryParam
-  public List<GetProcessInstanceResponse> getCitizenProcessInstances(
-      @Parameter(hidden = true) Pageable page) {
-    return processInstanceService.getCitizenProcessInstances(page);
+  public void getCitizenProcessInstances(@Parameter(hidden = true) Pageable page,
+      HttpServletResponse response) throws IOException {
+    writeProcessInstances(page, SystemRole.CITIZEN, response);
+  }
+
+  @PreAuthorizeOfficer
+  @GetMapping(value = "/officer/process-instance/events",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Subscribe to process instance changes for the officer role",
+      description = "### Endpoint purpose:\n Server-sent events stream of the currently authenticated officer user process instances. A new connection receives `snapshot` event with unfinished process instances and `count` event with their count, then `process-instance` event is sent for every started or changed process instance, `process-instance-removed` event for every finished one and `count` event when the count is changed. The connection is closed after the configured timeout or if the access token is expired, the client is expected to reconnect.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Process instance events stream",
+              responseCode = "200",
+              content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          )
+      })
+  public SseEmitter getOfficerProcessInstanceEvents() {
+    return processInstanceEventService.subscribe(SystemRole.OFFICER);
+  }
+
+  @PreAuthorizeCitizen
+  @GetMapping(value = "/citizen/process-instance/events",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "Subscribe to process instance changes for the citizen role",
+      description = "### Endpoint purpose:\n Server-sent events stream of the currently authenticated citizen user process instances. A new connection receives `snapshot` event with unfinished process instances and `count` event with their count, then `process-instance` event is sent for every started or changed process instance, `process-instance-removed` event for every finished one and `count` event when the count is changed. The connection is closed after the configured timeout or if the access token is expired, the client is expected to reconnect.",
+      parameters = @Parameter(
+          in = ParameterIn.HEADER,
+          name = "X-Access-Token",
+          description = "Token used for endpoint security",
+          required = true,
+          schema = @Schema(type = "string")
+      ),
+      responses = {
+          @ApiResponse(
+              description = "Process instance events stream",
+              responseCode = "200",
+              content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+          @ApiResponse(
+              responseCode = "401",
+              description = "Unauthorized",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+          )
+      })
+  public SseEmitter getCitizenProcessInstanceEvents() {
+    return processInstanceEventService.subscribe(SystemRole.CITIZEN);
+  }
+
+  /**
+   * The list is written to the response by the servlet thread. With non-blocking BPMS client the
+   * requests without cursor are served by {@link ReactiveProcessInstanceController}.
+   */
+  private void writeProcessInstances(Pageable page, SystemRole systemRole,
+      HttpServletResponse response) throws IOException {
+    if (Objects.isNull(page.getCursor())) {
+      jsonArrayResponseWriter.<GetProcessInstanceResponse>write(response,
+          consumer -> processInstanceService.streamProcessInstances(page, systemRole, consumer));
+      return;
+    }
+    // the next page cursor depends on the last element, so the page is got before the response
+    // headers are sent
+    var processInstancePage = processInstanceService.getProcessInstancePage(page, systemRole);
+    if (Objects.nonNull(processInstancePage.getNextCursor())) {
+      response.setHeader(NEXT_CURSOR_HEADER, processInstancePage.getNextCursor());
+    }
+    jsonArrayResponseWriter.<GetProcessInstanceResponse>write(response,
+        processInstancePage.getContent()::forEach);
   }
 }
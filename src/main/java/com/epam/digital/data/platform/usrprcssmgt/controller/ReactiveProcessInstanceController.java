@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.controller;
+
+import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeCitizen;
+import com.epam.digital.data.platform.starter.security.annotation.PreAuthorizeOfficer;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.service.ProcessInstanceService;
+import io.swagger.v3.oas.annotations.Hidden;
+import io.swagger.v3.oas.annotations.Parameter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Process instance list endpoints that are served by the non-blocking BPMS client, the servlet
+ * thread is released while BPMS responds and the list is written as a regular response body.
+ * Mapped only for the requests without cursor, so they take precedence over the streamed lists of
+ * {@link ProcessInstanceController} which documents the endpoints.
+ */
+@Hidden
+@RestController
+@RequestMapping("/api")
+@ConditionalOnProperty(prefix = "bpms.reactive", name = "enabled", havingValue = "true")
+public class ReactiveProcessInstanceController {
+
+  @Autowired
+  private ProcessInstanceService processInstanceService;
+
+  @PreAuthorizeOfficer
+  @GetMapping(value = "/officer/process-instance", params = "!cursor")
+  public CompletableFuture<List<GetProcessInstanceResponse>> getOfficerProcessInstances(
+      @Parameter(hidden = true) Pageable page) {
+    return processInstanceService.getProcessInstancesAsync(page, SystemRole.OFFICER);
+  }
+
+  @PreAuthorizeCitizen
+  @GetMapping(value = "/citizen/process-instance", params = "!cursor")
+  public CompletableFuture<List<GetProcessInstanceResponse>> getCitizenProcessInstances(
+      @Parameter(hidden = true) Pageable page) {
+    return processInstanceService.getProcessInstancesAsync(page, SystemRole.CITIZEN);
+  }
+}
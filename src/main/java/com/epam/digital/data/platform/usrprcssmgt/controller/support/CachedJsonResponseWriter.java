@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.controller.support;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessDefinitionCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.util.SecurityContextUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Writes catalog responses (process definitions, their count and groups) that are identical for
+ * all the users with the same roles. The encoded JSON bytes and the strong ETag of the last
+ * response are kept per endpoint, request params and user roles and are reused while the response
+ * body is not changed, so repeated requests are neither serialized again nor sent to the client if
+ * {@code If-None-Match} header matches.
+ * <p>
+ * The responses are bounded and expired by the process definition catalog cache settings, and are
+ * dropped together with the catalog cache by {@link #invalidateAll()}.
+ */
+@Slf4j
+@Component
+public class CachedJsonResponseWriter {
+
+  private final ObjectMapper objectMapper;
+  private final Cache<List<Object>, CachedJsonResponse> responses;
+
+  public CachedJsonResponseWriter(ObjectMapper objectMapper,
+      ProcessDefinitionCacheProperties cacheProperties) {
+    this.objectMapper = objectMapper;
+    this.responses = Caffeine.newBuilder()
+        .maximumSize(cacheProperties.getMaximumSize())
+        .expireAfterAccess(cacheProperties.getTimeToLive())
+        .build();
+  }
+
+  /**
+   * Writes the response body as JSON or responds with {@code 304 Not Modified} if the client
+   * already has the actual version of the body.
+   *
+   * @param name     the name of the response, e.g. endpoint name
+   * @param params   the request params the body was obtained by
+   * @param body     the response body
+   * @param request  the http request
+   * @param response the http response
+   */
+  public void write(String name, Object params, Object body, HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
+    var cachedResponse = getCachedResponse(name, params, body);
+    if (new ServletWebRequest(request, response).checkNotModified(cachedResponse.getEtag())) {
+      log.debug("Response {} is not modified", name);
+      return;
+    }
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(cachedResponse.getBody().length);
+    response.getOutputStream().write(cachedResponse.getBody());
+  }
+
+  CachedJsonResponse getCachedResponse(String name, Object params, Object body)
+      throws JsonProcessingException {
+    var key = List.of(name, params, SecurityContextUtils.getCurrentRoles());
+    var cachedResponse = responses.getIfPresent(key);
+    if (Objects.nonNull(cachedResponse) && cachedResponse.isSerializedFrom(body)) {
+      return cachedResponse;
+    }
+    log.debug("Serializing response {} with params {}", name, params);
+    var bytes = objectMapper.writeValueAsBytes(body);
+    cachedResponse = new CachedJsonResponse(body, bytes,
+        "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+    responses.put(key, cachedResponse);
+    return cachedResponse;
+  }
+
+  /**
+   * Drops all the encoded responses
+   */
+  public void invalidateAll() {
+    responses.invalidateAll();
+  }
+
+  /**
+   * Encoded response body together with the object it was serialized from. The source is compared
+   * by reference first as cached catalog data is returned as the same instance until it's changed.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  static class CachedJsonResponse {
+
+    private final Object source;
+    private final byte[] body;
+    private final String etag;
+
+    boolean isSerializedFrom(Object body) {
+      return source == body || source.equals(body);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.controller.support;
+
+import com.epam.digital.data.platform.usrprcssmgt.exception.ResponseAbortedException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes a JSON array response element by element, so only the {@link JsonGenerator} and servlet
+ * buffers are kept in memory regardless of the number of elements.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonArrayResponseWriter {
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Writes the elements passed by the producer to the response as a JSON array. If the producer
+   * fails before the response is committed, the written elements are discarded and the error is
+   * handled as usual. If it fails after that, {@link ResponseAbortedException} is thrown, so the
+   * connection is aborted and the client doesn't get a truncated array as a complete response.
+   *
+   * @param response the http response
+   * @param producer the producer that passes elements to the given consumer
+   * @param <T>      the element type
+   */
+  public <T> void write(HttpServletResponse response, Consumer<Consumer<T>> producer)
+      throws IOException {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    var generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+    generator.writeStartArray();
+    try {
+      producer.accept(element -> writeElement(generator, element));
+    } catch (RuntimeException exception) {
+      if (response.isCommitted()) {
+        throw new ResponseAbortedException("Response failed after it was committed", exception);
+      }
+      response.resetBuffer();
+      throw exception;
+    }
+    generator.writeEndArray();
+    generator.close();
+  }
+
+  private void writeElement(JsonGenerator generator, Object element) {
+    try {
+      generator.writeObject(element);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Couldn't write response element", exception);
+    }
+  }
+}
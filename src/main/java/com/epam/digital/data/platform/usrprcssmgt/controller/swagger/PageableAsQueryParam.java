@@ -50,6 +50,12 @@ import java.lang.annotation.Target;
     + " for descending order. Must be used in conjunction with the sortBy parameter."
     , name = "sortOrder"
     , schema = @Schema(type = "string"))
+@Parameter(in = ParameterIn.QUERY
+    , description = "Cursor pagination of results. Empty value requests the first page, the token of"
+    + " the next page is returned in X-Next-Cursor header. If it's set, firstResult, sortBy and"
+    + " sortOrder of the first page are kept for all the next pages."
+    , name = "cursor"
+    , schema = @Schema(type = "string"))
 public @interface PageableAsQueryParam {
 
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.exception.handler;
+
+import com.epam.digital.data.platform.usrprcssmgt.exception.ResponseAbortedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+/**
+ * The class represents a handler for {@link ResponseAbortedException}. It has precedence over the
+ * other handlers, as the generic ones would write an error body to the already committed response.
+ */
+@Slf4j
+@ControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ResponseAbortedExceptionHandler {
+
+  /**
+   * Catching {@link ResponseAbortedException} exception and rethrowing it, so no error body is
+   * written to the committed response and the servlet container aborts the connection
+   *
+   * @param ex caught exception
+   * @throws ResponseAbortedException always
+   */
+  @ExceptionHandler(ResponseAbortedException.class)
+  public void handleResponseAbortedException(ResponseAbortedException ex) {
+    log.error("Response is aborted after it was committed", ex);
+    throw ex;
+  }
+}
@@ -18,17 +18,30 @@ package com.epam.digital.data.platform.usrprcssmgt.exception.handler;
 
 import com.epam.digital.data.platform.starter.errorhandling.BaseRestExceptionHandler;
 import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.usrprcssmgt.exception.BatchSizeExceededException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.IdempotencyKeyReusedException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.IdempotentRequestInProgressException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.InvalidCursorException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.ProcessStartQueueFullException;
 import com.epam.digital.data.platform.usrprcssmgt.exception.StartFormException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.StartTicketNotFoundException;
+import com.epam.digital.data.platform.usrprcssmgt.util.ErrorStatuses;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 /**
- * The class represents a handler for exception. Contains a method to handle {@link
- * StartFormException} exception.
+ * The class represents a handler for exception. Contains methods to handle {@link
+ * StartFormException}, {@link BatchSizeExceededException}, {@link InvalidCursorException},
+ * {@link IdempotentRequestInProgressException}, {@link IdempotencyKeyReusedException},
+ * {@link ProcessStartQueueFullException}, {@link StartTicketNotFoundException},
+ * {@link WebClientResponseException} and downstream call rejection exceptions.
  */
 @Slf4j
 @ControllerAdvice
@@ -52,4 +65,158 @@ public class RestExceptionHandler {
     log.error("Start form does not exist", ex);
     return new ResponseEntity<>(systemErrorDto, HttpStatus.BAD_REQUEST);
   }
+
+  /**
+   * Catching {@link BatchSizeExceededException} exception and return response about too big batch
+   *
+   * @param ex caught exception
+   * @return response entity with error
+   */
+  @ExceptionHandler(BatchSizeExceededException.class)
+  public ResponseEntity<SystemErrorDto> handleBatchSizeExceededException(
+      BatchSizeExceededException ex) {
+    var systemErrorDto = SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .message(ex.getMessage())
+        .code(String.valueOf(HttpStatus.BAD_REQUEST.value()))
+        .localizedMessage(null)
+        .build();
+    log.error("Batch size is exceeded", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Catching {@link InvalidCursorException} exception and return response about malformed or
+   * outdated pagination cursor
+   *
+   * @param ex caught exception
+   * @return response entity with error
+   */
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<SystemErrorDto> handleInvalidCursorException(InvalidCursorException ex) {
+    var systemErrorDto = SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .message(ex.getMessage())
+        .code(String.valueOf(HttpStatus.BAD_REQUEST.value()))
+        .localizedMessage(null)
+        .build();
+    log.error("Pagination cursor is invalid", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Catching {@link IdempotentRequestInProgressException} exception and return response about
+   * conflicting request with the same idempotency key
+   *
+   * @param ex caught exception
+   * @return response entity with error
+   */
+  @ExceptionHandler(IdempotentRequestInProgressException.class)
+  public ResponseEntity<SystemErrorDto> handleIdempotentRequestInProgressException(
+      IdempotentRequestInProgressException ex) {
+    var systemErrorDto = SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .message(ex.getMessage())
+        .code(String.valueOf(HttpStatus.CONFLICT.value()))
+        .localizedMessage(null)
+        .build();
+    log.error("Request with the same idempotency key is in progress", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.CONFLICT);
+  }
+
+  /**
+   * Catching {@link IdempotencyKeyReusedException} exception and return response about
+   * idempotency key reused with another request body
+   *
+   * @param ex caught exception
+   * @return response entity with error
+   */
+  @ExceptionHandler(IdempotencyKeyReusedException.class)
+  public ResponseEntity<SystemErrorDto> handleIdempotencyKeyReusedException(
+      IdempotencyKeyReusedException ex) {
+    var systemErrorDto = SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .message(ex.getMessage())
+        .code(String.valueOf(HttpStatus.UNPROCESSABLE_ENTITY.value()))
+        .localizedMessage(null)
+        .build();
+    log.error("Idempotency key is reused with another request body", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.UNPROCESSABLE_ENTITY);
+  }
+
+  /**
+   * Catching {@link ProcessStartQueueFullException} exception and return response about rejected
+   * process instance start
+   *
+   * @param ex caught exception
+   * @return response entity with error
+   */
+  @ExceptionHandler(ProcessStartQueueFullException.class)
+  public ResponseEntity<SystemErrorDto> handleProcessStartQueueFullException(
+      ProcessStartQueueFullException ex) {
+    var systemErrorDto = SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .message(ex.getMessage())
+        .code(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()))
+        .localizedMessage(null)
+        .build();
+    log.error("Process start queue is full", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  /**
+   * Catching {@link StartTicketNotFoundException} exception and return response about missing
+   * process instance start ticket
+   *
+   * @param ex caught exception
+   * @return response entity with error
+   */
+  @ExceptionHandler(StartTicketNotFoundException.class)
+  public ResponseEntity<SystemErrorDto> handleStartTicketNotFoundException(
+      StartTicketNotFoundException ex) {
+    var systemErrorDto = SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .message(ex.getMessage())
+        .code(String.valueOf(HttpStatus.NOT_FOUND.value()))
+        .localizedMessage(null)
+        .build();
+    log.error("Process instance start ticket is not found", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.NOT_FOUND);
+  }
+
+  /**
+   * Catching {@link WebClientResponseException} exception of non-blocking BPMS client and return
+   * response with the status of BPMS response. It's mapped by {@link ErrorStatuses} the same way as
+   * {@code FeignException} of the blocking client, BPMS response body isn't exposed.
+   *
+   * @param ex caught exception
+   * @return response entity with error
+   */
+  @ExceptionHandler(WebClientResponseException.class)
+  public ResponseEntity<SystemErrorDto> handleWebClientResponseException(
+      WebClientResponseException ex) {
+    var systemErrorDto = ErrorStatuses.toSystemError(ex);
+    log.error("Bpms responded with error", ex);
+    return new ResponseEntity<>(systemErrorDto, ErrorStatuses.statusOf(ex));
+  }
+
+  /**
+   * Catching {@link CallNotPermittedException} and {@link BulkheadFullException} exceptions of a
+   * downstream call rejected by its circuit breaker or bulkhead and return response about
+   * unavailable service
+   *
+   * @param ex caught exception
+   * @return response entity with error
+   */
+  @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+  public ResponseEntity<SystemErrorDto> handleDownstreamCallRejection(RuntimeException ex) {
+    var systemErrorDto = SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .message(ex.getMessage())
+        .code(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()))
+        .localizedMessage(null)
+        .build();
+    log.error("Downstream call is rejected", ex);
+    return new ResponseEntity<>(systemErrorDto, HttpStatus.SERVICE_UNAVAILABLE);
+  }
 }
@@ -19,8 +19,10 @@ package com.epam.digital.data.platform.usrprcssmgt.i18n;
 import com.epam.digital.data.platform.bpms.api.dto.enums.DdmProcessInstanceStatus;
 import com.epam.digital.data.platform.starter.localization.MessageTitle;
 import com.epam.digital.data.platform.starter.security.SystemRole;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -45,20 +47,43 @@ public enum ProcessInstanceStatusMessageTitle implements MessageTitle {
   CITIZEN_IN_PROGRESS(DdmProcessInstanceStatus.ACTIVE, SystemRole.CITIZEN,
       "process-instance.status.title.citizen-in-progress");
 
+  private static final Map<DdmProcessInstanceStatus,
+      Map<SystemRole, ProcessInstanceStatusMessageTitle>> TITLES_BY_STATUS_AND_ROLE =
+      buildTitlesByStatusAndRole();
+
   private final DdmProcessInstanceStatus processInstanceStatus;
   private final SystemRole systemRole;
   private final String titleKey;
 
   public static ProcessInstanceStatusMessageTitle from(
       DdmProcessInstanceStatus processInstanceStatus, SystemRole systemRole) {
+    if (Objects.isNull(processInstanceStatus) || Objects.isNull(systemRole)) {
+      return null;
+    }
+    return TITLES_BY_STATUS_AND_ROLE.getOrDefault(processInstanceStatus, Map.of()).get(systemRole);
+  }
 
-    return Stream.of(values())
-        .filter(message -> message.getProcessInstanceStatus().equals(processInstanceStatus))
-        .filter(message -> Objects.isNull(message.getSystemRole())
-            || message.getSystemRole().equals(systemRole))
-        .reduce((messageTitle, messageTitle2) -> {
+  /**
+   * Builds the status and role lookup table once, so {@link #from} is called for every process
+   * instance in a list without scanning the values. A title without role matches every role.
+   */
+  private static Map<DdmProcessInstanceStatus, Map<SystemRole, ProcessInstanceStatusMessageTitle>>
+      buildTitlesByStatusAndRole() {
+    var titles =
+        new EnumMap<DdmProcessInstanceStatus, Map<SystemRole, ProcessInstanceStatusMessageTitle>>(
+            DdmProcessInstanceStatus.class);
+    for (var title : values()) {
+      var titlesByRole = titles.computeIfAbsent(title.getProcessInstanceStatus(),
+          status -> new EnumMap<>(SystemRole.class));
+      var roles = Objects.isNull(title.getSystemRole()) ? SystemRole.values()
+          : new SystemRole[]{title.getSystemRole()};
+      for (var role : roles) {
+        if (Objects.nonNull(titlesByRole.put(role, title))) {
           throw new IllegalStateException("More than 1 message found");
-        })
-        .orElse(null);
+        }
+      }
+    }
+    titles.replaceAll((status, titlesByRole) -> Collections.unmodifiableMap(titlesByRole));
+    return Collections.unmodifiableMap(titles);
   }
 }
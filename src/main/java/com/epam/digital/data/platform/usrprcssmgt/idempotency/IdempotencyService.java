@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.idempotency;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.exception.IdempotencyKeyReusedException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.IdempotentRequestInProgressException;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+/**
+ * Deduplicates process instance starts by {@code Idempotency-Key} header. The key is scoped by the
+ * user and the process definition key, so different users can't get each other's results.
+ * <p>
+ * The first request with a key marks the key as in progress and starts the process instance, the
+ * result is kept in {@link IdempotencyStore} for the idempotency window and returned to the
+ * retried requests without calling BPMS. A request that comes while the first one is in progress
+ * is rejected with {@link IdempotentRequestInProgressException}. The hash of the request body is
+ * kept with the key, and a request that reuses the key with another body is rejected with
+ * {@link IdempotencyKeyReusedException}. If the start fails or its result couldn't be stored, the
+ * key is released, so the request could be retried. If the store is unavailable, the process
+ * instance is started without deduplication.
+ * <p>
+ * Requests are counted by {@code process.start.idempotent.requests} meter tagged by
+ * {@code outcome}: {@code started}, {@code replayed}, {@code in-progress} and {@code reused}.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+  public static final String IDEMPOTENT_REQUESTS_METRIC = "process.start.idempotent.requests";
+
+  private static final String IN_PROGRESS = "in-progress";
+  private static final String REUSED = "reused";
+
+  private final IdempotencyStore idempotencyStore;
+  private final ProcessStartProperties processStartProperties;
+  private final ObjectMapper objectMapper;
+  private final Counter started;
+  private final Counter replayed;
+  private final Counter inProgress;
+  private final Counter reused;
+
+  public IdempotencyService(IdempotencyStore idempotencyStore,
+      ProcessStartProperties processStartProperties, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.idempotencyStore = idempotencyStore;
+    this.processStartProperties = processStartProperties;
+    this.objectMapper = objectMapper;
+    this.started = requests("started", meterRegistry);
+    this.replayed = requests("replayed", meterRegistry);
+    this.inProgress = requests(IN_PROGRESS, meterRegistry);
+    this.reused = requests(REUSED, meterRegistry);
+  }
+
+  /**
+   * Starting the process instance once per idempotency key
+   *
+   * @param idempotencyKey       the {@code Idempotency-Key} header value
+   * @param processDefinitionKey the process definition key
+   * @param request              the request body, it has to be read before the start changes it
+   * @param authentication       the current user authentication
+   * @param start                the process instance start
+   * @return the started process instance, the same for all the requests with the key
+   * @throws IdempotentRequestInProgressException if a request with the key is in progress
+   * @throws IdempotencyKeyReusedException        if the key was used with another request body
+   */
+  public StartProcessInstanceResponse startOnce(String idempotencyKey,
+      String processDefinitionKey, Object request, Authentication authentication,
+      Supplier<StartProcessInstanceResponse> start) {
+    var properties = processStartProperties.getIdempotency();
+    var storeKey = IdempotencyKeys.of(authentication.getName(), processDefinitionKey,
+        idempotencyKey);
+    var requestHash = IdempotencyKeys.of(toJson(request));
+    String existingValue;
+    try {
+      existingValue = idempotencyStore.putIfAbsent(storeKey,
+          toJson(new Entry(requestHash, null)), properties.getInProgressTimeout());
+    } catch (RuntimeException exception) {
+      log.warn("Idempotency store is unavailable, starting process instance without deduplication",
+          exception);
+      return start.get();
+    }
+    if (Objects.nonNull(existingValue)) {
+      return replay(fromJson(existingValue), requestHash);
+    }
+
+    StartProcessInstanceResponse result;
+    try {
+      result = start.get();
+    } catch (RuntimeException | Error exception) {
+      releaseKey(storeKey);
+      throw exception;
+    }
+    started.increment();
+    try {
+      idempotencyStore.put(storeKey, toJson(new Entry(requestHash, result)),
+          properties.getWindow());
+    } catch (RuntimeException exception) {
+      log.warn("Couldn't store process instance start result in idempotency store", exception);
+      releaseKey(storeKey);
+    }
+    return result;
+  }
+
+  private StartProcessInstanceResponse replay(Entry entry, String requestHash) {
+    if (!requestHash.equals(entry.getRequestHash())) {
+      reused.increment();
+      throw new IdempotencyKeyReusedException(
+          "Idempotency-Key has already been used with another request body");
+    }
+    if (Objects.isNull(entry.getResult())) {
+      inProgress.increment();
+      throw new IdempotentRequestInProgressException(
+          "Request with the same Idempotency-Key is in progress");
+    }
+    log.info("Returning process instance started by request with the same Idempotency-Key");
+    replayed.increment();
+    return entry.getResult();
+  }
+
+  private void releaseKey(String storeKey) {
+    try {
+      idempotencyStore.remove(storeKey);
+    } catch (RuntimeException exception) {
+      log.warn("Couldn't release idempotency key, it's released after in-progress timeout",
+          exception);
+    }
+  }
+
+  private String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException exception) {
+      throw new IllegalStateException("Couldn't serialize idempotency entry", exception);
+    }
+  }
+
+  private Entry fromJson(String value) {
+    try {
+      return objectMapper.readValue(value, Entry.class);
+    } catch (JsonProcessingException exception) {
+      throw new IllegalStateException("Couldn't deserialize idempotency entry", exception);
+    }
+  }
+
+  private static Counter requests(String outcome, MeterRegistry meterRegistry) {
+    return Counter.builder(IDEMPOTENT_REQUESTS_METRIC)
+        .description("Number of process instance start requests with Idempotency-Key")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Idempotency store entry, the result is {@code null} while the start is in progress
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class Entry {
+
+    private String requestHash;
+    private StartProcessInstanceResponse result;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Store of idempotent request states by request key. Entries expire after the given time to live.
+ */
+public interface IdempotencyStore {
+
+  /**
+   * Getting the value by the key
+   *
+   * @param key the request key
+   * @return the value or {@code null} if there is no value or it has expired
+   */
+  String get(String key);
+
+  /**
+   * Putting the value if there is no value by the key
+   *
+   * @param key   the request key
+   * @param value the value to put
+   * @param ttl   the value time to live
+   * @return the existing value or {@code null} if the value is put
+   */
+  String putIfAbsent(String key, String value, Duration ttl);
+
+  /**
+   * Putting the value replacing the existing one
+   *
+   * @param key   the request key
+   * @param value the value to put
+   * @param ttl   the value time to live
+   */
+  void put(String key, String value, Duration ttl);
+
+  /**
+   * Removing the value by the key
+   *
+   * @param key the request key
+   */
+  void remove(String key);
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.Value;
+
+/**
+ * Idempotency store that keeps the entries in the pod memory, a retried request is recognized only
+ * if it gets to the same pod. The least recently used entries are evicted if there are more than
+ * the maximum number of entries.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  private final Cache<String, Entry> entries;
+
+  public InMemoryIdempotencyStore(long maximumSize, Duration maximumTtl) {
+    this.entries = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(maximumTtl)
+        .build();
+  }
+
+  @Override
+  public String get(String key) {
+    var entry = entries.getIfPresent(key);
+    return Objects.nonNull(entry) && !entry.isExpired(System.nanoTime()) ? entry.getValue() : null;
+  }
+
+  @Override
+  public String putIfAbsent(String key, String value, Duration ttl) {
+    var now = System.nanoTime();
+    var newEntry = new Entry(value, now + ttl.toNanos());
+    var entry = entries.asMap().compute(key,
+        (k, existing) -> Objects.nonNull(existing) && !existing.isExpired(now) ? existing
+            : newEntry);
+    return entry == newEntry ? null : entry.getValue();
+  }
+
+  @Override
+  public void put(String key, String value, Duration ttl) {
+    entries.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+  }
+
+  @Override
+  public void remove(String key) {
+    entries.invalidate(key);
+  }
+
+  @Value
+  private static class Entry {
+
+    String value;
+    long expiresAt;
+
+    boolean isExpired(long now) {
+      return now - expiresAt >= 0;
+    }
+  }
+}
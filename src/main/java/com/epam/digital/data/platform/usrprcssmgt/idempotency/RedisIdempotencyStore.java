@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.idempotency;
+
+import com.epam.digital.data.platform.usrprcssmgt.storage.RedisCommandPipeline;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+
+/**
+ * Idempotency store that keeps the entries in redis, so a retried request is recognized by any
+ * pod.
+ * <p>
+ * The existing entry could expire between the conditional set and the read, so
+ * {@link #putIfAbsent(String, String, Duration)} retries a few times and then fails with
+ * {@link IllegalStateException}. The conditional set isn't repeated if its redis pipeline fails,
+ * as the repeated set would find the entry of the same request.
+ */
+@RequiredArgsConstructor
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+  private static final String KEY_PREFIX = "idempotency:";
+  private static final int PUT_IF_ABSENT_ATTEMPTS = 3;
+
+  private final RedisCommandPipeline redisCommandPipeline;
+
+  @Override
+  public String get(String key) {
+    return redisCommandPipeline.executeRepeatable(connection -> connection.get(KEY_PREFIX + key));
+  }
+
+  @Override
+  public String putIfAbsent(String key, String value, Duration ttl) {
+    for (var attempt = 0; attempt < PUT_IF_ABSENT_ATTEMPTS; attempt++) {
+      if (Boolean.TRUE.equals(redisCommandPipeline.execute(connection -> connection.set(
+          KEY_PREFIX + key, value, Expiration.milliseconds(ttl.toMillis()),
+          SetOption.SET_IF_ABSENT)))) {
+        return null;
+      }
+      var existingValue = get(key);
+      // the existing value could expire between the calls
+      if (Objects.nonNull(existingValue)) {
+        return existingValue;
+      }
+    }
+    throw new IllegalStateException(
+        "Couldn't put idempotency entry in " + PUT_IF_ABSENT_ATTEMPTS + " attempts");
+  }
+
+  @Override
+  public void put(String key, String value, Duration ttl) {
+    redisCommandPipeline.executeRepeatable(connection -> connection.set(KEY_PREFIX + key, value,
+        Expiration.milliseconds(ttl.toMillis()), SetOption.UPSERT));
+  }
+
+  @Override
+  public void remove(String key) {
+    redisCommandPipeline.executeRepeatable(connection -> connection.del(KEY_PREFIX + key));
+  }
+}
@@ -24,7 +24,10 @@ import com.epam.digital.data.platform.usrprcssmgt.i18n.ProcessInstanceStatusMess
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.camunda.bpm.engine.rest.dto.runtime.ProcessInstanceDto;
 import org.mapstruct.Context;
 import org.mapstruct.IterableMapping;
@@ -33,6 +36,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
 
 /**
  * The class represents a mapper for process instance entity. The interface contains a methods for
@@ -41,11 +45,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public abstract class ProcessInstanceMapper {
 
+  /**
+   * Maximum number of locales which status titles are kept, titles of other locales are resolved
+   * on every call.
+   */
+  static final int MAX_STATUS_TITLE_LOCALES = 16;
+
+  private final Map<Locale, Map<ProcessInstanceStatusMessageTitle, String>> statusTitles =
+      new ConcurrentHashMap<>();
+
   @Autowired
   private MessageResolver messageResolver;
 
   /**
-   * Method for converting BPMS {@link DdmProcessInstanceStatus} to localized title base by role
+   * Method for converting BPMS {@link DdmProcessInstanceStatus} to localized title base by role.
+   * Localized titles are resolved once per locale, so mapping of a process instance list doesn't
+   * resolve the same message for every instance.
    *
    * @param processInstanceStatus the process instance status
    * @param systemRole            the role
@@ -55,8 +70,18 @@ public abstract class ProcessInstanceMapper {
   public String toStatusTitle(DdmProcessInstanceStatus processInstanceStatus,
       @Context SystemRole systemRole) {
     var code = ProcessInstanceStatusMessageTitle.from(processInstanceStatus, systemRole);
-
-    return Objects.isNull(code) ? null : messageResolver.getMessage(code);
+    if (Objects.isNull(code)) {
+      return null;
+    }
+    var locale = LocaleContextHolder.getLocale();
+    var localeTitles = statusTitles.get(locale);
+    if (Objects.isNull(localeTitles)) {
+      if (statusTitles.size() >= MAX_STATUS_TITLE_LOCALES) {
+        return messageResolver.getMessage(code);
+      }
+      localeTitles = statusTitles.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+    }
+    return localeTitles.computeIfAbsent(code, messageResolver::getMessage);
   }
 
   /**
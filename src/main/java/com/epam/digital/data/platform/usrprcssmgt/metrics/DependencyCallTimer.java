@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.metrics;
+
+import com.epam.digital.data.platform.starter.errorhandling.exception.ValidationException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.StartFormException;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuard;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times the calls of one downstream dependency. Every call is recorded by {@code outbound.call}
+ * timer with percentile histogram tagged by {@code dependency}, {@code operation} and
+ * {@code outcome}, the outcome is {@code SUCCESS}, {@code CLIENT_ERROR} or {@code SERVER_ERROR}
+ * by the response status, or {@code UNKNOWN} if no response has been got (e.g. timeout). Calls are
+ * made through the {@link DownstreamGuard} of the dependency, calls rejected by it aren't timed.
+ * Non-blocking calls are guarded and timed from the subscription to the result, a cancelled call
+ * is recorded as {@code UNKNOWN}.
+ */
+public class DependencyCallTimer {
+
+  public static final String OUTBOUND_CALL_METRIC = "outbound.call";
+
+  public static final String BPMS = "bpms";
+  public static final String FORM_VALIDATION = "form-validation";
+  public static final String FORM_DATA_STORAGE = "form-data-storage";
+
+  public static final String SUCCESS = "SUCCESS";
+  public static final String CLIENT_ERROR = "CLIENT_ERROR";
+  public static final String SERVER_ERROR = "SERVER_ERROR";
+  public static final String UNKNOWN = "UNKNOWN";
+  public static final String REJECTED = "REJECTED";
+
+  private final String dependency;
+  private final MeterRegistry meterRegistry;
+  private final DownstreamGuard guard;
+
+  public DependencyCallTimer(String dependency, MeterRegistry meterRegistry,
+      DownstreamGuard guard) {
+    this.dependency = dependency;
+    this.meterRegistry = meterRegistry;
+    this.guard = guard;
+  }
+
+  /**
+   * Calling the dependency and recording the call time
+   *
+   * @param operation the called operation
+   * @param call      the call
+   * @param <T>       the call result type
+   * @return the call result
+   */
+  public <T> T record(String operation, Supplier<T> call) {
+    return guard.execute(() -> time(operation, call));
+  }
+
+  /**
+   * Calling the dependency and recording the call time
+   *
+   * @param operation the called operation
+   * @param call      the call
+   */
+  public void record(String operation, Runnable call) {
+    record(operation, () -> {
+      call.run();
+      return null;
+    });
+  }
+
+  /**
+   * Guarding the non-blocking dependency call and recording its time, to be used with
+   * {@link Mono#transform(java.util.function.Function)}
+   *
+   * @param operation the called operation
+   * @param call      the call
+   * @param <T>       the call result type
+   * @return the timed call
+   */
+  public <T> Mono<T> record(String operation, Mono<T> call) {
+    return guard.execute(time(operation, call));
+  }
+
+  private <T> Mono<T> time(String operation, Mono<T> call) {
+    return Mono.defer(() -> {
+      var sample = Timer.start(meterRegistry);
+      return call
+          .doOnSuccess(result -> sample.stop(timer(operation, SUCCESS)))
+          .doOnError(exception -> sample.stop(timer(operation, outcome(exception))))
+          .doOnCancel(() -> sample.stop(timer(operation, UNKNOWN)));
+    });
+  }
+
+  private <T> T time(String operation, Supplier<T> call) {
+    var sample = Timer.start(meterRegistry);
+    try {
+      var result = call.get();
+      sample.stop(timer(operation, SUCCESS));
+      return result;
+    } catch (RuntimeException exception) {
+      sample.stop(timer(operation, outcome(exception)));
+      throw exception;
+    }
+  }
+
+  private Timer timer(String operation, String outcome) {
+    return Timer.builder(OUTBOUND_CALL_METRIC)
+        .description("Time of the calls to downstream dependencies")
+        .tag("dependency", dependency)
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  /**
+   * Getting the outcome of the failed call
+   *
+   * @param exception the call exception
+   * @return {@code CLIENT_ERROR}, {@code SERVER_ERROR}, {@code REJECTED} if the call was rejected
+   * by {@link DownstreamGuard} or {@code UNKNOWN}
+   */
+  public static String outcome(Throwable exception) {
+    if (DownstreamGuard.isRejection(exception)) {
+      return REJECTED;
+    }
+    if (exception instanceof ValidationException || exception instanceof StartFormException) {
+      return CLIENT_ERROR;
+    }
+    var status = -1;
+    if (exception instanceof FeignException) {
+      status = ((FeignException) exception).status();
+    } else if (exception instanceof WebClientResponseException) {
+      status = ((WebClientResponseException) exception).getRawStatusCode();
+    }
+    if (status >= 500) {
+      return SERVER_ERROR;
+    }
+    return status >= 400 ? CLIENT_ERROR : UNKNOWN;
+  }
+}
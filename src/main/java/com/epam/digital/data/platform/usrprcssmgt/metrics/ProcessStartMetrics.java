@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.metrics;
+
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Metrics of the process start pipeline. Every stage is recorded by {@code process.start.stage}
+ * timer tagged by {@code stage} and {@code outcome}, so it's seen which stage the start time is
+ * spent on, form validation and form data storage calls made by the stages are timed as
+ * {@link DependencyCallTimer outbound calls}.
+ */
+@Component
+public class ProcessStartMetrics {
+
+  public static final String STAGE_METRIC = "process.start.stage";
+
+  public static final String GET_PROCESS_DEFINITION = "get-process-definition";
+  public static final String VALIDATE_FORM_DATA = "validate-form-data";
+  public static final String STORE_FORM_DATA = "store-form-data";
+  public static final String START_PROCESS_INSTANCE = "start-process-instance";
+
+  private final MeterRegistry meterRegistry;
+  @Getter
+  private final DependencyCallTimer formValidationCalls;
+  @Getter
+  private final DependencyCallTimer formDataStorageCalls;
+
+  public ProcessStartMetrics(MeterRegistry meterRegistry, DownstreamGuards downstreamGuards) {
+    this.meterRegistry = meterRegistry;
+    this.formValidationCalls = new DependencyCallTimer(DependencyCallTimer.FORM_VALIDATION,
+        meterRegistry, downstreamGuards.get(DependencyCallTimer.FORM_VALIDATION));
+    this.formDataStorageCalls = new DependencyCallTimer(DependencyCallTimer.FORM_DATA_STORAGE,
+        meterRegistry, downstreamGuards.get(DependencyCallTimer.FORM_DATA_STORAGE));
+  }
+
+  /**
+   * Running the process start stage and recording its time
+   *
+   * @param stage the stage name
+   * @param task  the stage
+   * @param <T>   the stage result type
+   * @return the stage result
+   */
+  public <T> T recordStage(String stage, Supplier<T> task) {
+    var sample = Timer.start(meterRegistry);
+    try {
+      var result = task.get();
+      sample.stop(stageTimer(stage, DependencyCallTimer.SUCCESS));
+      return result;
+    } catch (RuntimeException exception) {
+      sample.stop(stageTimer(stage, DependencyCallTimer.outcome(exception)));
+      throw exception;
+    }
+  }
+
+  /**
+   * Running the process start stage and recording its time
+   *
+   * @param stage the stage name
+   * @param task  the stage
+   */
+  public void recordStage(String stage, Runnable task) {
+    recordStage(stage, () -> {
+      task.run();
+      return null;
+    });
+  }
+
+  /**
+   * Recording the time of the non-blocking process start stage, to be used with
+   * {@link Mono#transform(java.util.function.Function)}
+   *
+   * @param stage the stage name
+   * @param task  the stage
+   * @param <T>   the stage result type
+   * @return the timed stage
+   */
+  public <T> Mono<T> recordStage(String stage, Mono<T> task) {
+    return Mono.defer(() -> {
+      var sample = Timer.start(meterRegistry);
+      return task
+          .doOnSuccess(result -> sample.stop(stageTimer(stage, DependencyCallTimer.SUCCESS)))
+          .doOnError(exception -> sample.stop(
+              stageTimer(stage, DependencyCallTimer.outcome(exception))))
+          .doOnCancel(() -> sample.stop(stageTimer(stage, DependencyCallTimer.UNKNOWN)));
+    });
+  }
+
+  private Timer stageTimer(String stage, String outcome) {
+    return Timer.builder(STAGE_METRIC)
+        .description("Time of the process start stages")
+        .tag("stage", stage)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
@@ -35,4 +35,10 @@ public class Pageable {
   private Integer maxResults;
   private String sortBy;
   private String sortOrder;
+  /**
+   * Opaque continuation token returned in the previous page, an empty value requests the first page
+   * of cursor pagination. If it's set, {@link #firstResult}, {@link #sortBy} and {@link #sortOrder}
+   * are taken from the token.
+   */
+  private String cursor;
 }
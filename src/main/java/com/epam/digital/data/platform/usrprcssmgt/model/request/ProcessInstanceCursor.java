@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.model.request;
+
+import com.epam.digital.data.platform.usrprcssmgt.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The class represents a decoded continuation token of process instance cursor pagination. The
+ * token keeps the sort key the pages are read with, the id of the last returned process instance
+ * and the position after it. It's an offset with an anchor, not a keyset cursor, as BPMS supports
+ * offset pagination only.
+ */
+@Value
+@Builder
+public class ProcessInstanceCursor {
+
+  private static final String VERSION = "1";
+  private static final String SEPARATOR = "\n";
+  private static final int FIELDS_COUNT = 5;
+
+  String sortBy;
+  String sortOrder;
+  String lastId;
+  int position;
+
+  /**
+   * Encodes the cursor to an url-safe opaque token
+   *
+   * @return the token
+   */
+  public String encode() {
+    var value = String.join(SEPARATOR, VERSION, Objects.toString(sortBy, ""),
+        Objects.toString(sortOrder, ""), lastId, String.valueOf(position));
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes the cursor from the token returned by {@link #encode()}
+   *
+   * @param token the token
+   * @return the cursor
+   * @throws InvalidCursorException if the token is malformed
+   */
+  public static ProcessInstanceCursor decode(String token) {
+    try {
+      var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      var fields = value.split(SEPARATOR, -1);
+      if (fields.length != FIELDS_COUNT || !VERSION.equals(fields[0]) || fields[3].isEmpty()) {
+        throw new InvalidCursorException("Invalid process instance cursor");
+      }
+      var position = Integer.parseInt(fields[4]);
+      if (position < 0) {
+        throw new InvalidCursorException("Invalid process instance cursor");
+      }
+      return ProcessInstanceCursor.builder()
+          .sortBy(fields[1].isEmpty() ? null : fields[1])
+          .sortOrder(fields[2].isEmpty() ? null : fields[2])
+          .lastId(fields[3])
+          .position(position)
+          .build();
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidCursorException("Invalid process instance cursor");
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.model.response;
+
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of an accepted asynchronous process instance start. Contains started process instance if
+ * the status is {@code STARTED} and the error if it's {@code FAILED}.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartProcessInstanceTicketResponse {
+
+  private String ticketId;
+  private String processDefinitionKey;
+  private Status status;
+  private StartProcessInstanceResponse result;
+  private SystemErrorDto error;
+
+  public enum Status {
+    ACCEPTED,
+    STARTED,
+    FAILED
+  }
+}
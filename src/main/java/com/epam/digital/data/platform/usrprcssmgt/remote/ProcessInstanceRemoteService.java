@@ -21,6 +21,7 @@ import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service for {@link GetProcessInstanceResponse} entity. Contains methods for accessing finished
@@ -44,4 +45,16 @@ public interface ProcessInstanceRemoteService {
    * @return a list of unfinished process instances.
    */
   List<GetProcessInstanceResponse> getProcessInstances(Pageable page, SystemRole systemRole);
+
+  /**
+   * Method for streaming unfinished process instances. Process instances are passed to the
+   * consumer one by one while the BPMS response is read, so the whole page is never kept in
+   * memory.
+   *
+   * @param page       defines the pagination parameters to shrink result lust
+   * @param systemRole current user role
+   * @param consumer   the consumer of process instances
+   */
+  void streamProcessInstances(Pageable page, SystemRole systemRole,
+      Consumer<GetProcessInstanceResponse> consumer);
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote;
+
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link ProcessDefinitionRemoteService} process instance start. Process
+ * definition reads are served from the local catalog cache and aren't part of it. The calls are
+ * made on behalf of the user that is authenticated when a method is called.
+ */
+public interface ReactiveProcessDefinitionRemoteService {
+
+  /**
+   * Starting process instance by process definition key with start form data key
+   *
+   * @param key         process definition key
+   * @param formDataKey the key of the start form data in the form data storage
+   * @return process instance entity
+   */
+  Mono<StartProcessInstanceResponse> startProcessInstance(String key, String formDataKey);
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.client;
+
+import com.epam.digital.data.platform.bpms.api.dto.DdmProcessInstanceQueryDto;
+import com.epam.digital.data.platform.bpms.api.dto.PaginationQueryDto;
+import feign.Response;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.SpringQueryMap;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * BPMS process instance client that returns the raw response, so the process instance list can be
+ * parsed while it's read from the connection. It calls the same endpoint as {@code
+ * ProcessInstanceRestClient#getProcessInstances}.
+ */
+@FeignClient(name = "bpm-process-instance-stream-client", url = "${bpms.url}/api/extended/process-instance")
+public interface ProcessInstanceStreamRestClient {
+
+  /**
+   * Method for getting unfinished process instances. The response body has to be closed by the
+   * caller.
+   *
+   * @param queryDto           the process instance query
+   * @param paginationQueryDto the pagination parameters
+   * @return raw BPMS response
+   */
+  @PostMapping
+  Response getProcessInstances(@RequestBody DdmProcessInstanceQueryDto queryDto,
+      @SpringQueryMap PaginationQueryDto paginationQueryDto);
+}
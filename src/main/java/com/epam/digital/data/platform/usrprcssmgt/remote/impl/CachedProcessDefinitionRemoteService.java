@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.CountCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessDefinitionCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessDefinitionRemoteService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Process definition catalog cache that is placed in front of {@link
+ * ProcessDefinitionRemoteServiceImpl}. Process definitions are changed only on business process
+ * deploy, so the definition list and definitions by key are kept locally for the configured time
+ * and can be dropped explicitly with {@link CachedProcessDefinitionRemoteService#invalidate()}.
+ * BPMS filters process definitions by user roles, so cached entries are shared only between users
+ * with the same set of roles.
+ * <p>
+ * Definitions by key (id, form key and suspension state used on process start) are revalidated in
+ * the background after the configured refresh time or when a reloaded definition list contains
+ * another version of the definition, so process start is not blocked by the definition lookup.
+ * The definition is dropped if the process start fails.
+ * <p>
+ * Process definition counts are cached for a short time with {@link CountCache} if
+ * {@code cache.count.enabled}. Starting process instances is always delegated to BPMS.
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "cache.process-definition", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachedProcessDefinitionRemoteService implements ProcessDefinitionRemoteService {
+
+  public static final String PROCESS_DEFINITIONS_CACHE = "process-definitions";
+  public static final String PROCESS_DEFINITION_BY_KEY_CACHE = "process-definition-by-key";
+  public static final String PROCESS_DEFINITIONS_COUNT_CACHE = "process-definitions-count";
+
+  private final ProcessDefinitionRemoteServiceImpl processDefinitionRemoteService;
+
+  private final Cache<RoleScopedKey<GetProcessDefinitionsParams>, List<ProcessDefinitionResponse>> processDefinitions;
+  private final LoadingCache<RoleScopedKey<String>, ProcessDefinitionResponse> processDefinitionsByKey;
+  private final CountCache<RoleScopedKey<GetProcessDefinitionsParams>> processDefinitionsCount;
+
+  public CachedProcessDefinitionRemoteService(
+      ProcessDefinitionRemoteServiceImpl processDefinitionRemoteService,
+      ProcessDefinitionCacheProperties cacheProperties, CountCacheProperties countCacheProperties,
+      MeterRegistry meterRegistry, CurrentTraceContext currentTraceContext) {
+    this.processDefinitionRemoteService = processDefinitionRemoteService;
+    this.processDefinitions = CaffeineCacheMetrics.monitor(meterRegistry,
+        Caffeine.newBuilder()
+            .maximumSize(cacheProperties.getMaximumSize())
+            .expireAfterWrite(cacheProperties.getTimeToLive())
+            .recordStats()
+            .build(), PROCESS_DEFINITIONS_CACHE);
+    // background reloads are done on behalf of the user whose request triggered them
+    this.processDefinitionsByKey = CaffeineCacheMetrics.monitor(meterRegistry,
+        Caffeine.newBuilder()
+            .maximumSize(cacheProperties.getMaximumSize())
+            .expireAfterWrite(cacheProperties.getTimeToLive())
+            .refreshAfterWrite(cacheProperties.getRefreshAfterWrite())
+            .executor(new DelegatingSecurityContextExecutor(
+                currentTraceContext.executor(ForkJoinPool.commonPool())))
+            .recordStats()
+            .<RoleScopedKey<String>, ProcessDefinitionResponse>build(
+                k -> processDefinitionRemoteService.getProcessDefinitionByKey(k.getValue())),
+        PROCESS_DEFINITION_BY_KEY_CACHE);
+    this.processDefinitionsCount = countCacheProperties.isEnabled()
+        ? new CountCache<>(PROCESS_DEFINITIONS_COUNT_CACHE, countCacheProperties, meterRegistry,
+            currentTraceContext,
+            k -> processDefinitionRemoteService.countProcessDefinitions(k.getValue()))
+        : null;
+  }
+
+  @Override
+  public ProcessDefinitionResponse getProcessDefinitionByKey(String key) {
+    return processDefinitionsByKey.get(RoleScopedKey.of(key));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned list is unmodifiable and the same instance is returned until the cache entry is
+   * expired or invalidated, so it can be used as a version marker of the catalog.
+   */
+  @Override
+  public List<ProcessDefinitionResponse> getProcessDefinitions(GetProcessDefinitionsParams params) {
+    return processDefinitions.get(RoleScopedKey.of(params), this::loadProcessDefinitions);
+  }
+
+  @Override
+  public CountResponse countProcessDefinitions(GetProcessDefinitionsParams params) {
+    if (Objects.isNull(processDefinitionsCount)) {
+      return processDefinitionRemoteService.countProcessDefinitions(params);
+    }
+    return processDefinitionsCount.get(RoleScopedKey.of(params));
+  }
+
+  @Override
+  public StartProcessInstanceResponse startProcessInstance(String key) {
+    try {
+      return processDefinitionRemoteService.startProcessInstance(key);
+    } catch (RuntimeException exception) {
+      processDefinitionsByKey.invalidate(RoleScopedKey.of(key));
+      throw exception;
+    }
+  }
+
+  @Override
+  public StartProcessInstanceResponse startProcessInstance(String key, String formDataKey) {
+    try {
+      return processDefinitionRemoteService.startProcessInstance(key, formDataKey);
+    } catch (RuntimeException exception) {
+      processDefinitionsByKey.invalidate(RoleScopedKey.of(key));
+      throw exception;
+    }
+  }
+
+  /**
+   * Drops all the cached process definitions. Has to be called after business process deploy to
+   * make new process definitions visible before cache entries are expired.
+   */
+  public void invalidate() {
+    log.info("Invalidating process definition catalog cache");
+    processDefinitions.invalidateAll();
+    processDefinitionsByKey.invalidateAll();
+    if (Objects.nonNull(processDefinitionsCount)) {
+      processDefinitionsCount.invalidateAll();
+    }
+  }
+
+  private List<ProcessDefinitionResponse> loadProcessDefinitions(
+      RoleScopedKey<GetProcessDefinitionsParams> cacheKey) {
+    var result = List.copyOf(
+        processDefinitionRemoteService.getProcessDefinitions(cacheKey.getValue()));
+    result.forEach(processDefinition -> {
+      var byKeyCacheKey = RoleScopedKey.create(processDefinition.getKey(), cacheKey.getRoles());
+      var cachedProcessDefinition = processDefinitionsByKey.asMap().get(byKeyCacheKey);
+      if (Objects.nonNull(cachedProcessDefinition)
+          && !cachedProcessDefinition.equals(processDefinition)) {
+        log.debug("Process definition {} is changed, revalidating", processDefinition.getKey());
+        processDefinitionsByKey.refresh(byKeyCacheKey);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * @return estimated number of cached process definition lists, definitions by key and counts
+   */
+  public long estimatedSize() {
+    var countsSize = Objects.isNull(processDefinitionsCount) ? 0
+        : processDefinitionsCount.estimatedSize();
+    return processDefinitions.estimatedSize() + processDefinitionsByKey.estimatedSize()
+        + countsSize;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.CountCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessInstanceRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.util.SecurityContextUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Process instance count cache that is placed in front of {@link ProcessInstanceRemoteServiceImpl}.
+ * BPMS counts process instances of the token owner, so counts are cached per user name and set of
+ * roles (see {@link CountCache}). The access token isn't a part of the key, so a count is kept when
+ * the token is refreshed. Process instance lists are always delegated to BPMS.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "cache.count", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class CachedProcessInstanceRemoteService implements ProcessInstanceRemoteService {
+
+  public static final String PROCESS_INSTANCES_COUNT_CACHE = "process-instances-count";
+
+  private final ProcessInstanceRemoteServiceImpl processInstanceRemoteService;
+  private final CountCache<RoleScopedKey<String>> processInstancesCount;
+
+  public CachedProcessInstanceRemoteService(
+      ProcessInstanceRemoteServiceImpl processInstanceRemoteService,
+      CountCacheProperties cacheProperties, MeterRegistry meterRegistry,
+      CurrentTraceContext currentTraceContext) {
+    this.processInstanceRemoteService = processInstanceRemoteService;
+    this.processInstancesCount = new CountCache<>(PROCESS_INSTANCES_COUNT_CACHE, cacheProperties,
+        meterRegistry, currentTraceContext,
+        key -> processInstanceRemoteService.countProcessInstances());
+  }
+
+  @Override
+  public CountResponse countProcessInstances() {
+    var userName = SecurityContextUtils.getCurrentUserName();
+    return processInstancesCount.get(RoleScopedKey.of(userName));
+  }
+
+  @Override
+  public List<GetProcessInstanceResponse> getProcessInstances(Pageable page,
+      SystemRole systemRole) {
+    return processInstanceRemoteService.getProcessInstances(page, systemRole);
+  }
+
+  @Override
+  public void streamProcessInstances(Pageable page, SystemRole systemRole,
+      Consumer<GetProcessInstanceResponse> consumer) {
+    processInstanceRemoteService.streamProcessInstances(page, systemRole, consumer);
+  }
+}
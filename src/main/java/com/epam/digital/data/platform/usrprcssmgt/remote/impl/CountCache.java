@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.CountCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+
+/**
+ * Cache of BPMS counts that are polled by the portal badges. A count is reloaded in the background
+ * on behalf of the user whose request found it older than the refresh time, the stale count is
+ * returned meanwhile. A count older than the time to live is never returned.
+ * <p>
+ * Reloads are blocking BPMS calls, so they are run on a bounded executor of the cache instead of
+ * the common pool. If all the refresh threads are busy and the queue is full, the reload is skipped
+ * and the stale count is returned until the next request after the refresh time. Pool and queue
+ * metrics are published as {@code executor*} meters with {@code name=<cache name>-refresh} tag.
+ *
+ * @param <K> the count query key, all the data that the count depends on
+ */
+class CountCache<K> {
+
+  private final LoadingCache<K, CountResponse> counts;
+
+  CountCache(String name, CountCacheProperties cacheProperties, MeterRegistry meterRegistry,
+      CurrentTraceContext currentTraceContext, Function<K, CountResponse> loader) {
+    this.counts = CaffeineCacheMetrics.monitor(meterRegistry,
+        Caffeine.newBuilder()
+            .maximumSize(cacheProperties.getMaximumSize())
+            .expireAfterWrite(cacheProperties.getTimeToLive())
+            .refreshAfterWrite(cacheProperties.getRefreshAfterWrite())
+            .executor(new DelegatingSecurityContextExecutor(currentTraceContext.executor(
+                newRefreshExecutor(name, cacheProperties, meterRegistry))))
+            .recordStats()
+            .<K, CountResponse>build(loader::apply), name);
+  }
+
+  private static ExecutorService newRefreshExecutor(String name,
+      CountCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+    var executorName = name + "-refresh";
+    var executor = new ThreadPoolExecutor(cacheProperties.getRefreshThreads(),
+        cacheProperties.getRefreshThreads(), 60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(cacheProperties.getRefreshQueueCapacity()),
+        new CustomizableThreadFactory(executorName + "-"));
+    executor.allowCoreThreadTimeOut(true);
+    return ExecutorServiceMetrics.monitor(meterRegistry, executor, executorName);
+  }
+
+  CountResponse get(K key) {
+    return counts.get(key);
+  }
+
+  void invalidateAll() {
+    counts.invalidateAll();
+  }
+
+  long estimatedSize() {
+    return counts.estimatedSize();
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the last successfully loaded value by key and returns it instead of failing while the
+ * load is {@link DownstreamGuard#isRejection(Throwable) rejected} by the BPMS circuit breaker or
+ * bulkhead. Other failures are thrown as is. Returned fallbacks are counted by
+ * {@code catalog.fallbacks} meter tagged by {@code operation}.
+ *
+ * @param <K> the load key, all the data that the loaded value depends on
+ * @param <V> the loaded value
+ */
+@Slf4j
+class LastKnownGood<K, V> {
+
+  static final String FALLBACKS_METRIC = "catalog.fallbacks";
+
+  private final String operation;
+  private final Cache<K, V> values;
+  private final Counter fallbacks;
+
+  LastKnownGood(String operation, int maximumSize, MeterRegistry meterRegistry) {
+    this.operation = operation;
+    this.values = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    this.fallbacks = Counter.builder(FALLBACKS_METRIC)
+        .description("Number of last known good values returned instead of rejected BPMS calls")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  V get(K key, Supplier<V> loader) {
+    try {
+      var value = loader.get();
+      values.put(key, value);
+      return value;
+    } catch (RuntimeException exception) {
+      var lastKnownValue = DownstreamGuard.isRejection(exception)
+          ? values.getIfPresent(key) : null;
+      if (Objects.isNull(lastKnownValue)) {
+        throw exception;
+      }
+      log.warn("Bpms {} call is rejected, returning last known result", operation);
+      fallbacks.increment();
+      return lastKnownValue;
+    }
+  }
+}
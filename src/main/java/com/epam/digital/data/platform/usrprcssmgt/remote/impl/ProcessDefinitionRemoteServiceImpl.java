@@ -20,25 +20,36 @@ import com.epam.digital.data.platform.bpms.api.dto.DdmProcessDefinitionQueryDto;
 import com.epam.digital.data.platform.bpms.api.dto.enums.SortOrder;
 import com.epam.digital.data.platform.bpms.client.ProcessDefinitionRestClient;
 import com.epam.digital.data.platform.dataaccessor.sysvar.StartFormCephKeyVariable;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ResilienceProperties;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.BaseMapper;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessDefinitionMapper;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessInstanceMapper;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.DependencyCallTimer;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
 import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessDefinitionRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.HedgedCall;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.HedgedCalls;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.rest.dto.VariableValueDto;
 import org.camunda.bpm.engine.rest.dto.runtime.StartProcessInstanceDto;
 import org.springframework.stereotype.Service;
 
+/**
+ * Process definition remote service that calls BPMS. Concurrent identical process definition
+ * queries of the users with the same roles share one BPMS call (see {@link SingleFlight}), BPMS
+ * calls are timed by {@link DependencyCallTimer}, definition list and count reads are
+ * {@link HedgedCall hedged}. While BPMS calls are rejected by its circuit
+ * breaker or bulkhead, process definition lists and counts are served from {@link LastKnownGood}.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProcessDefinitionRemoteServiceImpl implements ProcessDefinitionRemoteService {
 
   private final ProcessDefinitionRestClient processDefinitionRestClient;
@@ -46,19 +57,72 @@ public class ProcessDefinitionRemoteServiceImpl implements ProcessDefinitionRemo
   private final BaseMapper baseMapper;
   private final ProcessDefinitionMapper processDefinitionMapper;
   private final ProcessInstanceMapper processInstanceMapper;
+  private final DependencyCallTimer bpmsCalls;
+
+  private final SingleFlight<RoleScopedKey<String>, ProcessDefinitionResponse> processDefinitionByKeyCalls;
+  private final SingleFlight<RoleScopedKey<GetProcessDefinitionsParams>, List<ProcessDefinitionResponse>> processDefinitionsCalls;
+  private final SingleFlight<RoleScopedKey<GetProcessDefinitionsParams>, CountResponse> processDefinitionsCountCalls;
+  private final LastKnownGood<RoleScopedKey<GetProcessDefinitionsParams>, List<ProcessDefinitionResponse>> lastKnownProcessDefinitions;
+  private final LastKnownGood<RoleScopedKey<GetProcessDefinitionsParams>, CountResponse> lastKnownProcessDefinitionsCounts;
+  private final HedgedCall processDefinitionsHedging;
+  private final HedgedCall processDefinitionsCountHedging;
+
+  public ProcessDefinitionRemoteServiceImpl(
+      ProcessDefinitionRestClient processDefinitionRestClient, BaseMapper baseMapper,
+      ProcessDefinitionMapper processDefinitionMapper, ProcessInstanceMapper processInstanceMapper,
+      MeterRegistry meterRegistry, DownstreamGuards downstreamGuards,
+      ResilienceProperties resilienceProperties, HedgedCalls hedgedCalls) {
+    this.processDefinitionRestClient = processDefinitionRestClient;
+    this.baseMapper = baseMapper;
+    this.processDefinitionMapper = processDefinitionMapper;
+    this.processInstanceMapper = processInstanceMapper;
+    this.bpmsCalls = new DependencyCallTimer(DependencyCallTimer.BPMS, meterRegistry,
+        downstreamGuards.get(DependencyCallTimer.BPMS));
+    this.processDefinitionByKeyCalls = new SingleFlight<>("get-process-definition-by-key",
+        meterRegistry);
+    this.processDefinitionsCalls = new SingleFlight<>("get-process-definitions", meterRegistry);
+    this.processDefinitionsCountCalls = new SingleFlight<>("count-process-definitions",
+        meterRegistry);
+    this.lastKnownProcessDefinitions = new LastKnownGood<>("get-process-definitions",
+        resilienceProperties.getCatalogFallbackMaximumSize(), meterRegistry);
+    this.lastKnownProcessDefinitionsCounts = new LastKnownGood<>("count-process-definitions",
+        resilienceProperties.getCatalogFallbackMaximumSize(), meterRegistry);
+    this.processDefinitionsHedging = hedgedCalls.get("get-process-definitions");
+    this.processDefinitionsCountHedging = hedgedCalls.get("count-process-definitions");
+  }
 
   @Override
   public ProcessDefinitionResponse getProcessDefinitionByKey(String key) {
+    return processDefinitionByKeyCalls.execute(RoleScopedKey.of(key),
+        () -> selectProcessDefinitionByKey(key));
+  }
+
+  @Override
+  public List<ProcessDefinitionResponse> getProcessDefinitions(GetProcessDefinitionsParams params) {
+    var key = RoleScopedKey.of(params);
+    return lastKnownProcessDefinitions.get(key,
+        () -> processDefinitionsCalls.execute(key, () -> selectProcessDefinitions(params)));
+  }
+
+  @Override
+  public CountResponse countProcessDefinitions(GetProcessDefinitionsParams params) {
+    var key = RoleScopedKey.of(params);
+    return lastKnownProcessDefinitionsCounts.get(key, () -> processDefinitionsCountCalls.execute(
+        key, () -> selectProcessDefinitionsCount(params)));
+  }
+
+  private ProcessDefinitionResponse selectProcessDefinitionByKey(String key) {
     log.debug("Selecting process definition by key {} from bpms.", key);
 
-    var dto = processDefinitionRestClient.getProcessDefinitionByKey(key);
+    var dto = bpmsCalls.record("get-process-definition-by-key",
+        () -> processDefinitionRestClient.getProcessDefinitionByKey(key));
 
     log.debug("Process definition with key {} is found. {}", key, dto);
     return processDefinitionMapper.toProcessDefinitionResponse(dto);
   }
 
-  @Override
-  public List<ProcessDefinitionResponse> getProcessDefinitions(GetProcessDefinitionsParams params) {
+  private List<ProcessDefinitionResponse> selectProcessDefinitions(
+      GetProcessDefinitionsParams params) {
     log.debug("Selecting list of process definitions form bpms. Params: {}", params);
 
     var queryDto = DdmProcessDefinitionQueryDto.builder()
@@ -68,14 +132,14 @@ public class ProcessDefinitionRemoteServiceImpl implements ProcessDefinitionRemo
         .sortBy(DdmProcessDefinitionQueryDto.SortByConstants.SORT_BY_NAME)
         .sortOrder(SortOrder.ASC.stringValue())
         .build();
-    var dtos = processDefinitionRestClient.getProcessDefinitionsByParams(queryDto);
+    var dtos = processDefinitionsHedging.execute(() -> bpmsCalls.record("get-process-definitions",
+        () -> processDefinitionRestClient.getProcessDefinitionsByParams(queryDto)));
 
     log.debug("Found process definitions - {}", dtos);
     return processDefinitionMapper.toProcessDefinitionResponseList(dtos);
   }
 
-  @Override
-  public CountResponse countProcessDefinitions(GetProcessDefinitionsParams params) {
+  private CountResponse selectProcessDefinitionsCount(GetProcessDefinitionsParams params) {
     log.debug("Selecting count of process definitions form bpms. Params: {}", params);
 
     var queryDto = DdmProcessDefinitionQueryDto.builder()
@@ -83,7 +147,9 @@ public class ProcessDefinitionRemoteServiceImpl implements ProcessDefinitionRemo
         .active(params.isActive())
         .suspended(params.isSuspended())
         .build();
-    var dto = processDefinitionRestClient.getProcessDefinitionsCount(queryDto);
+    var dto = processDefinitionsCountHedging.execute(() -> bpmsCalls.record(
+        "count-process-definitions",
+        () -> processDefinitionRestClient.getProcessDefinitionsCount(queryDto)));
 
     return baseMapper.toCountResponse(dto);
   }
@@ -114,8 +180,9 @@ public class ProcessDefinitionRemoteServiceImpl implements ProcessDefinitionRemo
 
   private StartProcessInstanceResponse startProcessInstance(String key,
       StartProcessInstanceDto startProcessInstanceDto) {
-    var processInstanceDto = processDefinitionRestClient.startProcessInstanceByKey(key,
-        startProcessInstanceDto);
+    var processInstanceDto = bpmsCalls.record("start-process-instance",
+        () -> processDefinitionRestClient.startProcessInstanceByKey(key,
+            startProcessInstanceDto));
     log.trace("Process instance started. Process instanceId - {}", processInstanceDto.getId());
 
     return processInstanceMapper.toStartProcessInstanceResponse(processInstanceDto);
@@ -24,33 +24,92 @@ import com.epam.digital.data.platform.bpms.client.ProcessInstanceRestClient;
 import com.epam.digital.data.platform.starter.security.SystemRole;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.BaseMapper;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessInstanceMapper;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.DependencyCallTimer;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
 import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessInstanceRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.remote.client.ProcessInstanceStreamRestClient;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.HedgedCall;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.HedgedCalls;
+import com.epam.digital.data.platform.usrprcssmgt.util.SecurityContextUtils;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Objects;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
+/**
+ * Process instance remote service that calls BPMS. Concurrent process instance count queries of
+ * the same user share one BPMS call (see {@link SingleFlight}), BPMS calls are timed by
+ * {@link DependencyCallTimer}, the time of a streamed list call is the time until the response
+ * body starts. Count and not streamed list reads are {@link HedgedCall hedged}. Streamed process
+ * instance lists are parsed from the raw BPMS response with the application object mapper, as the
+ * Feign decoder does, and their error responses are decoded with the Feign error decoder.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProcessInstanceRemoteServiceImpl implements ProcessInstanceRemoteService {
 
+  private static final String STREAM_METHOD_KEY = "ProcessInstanceStreamRestClient"
+      + "#getProcessInstances(DdmProcessInstanceQueryDto,PaginationQueryDto)";
+
   private final ProcessInstanceRestClient processInstanceRestClient;
+  private final ProcessInstanceStreamRestClient processInstanceStreamRestClient;
+  private final ObjectMapper objectMapper;
+  private final ErrorDecoder errorDecoder;
 
   private final BaseMapper baseMapper;
   private final ProcessInstanceMapper processInstanceMapper;
+  private final DependencyCallTimer bpmsCalls;
+
+  private final SingleFlight<String, CountResponse> processInstancesCountCalls;
+  private final HedgedCall processInstancesHedging;
+  private final HedgedCall processInstancesCountHedging;
+
+  public ProcessInstanceRemoteServiceImpl(ProcessInstanceRestClient processInstanceRestClient,
+      ProcessInstanceStreamRestClient processInstanceStreamRestClient, ObjectMapper objectMapper,
+      BaseMapper baseMapper, ProcessInstanceMapper processInstanceMapper,
+      MeterRegistry meterRegistry, DownstreamGuards downstreamGuards, HedgedCalls hedgedCalls,
+      ObjectProvider<ErrorDecoder> errorDecoder) {
+    this.processInstanceRestClient = processInstanceRestClient;
+    this.processInstanceStreamRestClient = processInstanceStreamRestClient;
+    this.objectMapper = objectMapper;
+    this.errorDecoder = Objects.requireNonNullElseGet(errorDecoder.getIfAvailable(),
+        ErrorDecoder.Default::new);
+    this.baseMapper = baseMapper;
+    this.processInstanceMapper = processInstanceMapper;
+    this.bpmsCalls = new DependencyCallTimer(DependencyCallTimer.BPMS, meterRegistry,
+        downstreamGuards.get(DependencyCallTimer.BPMS));
+    this.processInstancesCountCalls = new SingleFlight<>("count-process-instances", meterRegistry);
+    this.processInstancesHedging = hedgedCalls.get("get-process-instances");
+    this.processInstancesCountHedging = hedgedCalls.get("count-process-instances");
+  }
 
   @Override
   public CountResponse countProcessInstances() {
+    return processInstancesCountCalls.execute(SecurityContextUtils.getCurrentAccessToken(),
+        this::selectProcessInstancesCount);
+  }
+
+  private CountResponse selectProcessInstancesCount() {
     log.debug("Selecting count of unfinished process instances from bpms");
 
     var queryDto = DdmProcessInstanceCountQueryDto.builder()
         .rootProcessInstances(true)
         .build();
-    var result = processInstanceRestClient.getProcessInstancesCount(queryDto);
+    var result = processInstancesCountHedging.execute(() -> bpmsCalls.record(
+        "count-process-instances",
+        () -> processInstanceRestClient.getProcessInstancesCount(queryDto)));
 
     return baseMapper.toCountResponse(result);
   }
@@ -67,16 +126,65 @@ public class ProcessInstanceRemoteServiceImpl implements ProcessInstanceRemoteSe
     return processInstanceMapper.toProcessInstanceResponses(processInstances, systemRole);
   }
 
+  @Override
+  public void streamProcessInstances(Pageable page, SystemRole systemRole,
+      Consumer<GetProcessInstanceResponse> consumer) {
+    log.debug("Streaming unfinished {} process instances. Parameters: {}", systemRole, page);
+
+    try (var response = bpmsCalls.record("stream-process-instances",
+        () -> processInstanceStreamRestClient.getProcessInstances(toQueryDto(page),
+            toPaginationQueryDto(page)))) {
+      if (response.status() / 100 != 2) {
+        // raw responses aren't passed to the error decoder by Feign, so it's called here to get
+        // the same exception as for the not streamed list
+        throw asRuntimeException(errorDecoder.decode(STREAM_METHOD_KEY, response));
+      }
+      if (Objects.isNull(response.body())) {
+        return;
+      }
+      parseProcessInstances(response.body().asInputStream(), systemRole, consumer);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Couldn't read process instances from bpms", exception);
+    }
+  }
+
+  private void parseProcessInstances(InputStream body, SystemRole systemRole,
+      Consumer<GetProcessInstanceResponse> consumer) throws IOException {
+    try (var parser = objectMapper.getFactory().createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new IOException("Bpms process instance list is not a JSON array");
+      }
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        var processInstance = objectMapper.readValue(parser, DdmProcessInstanceDto.class);
+        consumer.accept(processInstanceMapper.toProcessInstanceResponse(processInstance,
+            systemRole));
+      }
+    }
+  }
+
+  private static RuntimeException asRuntimeException(Exception exception) {
+    return exception instanceof RuntimeException ? (RuntimeException) exception
+        : new IllegalStateException("Bpms responded with error", exception);
+  }
+
   private List<DdmProcessInstanceDto> getCamundaProcessInstances(Pageable page) {
-    var queryDto = DdmProcessInstanceQueryDto.builder()
+    return processInstancesHedging.execute(() -> bpmsCalls.record("get-process-instances",
+        () -> processInstanceRestClient.getProcessInstances(toQueryDto(page),
+            toPaginationQueryDto(page))));
+  }
+
+  private DdmProcessInstanceQueryDto toQueryDto(Pageable page) {
+    return DdmProcessInstanceQueryDto.builder()
         .rootProcessInstances(true)
         .sortBy(page.getSortBy())
         .sortOrder(page.getSortOrder())
         .build();
-    var paginationQueryDto = PaginationQueryDto.builder()
+  }
+
+  private PaginationQueryDto toPaginationQueryDto(Pageable page) {
+    return PaginationQueryDto.builder()
         .firstResult(page.getFirstResult())
         .maxResults(page.getMaxResults())
         .build();
-    return processInstanceRestClient.getProcessInstances(queryDto, paginationQueryDto);
   }
 }
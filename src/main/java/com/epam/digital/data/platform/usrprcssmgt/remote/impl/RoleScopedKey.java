@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import com.epam.digital.data.platform.usrprcssmgt.util.SecurityContextUtils;
+import java.util.Set;
+import lombok.Value;
+
+/**
+ * Key of BPMS data that depends on the user roles, e.g. process definitions that are filtered by
+ * BPMS according to the roles of the user.
+ *
+ * @param <T> the type of the query key
+ */
+@Value(staticConstructor = "create")
+class RoleScopedKey<T> {
+
+  T value;
+  Set<String> roles;
+
+  /**
+   * @param value the query key
+   * @return the key scoped by the roles of the current user
+   */
+  static <T> RoleScopedKey<T> of(T value) {
+    return create(value, SecurityContextUtils.getCurrentRoles());
+  }
+}
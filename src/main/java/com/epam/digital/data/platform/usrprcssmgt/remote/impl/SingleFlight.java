@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces concurrent identical remote calls. The first caller with a key executes the call, all
+ * the callers with the same key that come while the call is in flight wait for it and get the same
+ * result or exception. Nothing is cached after the call is finished.
+ *
+ * @param <K> the call key, all the data that the call result depends on
+ * @param <V> the call result
+ */
+@Slf4j
+class SingleFlight<K, V> {
+
+  static final String COALESCED_CALLERS_METRIC = "bpms.coalesced.callers";
+
+  private final Map<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+  private final String operation;
+  private final Counter coalescedCallers;
+
+  SingleFlight(String operation, MeterRegistry meterRegistry) {
+    this.operation = operation;
+    this.coalescedCallers = Counter.builder(COALESCED_CALLERS_METRIC)
+        .description("Number of callers that shared an in-flight BPMS call")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  V execute(K key, Supplier<V> supplier) {
+    var call = new CompletableFuture<V>();
+    var inFlightCall = inFlightCalls.putIfAbsent(key, call);
+    if (Objects.nonNull(inFlightCall)) {
+      log.debug("Joining in-flight {} call", operation);
+      coalescedCallers.increment();
+      return await(inFlightCall);
+    }
+    try {
+      var result = supplier.get();
+      call.complete(result);
+      return result;
+    } catch (RuntimeException | Error exception) {
+      call.completeExceptionally(exception);
+      throw exception;
+    } finally {
+      inFlightCalls.remove(key, call);
+    }
+  }
+
+  private V await(CompletableFuture<V> inFlightCall) {
+    try {
+      return inFlightCall.join();
+    } catch (CompletionException exception) {
+      var cause = exception.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw exception;
+    }
+  }
+}
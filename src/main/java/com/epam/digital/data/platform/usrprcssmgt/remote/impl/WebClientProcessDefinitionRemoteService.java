@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import com.epam.digital.data.platform.dataaccessor.sysvar.StartFormCephKeyVariable;
+import com.epam.digital.data.platform.usrprcssmgt.config.BpmsWebClientConfig;
+import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessInstanceMapper;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.DependencyCallTimer;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ReactiveProcessDefinitionRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import com.epam.digital.data.platform.usrprcssmgt.util.SecurityContextUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.rest.dto.VariableValueDto;
+import org.camunda.bpm.engine.rest.dto.runtime.ProcessInstanceDto;
+import org.camunda.bpm.engine.rest.dto.runtime.StartProcessInstanceDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Process definition remote service that starts process instances with non-blocking {@link
+ * WebClient}. The calls are timed by {@link DependencyCallTimer} as the calls of the blocking
+ * client.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "bpms.reactive", name = "enabled", havingValue = "true")
+public class WebClientProcessDefinitionRemoteService implements
+    ReactiveProcessDefinitionRemoteService {
+
+  private final WebClient bpmsWebClient;
+  private final ProcessInstanceMapper processInstanceMapper;
+  private final DependencyCallTimer bpmsCalls;
+
+  public WebClientProcessDefinitionRemoteService(WebClient bpmsWebClient,
+      ProcessInstanceMapper processInstanceMapper, MeterRegistry meterRegistry,
+      DownstreamGuards downstreamGuards) {
+    this.bpmsWebClient = bpmsWebClient;
+    this.processInstanceMapper = processInstanceMapper;
+    this.bpmsCalls = new DependencyCallTimer(DependencyCallTimer.BPMS, meterRegistry,
+        downstreamGuards.get(DependencyCallTimer.BPMS));
+  }
+
+  @Override
+  public Mono<StartProcessInstanceResponse> startProcessInstance(String key, String formDataKey) {
+    var variableValueDto = new VariableValueDto();
+    variableValueDto.setValue(formDataKey);
+    var startProcessInstanceDto = new StartProcessInstanceDto();
+    startProcessInstanceDto.setVariables(
+        Map.of(StartFormCephKeyVariable.START_FORM_CEPH_KEY_VARIABLE_NAME, variableValueDto));
+
+    log.trace("Starting instance of process definition. Key - {}", key);
+    return bpmsWebClient.post()
+        .uri("/api/process-definition/key/{key}/start", key)
+        .header(BpmsWebClientConfig.ACCESS_TOKEN_HEADER,
+            SecurityContextUtils.getCurrentAccessToken())
+        .bodyValue(startProcessInstanceDto)
+        .retrieve()
+        .bodyToMono(ProcessInstanceDto.class)
+        .transform(call -> bpmsCalls.record("start-process-instance", call))
+        .doOnNext(dto -> log.trace("Process instance started. Process instanceId - {}",
+            dto.getId()))
+        .map(processInstanceMapper::toStartProcessInstanceResponse);
+  }
+}
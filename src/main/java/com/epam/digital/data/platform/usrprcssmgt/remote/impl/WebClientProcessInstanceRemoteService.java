@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import com.epam.digital.data.platform.bpms.api.dto.DdmProcessInstanceDto;
+import com.epam.digital.data.platform.bpms.api.dto.DdmProcessInstanceQueryDto;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.config.BpmsWebClientConfig;
+import com.epam.digital.data.platform.usrprcssmgt.mapper.BaseMapper;
+import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessInstanceMapper;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.DependencyCallTimer;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ReactiveProcessInstanceRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import com.epam.digital.data.platform.usrprcssmgt.util.SecurityContextUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Process instance remote service that calls BPMS with non-blocking {@link WebClient}. The calls
+ * are timed by {@link DependencyCallTimer} as the calls of the blocking client.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "bpms.reactive", name = "enabled", havingValue = "true")
+public class WebClientProcessInstanceRemoteService implements
+    ReactiveProcessInstanceRemoteService {
+
+  private final WebClient bpmsWebClient;
+  private final BaseMapper baseMapper;
+  private final ProcessInstanceMapper processInstanceMapper;
+  private final DependencyCallTimer bpmsCalls;
+
+  public WebClientProcessInstanceRemoteService(WebClient bpmsWebClient, BaseMapper baseMapper,
+      ProcessInstanceMapper processInstanceMapper, MeterRegistry meterRegistry,
+      DownstreamGuards downstreamGuards) {
+    this.bpmsWebClient = bpmsWebClient;
+    this.baseMapper = baseMapper;
+    this.processInstanceMapper = processInstanceMapper;
+    this.bpmsCalls = new DependencyCallTimer(DependencyCallTimer.BPMS, meterRegistry,
+        downstreamGuards.get(DependencyCallTimer.BPMS));
+  }
+
+  @Override
+  public Mono<CountResponse> countProcessInstances() {
+    log.debug("Selecting count of unfinished process instances from bpms");
+
+    return bpmsWebClient.get()
+        .uri(uriBuilder -> uriBuilder.path("/api/process-instance/count")
+            .queryParam("rootProcessInstances", true)
+            .build())
+        .header(BpmsWebClientConfig.ACCESS_TOKEN_HEADER,
+            SecurityContextUtils.getCurrentAccessToken())
+        .retrieve()
+        .bodyToMono(CountResultDto.class)
+        .transform(call -> bpmsCalls.record("count-process-instances", call))
+        .map(baseMapper::toCountResponse);
+  }
+
+  @Override
+  public Mono<List<GetProcessInstanceResponse>> getProcessInstances(Pageable page,
+      SystemRole systemRole) {
+    log.debug("Selecting unfinished {} process instances. Parameters: {}", systemRole, page);
+
+    var queryDto = DdmProcessInstanceQueryDto.builder()
+        .rootProcessInstances(true)
+        .sortBy(page.getSortBy())
+        .sortOrder(page.getSortOrder())
+        .build();
+    // status titles are localized with the locale of the request, not of the response thread
+    var localeContext = LocaleContextHolder.getLocaleContext();
+    return bpmsWebClient.post()
+        .uri(uriBuilder -> uriBuilder.path("/api/extended/process-instance")
+            .queryParamIfPresent("firstResult", Optional.ofNullable(page.getFirstResult()))
+            .queryParamIfPresent("maxResults", Optional.ofNullable(page.getMaxResults()))
+            .build())
+        .header(BpmsWebClientConfig.ACCESS_TOKEN_HEADER,
+            SecurityContextUtils.getCurrentAccessToken())
+        .bodyValue(queryDto)
+        .retrieve()
+        .bodyToFlux(DdmProcessInstanceDto.class)
+        .collectList()
+        .transform(call -> bpmsCalls.record("get-process-instances", call))
+        .map(processInstances -> {
+          var responseLocaleContext = LocaleContextHolder.getLocaleContext();
+          LocaleContextHolder.setLocaleContext(localeContext);
+          try {
+            return processInstanceMapper.toProcessInstanceResponses(processInstances,
+                systemRole);
+          } finally {
+            LocaleContextHolder.setLocaleContext(responseLocaleContext);
+          }
+        });
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bulkhead and circuit breaker of one downstream dependency. A call is rejected with
+ * {@link CallNotPermittedException} while the circuit is open and with
+ * {@link BulkheadFullException} if the dependency has too many calls in flight, so request threads
+ * don't pile up waiting for a degraded dependency. Rejections are counted by
+ * {@code downstream.rejected.calls} meter tagged by {@code dependency} and {@code reason}.
+ * <p>
+ * Non-blocking calls are guarded by the same circuit breaker and bulkhead, the permissions are
+ * acquired on subscription and released when the call completes, fails or is cancelled. A
+ * cancelled call isn't counted by the circuit breaker.
+ */
+@Slf4j
+public class DownstreamGuard {
+
+  public static final String REJECTED_CALLS_METRIC = "downstream.rejected.calls";
+
+  private final String dependency;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
+  private final Counter circuitOpenRejections;
+  private final Counter bulkheadFullRejections;
+
+  DownstreamGuard(String dependency, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+      MeterRegistry meterRegistry) {
+    this.dependency = dependency;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkhead = bulkhead;
+    this.circuitOpenRejections = rejections(dependency, "circuit-open", meterRegistry);
+    this.bulkheadFullRejections = rejections(dependency, "bulkhead-full", meterRegistry);
+  }
+
+  /**
+   * Creating a guard that lets all the calls through
+   *
+   * @param dependency the dependency name
+   * @return the guard
+   */
+  public static DownstreamGuard disabled(String dependency) {
+    return new DownstreamGuard(dependency);
+  }
+
+  private DownstreamGuard(String dependency) {
+    this.dependency = dependency;
+    this.circuitBreaker = null;
+    this.bulkhead = null;
+    this.circuitOpenRejections = null;
+    this.bulkheadFullRejections = null;
+  }
+
+  /**
+   * Calling the dependency if the circuit is closed and the bulkhead has room for the call
+   *
+   * @param call the call
+   * @param <T>  the call result type
+   * @return the call result
+   * @throws CallNotPermittedException if the circuit is open
+   * @throws BulkheadFullException     if the maximum number of concurrent calls is reached
+   */
+  public <T> T execute(Supplier<T> call) {
+    if (Objects.isNull(circuitBreaker)) {
+      return call.get();
+    }
+    try {
+      return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+    } catch (CallNotPermittedException exception) {
+      log.warn("Call to {} is rejected, circuit is open", dependency);
+      circuitOpenRejections.increment();
+      throw exception;
+    } catch (BulkheadFullException exception) {
+      log.warn("Call to {} is rejected, too many calls are in flight", dependency);
+      bulkheadFullRejections.increment();
+      throw exception;
+    }
+  }
+
+  /**
+   * Guarding the non-blocking call of the dependency, the permissions are acquired by the
+   * subscribing thread
+   *
+   * @param call the call
+   * @param <T>  the call result type
+   * @return the guarded call that fails with {@link CallNotPermittedException} if the circuit is
+   * open or with {@link BulkheadFullException} if the maximum number of concurrent calls is reached
+   */
+  public <T> Mono<T> execute(Mono<T> call) {
+    if (Objects.isNull(circuitBreaker)) {
+      return call;
+    }
+    return Mono.defer(() -> {
+      if (!circuitBreaker.tryAcquirePermission()) {
+        log.warn("Call to {} is rejected, circuit is open", dependency);
+        circuitOpenRejections.increment();
+        return Mono.error(CallNotPermittedException.createCallNotPermittedException(
+            circuitBreaker));
+      }
+      if (!bulkhead.tryAcquirePermission()) {
+        circuitBreaker.releasePermission();
+        log.warn("Call to {} is rejected, too many calls are in flight", dependency);
+        bulkheadFullRejections.increment();
+        return Mono.error(BulkheadFullException.createBulkheadFullException(bulkhead));
+      }
+      var start = System.nanoTime();
+      var finished = new AtomicBoolean();
+      return call
+          .doOnSuccess(result -> {
+            if (finished.compareAndSet(false, true)) {
+              circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+              bulkhead.onComplete();
+            }
+          })
+          .doOnError(exception -> {
+            if (finished.compareAndSet(false, true)) {
+              circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, exception);
+              bulkhead.onComplete();
+            }
+          })
+          .doOnCancel(() -> {
+            if (finished.compareAndSet(false, true)) {
+              circuitBreaker.releasePermission();
+              bulkhead.onComplete();
+            }
+          });
+    });
+  }
+
+  /**
+   * Checking if the exception is a rejection of the call by a guard
+   *
+   * @param exception the exception
+   * @return true if the call wasn't made because of open circuit or full bulkhead
+   */
+  public static boolean isRejection(Throwable exception) {
+    return exception instanceof CallNotPermittedException
+        || exception instanceof BulkheadFullException;
+  }
+
+  private static Counter rejections(String dependency, String reason,
+      MeterRegistry meterRegistry) {
+    return Counter.builder(REJECTED_CALLS_METRIC)
+        .description("Number of downstream calls rejected by circuit breaker or bulkhead")
+        .tag("dependency", dependency)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.resilience;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ResilienceProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ResilienceProperties.DownstreamProperties;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.DependencyCallTimer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates a {@link DownstreamGuard} per downstream dependency from {@link ResilienceProperties}.
+ * Only server errors and calls without response (e.g. timeouts) are counted as failures by the
+ * circuit breaker, client errors such as 404 of an unknown process definition are not. Circuit
+ * breaker states and bulkhead usage are published as {@code resilience4j_circuitbreaker_*} and
+ * {@code resilience4j_bulkhead_*} meters tagged by the dependency {@code name}.
+ */
+@Component
+public class DownstreamGuards {
+
+  private final ResilienceProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+  private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+  private final Map<String, DownstreamGuard> guards = new ConcurrentHashMap<>();
+
+  public DownstreamGuards(ResilienceProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry)
+        .bindTo(meterRegistry);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+  }
+
+  /**
+   * Getting the guard of the dependency
+   *
+   * @param dependency the dependency name, e.g. {@link DependencyCallTimer#BPMS}
+   * @return the guard, it lets all the calls through if {@code resilience.enabled} is false
+   */
+  public DownstreamGuard get(String dependency) {
+    return guards.computeIfAbsent(dependency, this::create);
+  }
+
+  private DownstreamGuard create(String dependency) {
+    if (!properties.isEnabled()) {
+      return DownstreamGuard.disabled(dependency);
+    }
+    var downstreamProperties = properties.getDownstream(dependency);
+    var circuitBreaker = circuitBreakerRegistry.circuitBreaker(dependency,
+        circuitBreakerConfig(downstreamProperties));
+    var bulkhead = bulkheadRegistry.bulkhead(dependency, BulkheadConfig.custom()
+        .maxConcurrentCalls(downstreamProperties.getMaxConcurrentCalls())
+        .maxWaitDuration(downstreamProperties.getMaxWaitDuration())
+        .build());
+    return new DownstreamGuard(dependency, circuitBreaker, bulkhead, meterRegistry);
+  }
+
+  private CircuitBreakerConfig circuitBreakerConfig(DownstreamProperties downstreamProperties) {
+    return CircuitBreakerConfig.custom()
+        .failureRateThreshold(downstreamProperties.getFailureRateThreshold())
+        .slowCallRateThreshold(downstreamProperties.getSlowCallRateThreshold())
+        .slowCallDurationThreshold(downstreamProperties.getSlowCallDurationThreshold())
+        .slidingWindowSize(downstreamProperties.getSlidingWindowSize())
+        .minimumNumberOfCalls(downstreamProperties.getMinimumNumberOfCalls())
+        .waitDurationInOpenState(downstreamProperties.getWaitDurationInOpenState())
+        .permittedNumberOfCallsInHalfOpenState(
+            downstreamProperties.getPermittedNumberOfCallsInHalfOpenState())
+        .recordException(DownstreamGuards::isFailure)
+        .build();
+  }
+
+  private static boolean isFailure(Throwable exception) {
+    if (DownstreamGuard.isRejection(exception)) {
+      return false;
+    }
+    var outcome = DependencyCallTimer.outcome(exception);
+    return DependencyCallTimer.SERVER_ERROR.equals(outcome)
+        || DependencyCallTimer.UNKNOWN.equals(outcome);
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.resilience;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpmsHedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hedged calls of one idempotent BPMS read operation. The call is sent and, if it isn't answered
+ * within the hedging delay, sent once more. The first successful response is returned (or the
+ * last failure if both attempts failed). The other attempt isn't cancelled once it's started: the
+ * blocking BPMS client doesn't abort a sent request on interruption, so the attempt keeps its
+ * executor thread and bulkhead permit until BPMS answers or the read timeout passes. It finishes
+ * and its outcome is recorded by the circuit breaker as usual, it's just not waited for. The
+ * number of such attempts is bounded by the executor threads.
+ * <p>
+ * If the call can't be hedged, because there are not enough latency samples yet or the hedge
+ * budget is exhausted, it's run on the calling thread.
+ * <p>
+ * The delay is the configured percentile of the attempt latencies of the operation over the last
+ * {@link BpmsHedgingProperties#getLatencyWindow() latency window}, so only the slowest reads are
+ * hedged. Hedges are paid from a budget that gets {@link BpmsHedgingProperties#getMaxHedgeRatio()
+ * max hedge ratio} of a hedge per call, so a slow BPMS isn't loaded twice as much.
+ * <p>
+ * Calls are counted by {@code bpms.hedging.calls} meter tagged by {@code operation} and
+ * {@code outcome}: {@code not-hedged}, {@code primary-won} or {@code hedge-won} (which attempt's
+ * response was returned) and {@code budget-exhausted}.
+ */
+@Slf4j
+public class HedgedCall {
+
+  public static final String HEDGING_CALLS_METRIC = "bpms.hedging.calls";
+  public static final String HEDGING_LATENCY_METRIC = "bpms.hedging.latency";
+
+  public static final String NOT_HEDGED = "not-hedged";
+  public static final String PRIMARY_WON = "primary-won";
+  public static final String HEDGE_WON = "hedge-won";
+  public static final String BUDGET_EXHAUSTED = "budget-exhausted";
+
+  private static final long HEDGE_COST = 1000;
+  private static final long MAX_BUDGET = 10 * HEDGE_COST;
+  private static final long DELAY_REFRESH_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+  private final String operation;
+  private final ExecutorService executor;
+  private final long minDelay;
+  private final long minimumNumberOfCalls;
+  private final long budgetPerCall;
+  private final AtomicLong budget = new AtomicLong();
+  private final Timer latency;
+  private final Counter notHedged;
+  private final Counter primaryWon;
+  private final Counter hedgeWon;
+  private final Counter budgetExhausted;
+
+  private volatile long delay = -1;
+  private volatile long delayRefreshedAt = System.nanoTime() - DELAY_REFRESH_INTERVAL;
+
+  HedgedCall(String operation, BpmsHedgingProperties properties, ExecutorService executor,
+      MeterRegistry meterRegistry) {
+    this.operation = operation;
+    this.executor = executor;
+    this.minDelay = properties.getMinDelay().toNanos();
+    this.minimumNumberOfCalls = properties.getMinimumNumberOfCalls();
+    this.budgetPerCall = Math.round(Math.min(properties.getMaxHedgeRatio(), 1) * HEDGE_COST);
+    this.latency = Timer.builder(HEDGING_LATENCY_METRIC)
+        .description("Latency of hedged BPMS read attempts, its percentile is the hedging delay")
+        .tag("operation", operation)
+        .publishPercentiles(properties.getPercentile())
+        .distributionStatisticExpiry(properties.getLatencyWindow())
+        .register(meterRegistry);
+    this.notHedged = calls(operation, NOT_HEDGED, meterRegistry);
+    this.primaryWon = calls(operation, PRIMARY_WON, meterRegistry);
+    this.hedgeWon = calls(operation, HEDGE_WON, meterRegistry);
+    this.budgetExhausted = calls(operation, BUDGET_EXHAUSTED, meterRegistry);
+  }
+
+  /**
+   * Creating a hedged call that just calls the supplier
+   *
+   * @param operation the operation name
+   * @return the hedged call
+   */
+  public static HedgedCall disabled(String operation) {
+    return new HedgedCall(operation);
+  }
+
+  private HedgedCall(String operation) {
+    this.operation = operation;
+    this.executor = null;
+    this.minDelay = 0;
+    this.minimumNumberOfCalls = 0;
+    this.budgetPerCall = 0;
+    this.latency = null;
+    this.notHedged = null;
+    this.primaryWon = null;
+    this.hedgeWon = null;
+    this.budgetExhausted = null;
+  }
+
+  /**
+   * Calling BPMS with a hedge if the call is slower than the hedging delay
+   *
+   * @param call the idempotent call
+   * @param <T>  the call result type
+   * @return the first successful result
+   */
+  public <T> T execute(Supplier<T> call) {
+    if (Objects.isNull(executor)) {
+      return call.get();
+    }
+    budget.getAndUpdate(value -> Math.min(value + budgetPerCall, MAX_BUDGET));
+    var delay = hedgingDelay();
+    if (delay < 0 || budget.get() < HEDGE_COST) {
+      return attemptWithoutHedge(call, delay);
+    }
+    var attempts = new ExecutorCompletionService<T>(executor);
+    Future<T> primary;
+    try {
+      primary = attempts.submit(() -> attempt(call));
+    } catch (RejectedExecutionException exception) {
+      log.debug("Hedging executor is busy, calling bpms {} without hedging", operation);
+      notHedged.increment();
+      return attempt(call);
+    }
+    Future<T> hedge = null;
+    try {
+      var first = attempts.poll(delay, TimeUnit.NANOSECONDS);
+      if (Objects.isNull(first)) {
+        hedge = submitHedge(attempts, call);
+        first = attempts.take();
+      } else {
+        notHedged.increment();
+      }
+      var returned = Objects.isNull(hedge) || succeeded(first) ? first : attempts.take();
+      if (Objects.nonNull(hedge)) {
+        (returned == hedge ? hedgeWon : primaryWon).increment();
+      }
+      return result(returned);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for bpms " + operation,
+          exception);
+    } finally {
+      // only an attempt that isn't started yet is cancelled, an interrupted one would still wait
+      // for BPMS and would be recorded as a failure by the circuit breaker
+      primary.cancel(false);
+      if (Objects.nonNull(hedge)) {
+        hedge.cancel(false);
+      }
+    }
+  }
+
+  private <T> T attemptWithoutHedge(Supplier<T> call, long delay) {
+    var start = System.nanoTime();
+    try {
+      return attempt(call);
+    } finally {
+      var slow = delay >= 0 && System.nanoTime() - start > delay;
+      (slow ? budgetExhausted : notHedged).increment();
+    }
+  }
+
+  private <T> Future<T> submitHedge(ExecutorCompletionService<T> attempts, Supplier<T> call) {
+    if (budget.getAndUpdate(value -> value >= HEDGE_COST ? value - HEDGE_COST : value)
+        < HEDGE_COST) {
+      budgetExhausted.increment();
+      return null;
+    }
+    try {
+      log.debug("Bpms {} call is slow, sending a hedge", operation);
+      return attempts.submit(() -> attempt(call));
+    } catch (RejectedExecutionException exception) {
+      budget.addAndGet(HEDGE_COST);
+      notHedged.increment();
+      return null;
+    }
+  }
+
+  private static boolean succeeded(Future<?> attempt) throws InterruptedException {
+    try {
+      attempt.get();
+      return true;
+    } catch (ExecutionException exception) {
+      return false;
+    }
+  }
+
+  private static <T> T result(Future<T> attempt) throws InterruptedException {
+    try {
+      return attempt.get();
+    } catch (ExecutionException exception) {
+      throw unwrap(exception);
+    }
+  }
+
+  private <T> T attempt(Supplier<T> call) {
+    var start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private long hedgingDelay() {
+    var now = System.nanoTime();
+    if (now - delayRefreshedAt >= DELAY_REFRESH_INTERVAL) {
+      delayRefreshedAt = now;
+      var percentileValues = latency.takeSnapshot().percentileValues();
+      delay = latency.count() < minimumNumberOfCalls || percentileValues.length == 0 ? -1
+          : Math.max(minDelay, (long) percentileValues[0].value(TimeUnit.NANOSECONDS));
+    }
+    return delay;
+  }
+
+  private static RuntimeException unwrap(ExecutionException exception) {
+    var cause = exception.getCause();
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  private static Counter calls(String operation, String outcome, MeterRegistry meterRegistry) {
+    return Counter.builder(HEDGING_CALLS_METRIC)
+        .description("Number of hedging-eligible BPMS reads by hedging outcome")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.resilience;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpmsHedgingProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.VirtualThreadsProperties;
+import com.epam.digital.data.platform.usrprcssmgt.util.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates a {@link HedgedCall} per BPMS read operation from {@link BpmsHedgingProperties}. Hedged
+ * reads are run with the trace and security context of the request by an executor which metrics
+ * are published as {@code executor*} meters with {@code name=bpms-hedging} tag, or on virtual
+ * threads in {@link VirtualThreadsProperties virtual thread mode}.
+ */
+@Component
+public class HedgedCalls implements DisposableBean {
+
+  private static final String HEDGING_EXECUTOR = "bpms-hedging";
+
+  private final BpmsHedgingProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService executor;
+  private final Map<String, HedgedCall> hedgedCalls = new ConcurrentHashMap<>();
+
+  public HedgedCalls(BpmsHedgingProperties properties,
+      VirtualThreadsProperties virtualThreadsProperties, MeterRegistry meterRegistry,
+      CurrentTraceContext currentTraceContext) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.executor = properties.isEnabled()
+        ? newExecutor(virtualThreadsProperties, currentTraceContext) : null;
+  }
+
+  /**
+   * Getting the hedged call of the operation
+   *
+   * @param operation the operation name
+   * @return the hedged call, it just calls BPMS if {@code bpms.hedging.enabled} is false
+   */
+  public HedgedCall get(String operation) {
+    return hedgedCalls.computeIfAbsent(operation, this::create);
+  }
+
+  @Override
+  public void destroy() {
+    if (Objects.nonNull(executor)) {
+      executor.shutdownNow();
+    }
+  }
+
+  private HedgedCall create(String operation) {
+    return Objects.isNull(executor) ? HedgedCall.disabled(operation)
+        : new HedgedCall(operation, properties, executor, meterRegistry);
+  }
+
+  private ExecutorService newExecutor(VirtualThreadsProperties virtualThreadsProperties,
+      CurrentTraceContext currentTraceContext) {
+    var executor = virtualThreadsProperties.isEnabled()
+        ? VirtualThreads.newVirtualThreadPerTaskExecutor(HEDGING_EXECUTOR + "-virtual-")
+        : new ThreadPoolExecutor(0, properties.getMaxThreads(), 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new CustomizableThreadFactory(HEDGING_EXECUTOR + "-"));
+    return new DelegatingSecurityContextExecutorService(currentTraceContext.executorService(
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, HEDGING_EXECUTOR)));
+  }
+}
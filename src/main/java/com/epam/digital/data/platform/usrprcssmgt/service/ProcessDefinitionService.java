@@ -17,19 +17,36 @@
 package com.epam.digital.data.platform.usrprcssmgt.service;
 
 import com.epam.digital.data.platform.integration.formprovider.dto.FormDataValidationDto;
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
 import com.epam.digital.data.platform.starter.errorhandling.exception.ValidationException;
 import com.epam.digital.data.platform.starter.validation.service.FormValidationService;
 import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
 import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
 import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpGroupConfigurationProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpGroupConfigurationProperties.GroupedProcessDefinition;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.exception.BatchSizeExceededException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.InvalidBatchItemException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.ProcessStartQueueFullException;
 import com.epam.digital.data.platform.usrprcssmgt.exception.StartFormException;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.IdempotencyService;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.ProcessStartMetrics;
 import com.epam.digital.data.platform.usrprcssmgt.model.ProcessDefinitionGroup;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.StartProcessInstanceWithFormRequest;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.BatchStartProcessInstanceItemResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.BatchStartProcessInstanceItemResponse.Status;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GroupedProcessDefinitionResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceTicketResponse;
 import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessDefinitionRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ReactiveProcessDefinitionRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.util.ErrorStatuses;
+import com.epam.digital.data.platform.usrprcssmgt.util.SecurityContextUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -38,13 +55,23 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.utils.Lists;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * A service that contains methods for working with a process definitions.
@@ -66,6 +93,20 @@ public class ProcessDefinitionService {
   private final FormDataStorageService formDataStorageService;
   private final FormValidationService formValidationService;
   private final BpGroupConfigurationProperties bpGroupConfigurationProperties;
+  private final ProcessStartProperties processStartProperties;
+  private final Executor processStartExecutor;
+  private final ObjectProvider<ReactiveProcessDefinitionRemoteService>
+      reactiveProcessDefinitionRemoteService;
+  private final ProcessStartMetrics processStartMetrics;
+  private final IdempotencyService idempotencyService;
+  private final ProcessStartQueue processStartQueue;
+
+  private static final long MAX_GROUPED_PROCESS_DEFINITION_SNAPSHOTS = 1000;
+
+  private final Cache<List<Object>, GroupedProcessDefinitionSnapshot>
+      groupedProcessDefinitionSnapshots = Caffeine.newBuilder()
+      .maximumSize(MAX_GROUPED_PROCESS_DEFINITION_SNAPSHOTS)
+      .build();
 
   /**
    * Getting process definition by process definition key
@@ -125,6 +166,28 @@ public class ProcessDefinitionService {
     return startProcess(key, form, authentication);
   }
 
+  /**
+   * Starting process instance by process definition key without holding the calling thread while
+   * BPMS starts it, if {@link ReactiveProcessDefinitionRemoteService non-blocking BPMS client} is
+   * enabled. Otherwise the process instance is started by the calling thread.
+   *
+   * @param key the process definition key
+   * @return future of started process instance entity
+   */
+  public CompletableFuture<StartProcessInstanceResponse> startProcessInstanceAsync(String key,
+      Authentication authentication) {
+    var reactiveRemoteService = reactiveProcessDefinitionRemoteService.getIfAvailable();
+    if (Objects.isNull(reactiveRemoteService)) {
+      return CompletableFuture.completedFuture(startProcessInstance(key, authentication));
+    }
+    log.info("Starting process instance for definition with key {}", key);
+    var form = new FormDataDto();
+    form.setAccessToken((String) authentication.getCredentials());
+    var formDataKey = storeStartFormData(key, form);
+
+    return startProcessAsync(reactiveRemoteService, key, formDataKey);
+  }
+
   /**
    * Starting process instance by process definition key with start form data
    * <p>
@@ -135,6 +198,9 @@ public class ProcessDefinitionService {
    *   <li>Save the start form data in form data storage</li>
    *   <li>Starts process instance itself</li>
    * </ol>
+   * If {@link ProcessStartProperties#isParallelFormDataStorage() parallel form data storage} is
+   * enabled, the start form data is saved while it's validated and is deleted if validation fails.
+   * Time of every step is published by {@link ProcessStartMetrics}.
    *
    * @param key         the process definition key
    * @param formDataDto the start form data dto
@@ -146,45 +212,346 @@ public class ProcessDefinitionService {
       FormDataDto formDataDto, Authentication authentication) {
     log.info("Starting process instance with start form for definition with key {}", key);
 
-    var processDefinition = processDefinitionRemoteService.getProcessDefinitionByKey(key);
+    var formDataKey = storeValidStartFormData(key, formDataDto, authentication);
+    return startProcess(key, formDataKey);
+  }
+
+  /**
+   * Starting process instance by process definition key with start form data once per
+   * idempotency key, see {@link IdempotencyService}
+   *
+   * @param key            the process definition key
+   * @param formDataDto    the start form data
+   * @param authentication the current user authentication
+   * @param idempotencyKey the {@code Idempotency-Key} header value, the process instance is
+   *                       started without deduplication if it's {@code null}
+   * @return the started process instance
+   */
+  public StartProcessInstanceResponse startProcessInstanceWithForm(String key,
+      FormDataDto formDataDto, Authentication authentication, String idempotencyKey) {
+    if (Objects.isNull(idempotencyKey)) {
+      return startProcessInstanceWithForm(key, formDataDto, authentication);
+    }
+    return idempotencyService.startOnce(idempotencyKey, key, formDataDto, authentication,
+        () -> startProcessInstanceWithForm(key, formDataDto, authentication));
+  }
+
+  /**
+   * Starting process instance by process definition key with start form data without holding the
+   * calling thread while BPMS starts it, if {@link ReactiveProcessDefinitionRemoteService
+   * non-blocking BPMS client} is enabled. The process definition lookup, form data validation and
+   * storage are done by the calling thread as in
+   * {@link #startProcessInstanceWithForm(String, FormDataDto, Authentication)}. Otherwise, and for
+   * the requests with idempotency key, the process instance is started by the calling thread.
+   *
+   * @param key            the process definition key
+   * @param formDataDto    the start form data
+   * @param authentication the current user authentication
+   * @param idempotencyKey the {@code Idempotency-Key} header value, may be {@code null}
+   * @return future of started process instance
+   */
+  public CompletableFuture<StartProcessInstanceResponse> startProcessInstanceWithFormAsync(
+      String key, FormDataDto formDataDto, Authentication authentication,
+      String idempotencyKey) {
+    var reactiveRemoteService = reactiveProcessDefinitionRemoteService.getIfAvailable();
+    if (Objects.isNull(reactiveRemoteService) || Objects.nonNull(idempotencyKey)) {
+      return CompletableFuture.completedFuture(
+          startProcessInstanceWithForm(key, formDataDto, authentication, idempotencyKey));
+    }
+    log.info("Starting process instance with start form for definition with key {}", key);
+
+    var formDataKey = storeValidStartFormData(key, formDataDto, authentication);
+    return startProcessAsync(reactiveRemoteService, key, formDataKey);
+  }
+
+  /**
+   * Accepting process instance start by process definition key with start form data
+   * <p>
+   * Checks if process definition by key exists, validates and saves the start form data as
+   * {@link #startProcessInstanceWithForm(String, FormDataDto, Authentication)} does, then the
+   * process instance start is put to {@link ProcessStartQueue} and the ticket is returned
+   * without waiting for BPMS. The saved start form data is deleted if the start is rejected.
+   *
+   * @param key            the process definition key
+   * @param formDataDto    the start form data
+   * @param authentication the current user authentication
+   * @return the accepted process instance start ticket
+   * @throws StartFormException             if start form hasn't defined in business process
+   * @throws ValidationException            if form data hasn't pass the validation
+   * @throws ProcessStartQueueFullException if there are too many accepted starts
+   */
+  public StartProcessInstanceTicketResponse acceptProcessInstanceStartWithForm(String key,
+      FormDataDto formDataDto, Authentication authentication) {
+    log.info("Accepting process instance start with start form for definition with key {}", key);
+
+    var processDefinition = getProcessDefinitionToStart(key);
+    getStartFormKey(processDefinition);
+    validateFormData(processDefinition, formDataDto);
+    log.trace("Process definition form data is valid. Id - {}", processDefinition.getId());
+
+    formDataDto.setAccessToken((String) authentication.getCredentials());
+    var formDataKey = storeStartFormData(key, formDataDto);
+    return processStartQueue.submit(key, authentication, () -> startProcess(key, formDataKey),
+        () -> deleteStartFormData(formDataKey));
+  }
+
+  /**
+   * Getting the state of the accepted process instance start
+   *
+   * @param ticketId       the ticket id
+   * @param authentication the current user authentication
+   * @return the process instance start ticket
+   */
+  public StartProcessInstanceTicketResponse getProcessInstanceStartTicket(String ticketId,
+      Authentication authentication) {
+    log.info("Getting process instance start ticket {}", ticketId);
+    return processStartQueue.getTicket(ticketId, authentication);
+  }
+
+  /**
+   * Starting process instances by process definition keys with start form data in a batch
+   * <p>
+   * Each process definition is resolved once, then every start form data is validated, saved in
+   * form data storage and the process instance is started on the bounded process start executor.
+   * Failure of one process instance start doesn't affect the others, start form data of a process
+   * instance that has failed to start is deleted. A failed item gets the error the single start
+   * would respond with, see {@link ErrorStatuses}. A null item or an item without process
+   * definition key fails with {@code 400} without affecting the other items.
+   *
+   * @param requests       the process definition keys with start form data
+   * @param authentication the current user authentication
+   * @return results of process instance starts in the order of requests
+   * @throws BatchSizeExceededException if there are more requests than allowed
+   */
+  public List<BatchStartProcessInstanceItemResponse> startProcessInstancesWithForm(
+      List<StartProcessInstanceWithFormRequest> requests, Authentication authentication) {
+    log.info("Starting {} process instances with start form", requests.size());
+    var maxBatchSize = processStartProperties.getMaxBatchSize();
+    if (requests.size() > maxBatchSize) {
+      throw new BatchSizeExceededException(
+          String.format("Batch size must not exceed %d process instances", maxBatchSize));
+    }
+
+    var processDefinitions = requests.stream()
+        .filter(Objects::nonNull)
+        .map(StartProcessInstanceWithFormRequest::getProcessDefinitionKey)
+        .filter(Objects::nonNull)
+        .distinct()
+        .collect(Collectors.toMap(Function.identity(), key -> CompletableFuture.supplyAsync(
+            () -> getProcessDefinitionToStart(key), processStartExecutor)));
+    var accessToken = (String) authentication.getCredentials();
+    var futures = IntStream.range(0, requests.size())
+        .mapToObj(index -> {
+          var request = requests.get(index);
+          if (Objects.isNull(request) || Objects.isNull(request.getProcessDefinitionKey())) {
+            var exception = new InvalidBatchItemException("Process definition key is required");
+            return CompletableFuture.completedFuture(
+                toBatchItemResponse(index, null, null, exception));
+          }
+          var formDataDto = Optional.ofNullable(request.getFormData()).orElseGet(FormDataDto::new);
+          return processDefinitions.get(request.getProcessDefinitionKey())
+              .thenApplyAsync(processDefinition -> startBatchItem(processDefinition, formDataDto,
+                  accessToken), processStartExecutor)
+              .handle((result, throwable) -> toBatchItemResponse(index,
+                  request.getProcessDefinitionKey(), result, throwable));
+        })
+        .collect(Collectors.toList());
+
+    var result = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    log.info("Starting {} process instances with start form finished. Failed - {}", result.size(),
+        result.stream().filter(item -> item.getStatus() == Status.FAILED).count());
+    return result;
+  }
+
+  private StartProcessInstanceResponse startBatchItem(ProcessDefinitionResponse processDefinition,
+      FormDataDto formDataDto, String accessToken) {
+    validateFormData(processDefinition, formDataDto);
+    formDataDto.setAccessToken(accessToken);
+    var formDataKey = storeStartFormData(processDefinition.getKey(), formDataDto);
+    return startProcess(processDefinition.getKey(), formDataKey);
+  }
+
+  private BatchStartProcessInstanceItemResponse toBatchItemResponse(int index, String key,
+      StartProcessInstanceResponse result, Throwable throwable) {
+    var response = BatchStartProcessInstanceItemResponse.builder()
+        .index(index)
+        .processDefinitionKey(key);
+    if (Objects.isNull(throwable)) {
+      return response.status(Status.STARTED).result(result).build();
+    }
+
+    var exception = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+    log.warn("Process instance of process definition {} hasn't been started", key, exception);
+    response.status(Status.FAILED);
+    if (exception instanceof ValidationException) {
+      var validationException = (ValidationException) exception;
+      return response.validationError(ValidationErrorDto.builder()
+          .traceId(validationException.getTraceId())
+          .code(validationException.getCode())
+          .message(validationException.getMessage())
+          .details(validationException.getDetails())
+          .build()).build();
+    }
+    return response.error(ErrorStatuses.toSystemError(exception)).build();
+  }
+
+  private String storeValidStartFormData(String key, FormDataDto formDataDto,
+      Authentication authentication) {
+    var processDefinition = getProcessDefinitionToStart(key);
     var startFormKey = getStartFormKey(processDefinition);
     log.trace("Found process definition with key - {} and formKey - {}. Id - {}",
         key, startFormKey, processDefinition.getId());
 
+    if (processStartProperties.isParallelFormDataStorage()) {
+      return storeFormDataWhileValidating(processDefinition, formDataDto, authentication);
+    }
+
     validateFormData(processDefinition, formDataDto);
     log.trace("Process definition form data is valid. Id - {}", processDefinition.getId());
 
-    return startProcess(key, formDataDto, authentication);
+    formDataDto.setAccessToken((String) authentication.getCredentials());
+    return storeStartFormData(key, formDataDto);
+  }
+
+  private String storeFormDataWhileValidating(ProcessDefinitionResponse processDefinition,
+      FormDataDto formDataDto, Authentication authentication) {
+    var key = processDefinition.getKey();
+    formDataDto.setAccessToken((String) authentication.getCredentials());
+    var formDataKeyFuture = CompletableFuture.supplyAsync(
+        () -> storeStartFormData(key, formDataDto), processStartExecutor);
+
+    try {
+      validateFormData(processDefinition, formDataDto);
+    } catch (RuntimeException exception) {
+      formDataKeyFuture.thenAccept(this::deleteStartFormData);
+      throw exception;
+    }
+    log.trace("Process definition form data is valid. Id - {}", processDefinition.getId());
+
+    return awaitFormDataKey(formDataKeyFuture);
   }
 
   private StartProcessInstanceResponse startProcess(String key, FormDataDto formDataDto,
       Authentication authentication) {
     formDataDto.setAccessToken((String) authentication.getCredentials());
+    var formDataKey = storeStartFormData(key, formDataDto);
+    return startProcess(key, formDataKey);
+  }
+
+  private ProcessDefinitionResponse getProcessDefinitionToStart(String key) {
+    return processStartMetrics.recordStage(ProcessStartMetrics.GET_PROCESS_DEFINITION,
+        () -> processDefinitionRemoteService.getProcessDefinitionByKey(key));
+  }
+
+  private String storeStartFormData(String key, FormDataDto formDataDto) {
     var uuid = UUID.randomUUID().toString();
-    var formDataKey = formDataStorageService.putStartFormData(key, uuid, formDataDto);
+    var formDataKey = processStartMetrics.recordStage(ProcessStartMetrics.STORE_FORM_DATA,
+        () -> processStartMetrics.getFormDataStorageCalls().record("put-start-form-data",
+            () -> formDataStorageService.putStartFormData(key, uuid, formDataDto)));
     log.trace("Process definition form data was saved. Process definition key - {}", key);
+    return formDataKey;
+  }
+
+  private void deleteStartFormData(String formDataKey) {
+    processStartMetrics.getFormDataStorageCalls().record("delete",
+        () -> formDataStorageService.delete(Set.of(formDataKey)));
+  }
 
+  private String awaitFormDataKey(CompletableFuture<String> formDataKeyFuture) {
     try {
-      var result = processDefinitionRemoteService.startProcessInstance(key, formDataKey);
+      return formDataKeyFuture.join();
+    } catch (CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      throw exception;
+    }
+  }
+
+  private StartProcessInstanceResponse startProcess(String key, String formDataKey) {
+    try {
+      var result = processStartMetrics.recordStage(ProcessStartMetrics.START_PROCESS_INSTANCE,
+          () -> processDefinitionRemoteService.startProcessInstance(key, formDataKey));
 
       log.info("Starting process instance of process definition {} finished. "
           + "Process instance id {}", key, result.getId());
       return result;
     } catch (Exception exception) {
-      formDataStorageService.delete(Set.of(formDataKey));
+      deleteStartFormData(formDataKey);
       throw exception;
     }
   }
 
+  private CompletableFuture<StartProcessInstanceResponse> startProcessAsync(
+      ReactiveProcessDefinitionRemoteService reactiveRemoteService, String key,
+      String formDataKey) {
+    return reactiveRemoteService.startProcessInstance(key, formDataKey)
+        .transform(start -> processStartMetrics.recordStage(
+            ProcessStartMetrics.START_PROCESS_INSTANCE, start))
+        .doOnNext(result -> log.info("Starting process instance of process definition {} "
+            + "finished. Process instance id {}", key, result.getId()))
+        // form data storage is blocking, so it's not called by the http client thread
+        .onErrorResume(exception -> Mono.<StartProcessInstanceResponse>fromRunnable(
+                () -> deleteStartFormData(formDataKey))
+            .subscribeOn(Schedulers.boundedElastic())
+            .then(Mono.error(exception)))
+        .toFuture();
+  }
+
+  /**
+   * Getting process definitions grouped according to the bp-grouping configuration by {@link
+   * GetProcessDefinitionsParams parameters}
+   * <p>
+   * The grouped view is built once per process definition list, bp-grouping configuration,
+   * parameters and user roles and is served as an immutable snapshot until any of them is changed.
+   * The least recently used snapshots are dropped when there are more than
+   * {@value #MAX_GROUPED_PROCESS_DEFINITION_SNAPSHOTS} of them. The concurrent requests could build
+   * the same snapshot, the last one is kept.
+   *
+   * @param params the process definition query parameters
+   * @return grouped process definitions
+   */
   public GroupedProcessDefinitionResponse getGroupedProcessDefinitions(GetProcessDefinitionsParams params) {
     log.info("Getting grouped process definitions. Params: {}", params);
-    var processDefinitions =
-        processDefinitionRemoteService.getProcessDefinitions(params).stream()
-            .collect(Collectors.toMap(ProcessDefinitionResponse::getKey, Function.identity()));
+    var processDefinitions = processDefinitionRemoteService.getProcessDefinitions(params);
+    var groups = bpGroupConfigurationProperties.getGroups();
+    var ungrouped = bpGroupConfigurationProperties.getUngrouped();
+
+    var snapshotKey = List.of(params, SecurityContextUtils.getCurrentRoles());
+    var snapshot = groupedProcessDefinitionSnapshots.getIfPresent(snapshotKey);
+    if (Objects.isNull(snapshot) || !snapshot.isBuiltFrom(processDefinitions, groups, ungrouped)) {
+      snapshot = new GroupedProcessDefinitionSnapshot(processDefinitions, groups, ungrouped,
+          groupProcessDefinitions(processDefinitions, groups, ungrouped));
+      groupedProcessDefinitionSnapshots.put(snapshotKey, snapshot);
+    }
+
+    var result = snapshot.getResponse();
+    log.info("Process definitions are found. Group count - {}, ungrouped processes - {}",
+        result.getGroups().size(), result.getUngrouped().size());
+    return result;
+  }
+
+  /**
+   * Drops grouped process definition snapshots when the bp-grouping configuration is reloaded
+   */
+  @EventListener
+  public void onEnvironmentChange(EnvironmentChangeEvent event) {
+    if (event.getKeys().stream().anyMatch(key -> key.startsWith("bp-grouping"))) {
+      log.info("Bp-grouping configuration is changed, dropping grouped process definitions");
+      groupedProcessDefinitionSnapshots.invalidateAll();
+    }
+  }
+
+  private GroupedProcessDefinitionResponse groupProcessDefinitions(
+      List<ProcessDefinitionResponse> processDefinitionList,
+      List<GroupedProcessDefinition> groups, List<String> ungrouped) {
+    log.debug("Building grouped process definitions");
+    var processDefinitions = processDefinitionList.stream()
+        .collect(Collectors.toMap(ProcessDefinitionResponse::getKey, Function.identity()));
 
     // getting the processes defined in the file and removing them from the map
-    var groupsResponse = getGroupedProcessDefinition(processDefinitions);
-    var ungroupedResponse = getUngroupedProcessDefinition(processDefinitions);
+    var groupsResponse = getGroupedProcessDefinition(groups, processDefinitions);
+    var ungroupedResponse = getUngroupedProcessDefinition(ungrouped, processDefinitions);
 
     if (!processDefinitions.isEmpty()) {
       var processesNotInTheGroupingFile = processDefinitions.values().stream()
@@ -192,23 +559,22 @@ public class ProcessDefinitionService {
           .collect(Collectors.toList());
       ungroupedResponse.addAll(processesNotInTheGroupingFile);
     }
-    log.info("Process definitions are found. Group count - {}, ungrouped processes - {}", groupsResponse.size(), ungroupedResponse.size());
     return GroupedProcessDefinitionResponse.builder()
-        .groups(groupsResponse)
-        .ungrouped(ungroupedResponse)
+        .groups(List.copyOf(groupsResponse))
+        .ungrouped(List.copyOf(ungroupedResponse))
         .build();
   }
 
-  private List<ProcessDefinitionResponse> getUngroupedProcessDefinition(Map<String, ProcessDefinitionResponse> processDefinitions) {
-    var ungrouped = bpGroupConfigurationProperties.getUngrouped();
+  private List<ProcessDefinitionResponse> getUngroupedProcessDefinition(List<String> ungrouped,
+      Map<String, ProcessDefinitionResponse> processDefinitions) {
     if (Objects.isNull(ungrouped)) {
       return Lists.newArrayList();
     }
     return getProcessDefinitionsDefinedInFile(ungrouped, processDefinitions);
   }
 
-  private List<ProcessDefinitionGroup> getGroupedProcessDefinition(Map<String, ProcessDefinitionResponse> processDefinitions) {
-    var groups = bpGroupConfigurationProperties.getGroups();
+  private List<ProcessDefinitionGroup> getGroupedProcessDefinition(
+      List<GroupedProcessDefinition> groups, Map<String, ProcessDefinitionResponse> processDefinitions) {
     if (Objects.isNull(groups)) {
       return Lists.newArrayList();
     }
@@ -220,7 +586,7 @@ public class ProcessDefinitionService {
       if (!groupedResponse.isEmpty()) {
         var processDefinitionGroup = new ProcessDefinitionGroup();
         processDefinitionGroup.setName(groupedProcessDefinition.getName());
-        processDefinitionGroup.setProcessDefinitions(groupedResponse);
+        processDefinitionGroup.setProcessDefinitions(List.copyOf(groupedResponse));
         groupsResponse.add(processDefinitionGroup);
       }
     });
@@ -251,18 +617,46 @@ public class ProcessDefinitionService {
   }
 
   private void validateFormData(ProcessDefinitionResponse processDefinition, FormDataDto formDataDto) {
+    processStartMetrics.recordStage(ProcessStartMetrics.VALIDATE_FORM_DATA,
+        () -> checkFormData(processDefinition, formDataDto));
+  }
+
+  private void checkFormData(ProcessDefinitionResponse processDefinition, FormDataDto formDataDto) {
     log.debug("Start validation of start formData");
+    var startFormKey = getStartFormKey(processDefinition);
     var formValidationDto =
         FormDataValidationDto.builder()
             .data(formDataDto.getData())
             .processInstanceId(processDefinition.getId())
             .build();
-    var formValidationResponseDto = formValidationService.validateForm(getStartFormKey(processDefinition),
-        formValidationDto);
+    var formValidationResponseDto = processStartMetrics.getFormValidationCalls().record(
+        "validate-form", () -> formValidationService.validateForm(startFormKey, formValidationDto));
     if (!formValidationResponseDto.isValid()) {
       log.warn("Start form data did not pass validation, form key: {}", processDefinition.getFormKey());
       throw new ValidationException(formValidationResponseDto.getError());
     }
     log.debug("FormData passed the validation");
   }
+
+  /**
+   * Immutable grouped process definitions together with the sources it was built from. Process
+   * definition list is compared by reference first as the catalog cache returns the same instance
+   * until the catalog is changed, bp-grouping lists are replaced on configuration rebinding.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  private static class GroupedProcessDefinitionSnapshot {
+
+    private final List<ProcessDefinitionResponse> processDefinitions;
+    private final List<GroupedProcessDefinition> groups;
+    private final List<String> ungrouped;
+    private final GroupedProcessDefinitionResponse response;
+
+    boolean isBuiltFrom(List<ProcessDefinitionResponse> processDefinitions,
+        List<GroupedProcessDefinition> groups, List<String> ungrouped) {
+      return this.groups == groups && this.ungrouped == ungrouped
+          && (this.processDefinitions == processDefinitions
+          || this.processDefinitions.equals(processDefinitions));
+    }
+  }
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.service;
+
+import brave.propagation.CurrentTraceContext;
+import brave.propagation.TraceContext;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessInstanceEventsProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessInstanceRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.util.SecurityContextUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * A service that pushes process instance status changes and process instance count updates to the
+ * connected users as server-sent events.
+ * <p>
+ * All the connections of a user with the same access token and role share one subscription. One
+ * scheduler per pod polls BPMS for every subscription once per {@link
+ * ProcessInstanceEventsProperties#getPollInterval() poll interval} on behalf of the subscribed user
+ * and sends the differences from the previous poll. A poll is run with the security and trace
+ * context of the subscribing request, so the access token baggage is passed to BPMS. Connections
+ * are served asynchronously, so an idle connection doesn't hold a servlet thread.
+ * <p>
+ * Events:
+ * <li>{@code snapshot} - the watched process instances, sent once to a new connection</li>
+ * <li>{@code process-instance} - a started or changed process instance</li>
+ * <li>{@code process-instance-removed} - id of a finished process instance</li>
+ * <li>{@code count} - count of unfinished process instances, sent to a new connection and on
+ * change</li>
+ */
+@Slf4j
+@Service
+public class ProcessInstanceEventService implements DisposableBean {
+
+  public static final String SNAPSHOT_EVENT = "snapshot";
+  public static final String PROCESS_INSTANCE_EVENT = "process-instance";
+  public static final String PROCESS_INSTANCE_REMOVED_EVENT = "process-instance-removed";
+  public static final String COUNT_EVENT = "count";
+
+  private static final String POLLER = "process-instance-events";
+
+  private final ProcessInstanceRemoteService processInstanceRemoteService;
+  private final ProcessInstanceEventsProperties properties;
+  private final CurrentTraceContext currentTraceContext;
+  private final Map<List<Object>, Subscription> subscriptions = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService pollExecutor;
+
+  public ProcessInstanceEventService(ProcessInstanceRemoteService processInstanceRemoteService,
+      ProcessInstanceEventsProperties properties, MeterRegistry meterRegistry,
+      CurrentTraceContext currentTraceContext) {
+    this.processInstanceRemoteService = processInstanceRemoteService;
+    this.properties = properties;
+    this.currentTraceContext = currentTraceContext;
+    this.pollExecutor = currentTraceContext.executorService(ExecutorServiceMetrics.monitor(
+        meterRegistry, Executors.newFixedThreadPool(properties.getPollerThreads(),
+            new CustomizableThreadFactory(POLLER + "-")), POLLER));
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory(POLLER + "-scheduler-"));
+    var interval = properties.getPollInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(this::pollSubscriptions, interval, interval,
+        TimeUnit.MILLISECONDS);
+    Gauge.builder("process.instance.events.subscriptions", subscriptions, Map::size)
+        .description("Number of users that receive process instance events")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Subscribing the current user to process instance events
+   *
+   * @param systemRole the role which status titles are used
+   * @return the emitter of the events
+   */
+  public SseEmitter subscribe(SystemRole systemRole) {
+    var emitter = new SseEmitter(properties.getTimeout().toMillis());
+    var key = List.<Object>of(SecurityContextUtils.getCurrentAccessToken(), systemRole);
+    var securityContext = SecurityContextHolder.createEmptyContext();
+    securityContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+
+    var subscription = subscriptions.compute(key, (k, existing) -> {
+      var result = Objects.isNull(existing)
+          ? new Subscription(systemRole, securityContext, currentTraceContext.get()) : existing;
+      result.emitters.add(emitter);
+      return result;
+    });
+    emitter.onCompletion(() -> unsubscribe(key, emitter));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(error -> unsubscribe(key, emitter));
+    log.info("Subscribed to {} process instance events, {} connections", systemRole,
+        subscription.emitters.size());
+
+    var snapshot = subscription.snapshot;
+    if (Objects.isNull(snapshot)) {
+      schedulePoll(subscription);
+    } else {
+      send(subscription, emitter, SseEmitter.event().name(SNAPSHOT_EVENT)
+          .data(snapshot.processInstances.values(), MediaType.APPLICATION_JSON));
+      send(subscription, emitter, SseEmitter.event().name(COUNT_EVENT)
+          .data(snapshot.count, MediaType.APPLICATION_JSON));
+    }
+    return emitter;
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+    pollExecutor.shutdownNow();
+    subscriptions.values().forEach(subscription -> subscription.emitters.forEach(
+        SseEmitter::complete));
+    subscriptions.clear();
+  }
+
+  void pollSubscriptions() {
+    subscriptions.values().forEach(this::schedulePoll);
+  }
+
+  int subscriptionCount() {
+    return subscriptions.size();
+  }
+
+  private void unsubscribe(List<Object> key, SseEmitter emitter) {
+    subscriptions.computeIfPresent(key, (k, subscription) -> {
+      subscription.emitters.remove(emitter);
+      return subscription.emitters.isEmpty() ? null : subscription;
+    });
+  }
+
+  private void schedulePoll(Subscription subscription) {
+    // a slow BPMS response doesn't make polls of the same user pile up
+    if (!subscription.polling.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      pollExecutor.execute(new DelegatingSecurityContextRunnable(() -> {
+        // polls are scheduled without a request, so the trace context of the subscription is used
+        try (var scope = currentTraceContext.newScope(subscription.traceContext)) {
+          poll(subscription);
+        }
+      }, subscription.securityContext));
+    } catch (RejectedExecutionException ex) {
+      subscription.polling.set(false);
+    }
+  }
+
+  private void poll(Subscription subscription) {
+    try {
+      var processInstances = processInstanceRemoteService.getProcessInstances(
+          Pageable.builder().maxResults(properties.getPageSize()).build(),
+          subscription.systemRole);
+      var count = processInstanceRemoteService.countProcessInstances();
+      subscription.failures = 0;
+      publish(subscription, new Snapshot(processInstances.stream()
+          .collect(Collectors.toMap(GetProcessInstanceResponse::getId, Function.identity(),
+              (first, second) -> first, LinkedHashMap::new)), count));
+    } catch (RuntimeException ex) {
+      log.warn("Couldn't poll {} process instances", subscription.systemRole, ex);
+      if (++subscription.failures >= properties.getMaxFailures()) {
+        // the access token is most likely expired, the client reconnects with a fresh one
+        subscription.emitters.forEach(SseEmitter::complete);
+      }
+    } finally {
+      subscription.polling.set(false);
+    }
+  }
+
+  private void publish(Subscription subscription, Snapshot snapshot) {
+    var previous = subscription.snapshot;
+    subscription.snapshot = snapshot;
+    if (Objects.isNull(previous)) {
+      broadcast(subscription, () -> SseEmitter.event().name(SNAPSHOT_EVENT)
+          .data(snapshot.processInstances.values(), MediaType.APPLICATION_JSON));
+      broadcast(subscription, () -> SseEmitter.event().name(COUNT_EVENT)
+          .data(snapshot.count, MediaType.APPLICATION_JSON));
+      return;
+    }
+
+    var changed = false;
+    for (var processInstance : snapshot.processInstances.values()) {
+      if (!processInstance.equals(previous.processInstances.get(processInstance.getId()))) {
+        changed = true;
+        broadcast(subscription, () -> SseEmitter.event().name(PROCESS_INSTANCE_EVENT)
+            .data(processInstance, MediaType.APPLICATION_JSON));
+      }
+    }
+    for (var id : previous.processInstances.keySet()) {
+      if (!snapshot.processInstances.containsKey(id)) {
+        changed = true;
+        broadcast(subscription, () -> SseEmitter.event().name(PROCESS_INSTANCE_REMOVED_EVENT)
+            .data(Map.of("id", id), MediaType.APPLICATION_JSON));
+      }
+    }
+    if (!snapshot.count.equals(previous.count)) {
+      changed = true;
+      broadcast(subscription, () -> SseEmitter.event().name(COUNT_EVENT)
+          .data(snapshot.count, MediaType.APPLICATION_JSON));
+    }
+    if (!changed) {
+      // keeps the idle connection open through proxies and drops the connections closed by clients
+      broadcast(subscription, () -> SseEmitter.event().comment("keep-alive"));
+    }
+  }
+
+  private void broadcast(Subscription subscription, Supplier<SseEventBuilder> event) {
+    // an event builder can't be reused, it's completed when it's sent
+    subscription.emitters.forEach(emitter -> send(subscription, emitter, event.get()));
+  }
+
+  private void send(Subscription subscription, SseEmitter emitter, SseEventBuilder event) {
+    try {
+      emitter.send(event);
+    } catch (IOException | IllegalStateException ex) {
+      log.debug("Couldn't send {} process instance event", subscription.systemRole, ex);
+      emitter.completeWithError(ex);
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class Subscription {
+
+    private final SystemRole systemRole;
+    private final SecurityContext securityContext;
+    private final TraceContext traceContext;
+    private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+    // changed by the single running poll of the subscription only
+    private volatile int failures;
+  }
+
+  @RequiredArgsConstructor
+  private static class Snapshot {
+
+    private final Map<String, GetProcessInstanceResponse> processInstances;
+    private final CountResponse count;
+  }
+}
@@ -17,13 +17,24 @@
 package com.epam.digital.data.platform.usrprcssmgt.service;
 
 import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.CountCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessInstanceStreamingProperties;
+import com.epam.digital.data.platform.usrprcssmgt.exception.InvalidCursorException;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.ProcessInstanceCursor;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessInstancePage;
 import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessInstanceRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ReactiveProcessInstanceRemoteService;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 /**
@@ -36,13 +47,23 @@ import org.springframework.stereotype.Service;
  * officer processInstances}</li>
  * <li>{@link ProcessInstanceService#getCitizenProcessInstances(Pageable) Getting not completed
  * citizen processInstances}</li>
+ * <li>{@link ProcessInstanceService#streamProcessInstances(Pageable, SystemRole, Consumer)
+ * Streaming not completed processInstances}</li>
+ * <li>{@link ProcessInstanceService#getProcessInstancePage(Pageable, SystemRole) Getting not
+ * completed processInstances with cursor pagination}</li>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProcessInstanceService {
 
+  private static final int ANCHOR_SEARCH_DISTANCE = 20;
+
   private final ProcessInstanceRemoteService processInstanceRemoteService;
+  private final ProcessInstanceStreamingProperties processInstanceStreamingProperties;
+  private final ObjectProvider<ReactiveProcessInstanceRemoteService>
+      reactiveProcessInstanceRemoteService;
+  private final CountCacheProperties countCacheProperties;
 
   /**
    * Getting count of unfinished user process instances
@@ -58,6 +79,48 @@ public class ProcessInstanceService {
     return result;
   }
 
+  /**
+   * Getting count of unfinished user process instances without holding the calling thread while
+   * BPMS counts them, if {@link ReactiveProcessInstanceRemoteService non-blocking BPMS client} is
+   * enabled. Otherwise, and if {@link CountCacheProperties count cache} is enabled, the count is
+   * got by the calling thread, so the cached count is returned and concurrent misses are
+   * coalesced.
+   *
+   * @return future of dto with count of unfinished user process instances
+   */
+  public CompletableFuture<CountResponse> countProcessInstancesAsync() {
+    var reactiveRemoteService = reactiveProcessInstanceRemoteService.getIfAvailable();
+    if (Objects.isNull(reactiveRemoteService) || countCacheProperties.isEnabled()) {
+      return CompletableFuture.completedFuture(countProcessInstances());
+    }
+    log.info("Getting count of unfinished process instances");
+
+    return reactiveRemoteService.countProcessInstances()
+        .doOnNext(result -> log.info("Count of unfinished process instances is found - {}",
+            result.getCount()))
+        .toFuture();
+  }
+
+  /**
+   * Getting list of unfinished user process instances with {@link
+   * ReactiveProcessInstanceRemoteService non-blocking BPMS client}, can be called only if it's
+   * enabled
+   *
+   * @param page       the pagination parameters
+   * @param systemRole the role which status titles are used
+   * @return future of list with entities of unfinished user process instances
+   */
+  public CompletableFuture<List<GetProcessInstanceResponse>> getProcessInstancesAsync(
+      Pageable page, SystemRole systemRole) {
+    log.info("Getting unfinished {} process instances. Parameters: {}", systemRole, page);
+
+    return reactiveProcessInstanceRemoteService.getObject()
+        .getProcessInstances(page, systemRole)
+        .doOnNext(result -> log.info("Found {} unfinished {} process instances", result.size(),
+            systemRole))
+        .toFuture();
+  }
+
   /**
    * Getting list of unfinished user process instances for officer
    *
@@ -85,4 +148,134 @@ public class ProcessInstanceService {
     log.info("Found {} unfinished citizen process instances", result.size());
     return result;
   }
+
+  /**
+   * Passing unfinished user process instances to the consumer one by one. If {@link
+   * ProcessInstanceStreamingProperties#isEnabled() streaming} is enabled, process instances are
+   * passed while they are read from BPMS, otherwise the whole page is got first.
+   *
+   * @param page       the pagination parameters
+   * @param systemRole the role which status titles are used
+   * @param consumer   the consumer of process instances
+   */
+  public void streamProcessInstances(Pageable page, SystemRole systemRole,
+      Consumer<GetProcessInstanceResponse> consumer) {
+    if (!processInstanceStreamingProperties.isEnabled()) {
+      var result = SystemRole.CITIZEN == systemRole ? getCitizenProcessInstances(page)
+          : getOfficerProcessInstances(page);
+      result.forEach(consumer);
+      return;
+    }
+    log.info("Streaming unfinished {} process instances. Parameters: {}", systemRole, page);
+
+    var count = new AtomicLong();
+    processInstanceRemoteService.streamProcessInstances(page, systemRole,
+        consumer.andThen(processInstance -> count.incrementAndGet()));
+
+    log.info("Streamed {} unfinished {} process instances", count.get(), systemRole);
+  }
+
+  /**
+   * Getting a page of unfinished user process instances with cursor pagination. The next page
+   * token encodes the sort key, the last returned process instance and the position after it.
+   * <p>
+   * BPMS process instance query supports offset pagination only, so the cursor is an offset with
+   * an anchor: the page is read from the position kept in the token together with the last process
+   * instance of the previous page, and BPMS still pays the offset cost of deep pages. If process
+   * instances before the position were started meanwhile, the page starts right after the anchor
+   * found in the read window and is read again from the anchor if the window doesn't hold the
+   * whole page. If the anchor isn't found there (process instances before it were
+   * finished or it's finished itself), the list is read again
+   * {@value #ANCHOR_SEARCH_DISTANCE} process instances around the position. The cursor is rejected
+   * with {@link InvalidCursorException} if the anchor isn't found there either, so the client
+   * reads the list from the first page again instead of getting repeated or skipped process
+   * instances.
+   *
+   * @param page       the pagination parameters with {@link Pageable#getCursor() cursor}
+   * @param systemRole the role which status titles are used
+   * @return the page with the next page cursor
+   * @throws InvalidCursorException if the cursor is malformed or the anchor isn't found
+   */
+  public ProcessInstancePage getProcessInstancePage(Pageable page, SystemRole systemRole) {
+    log.info("Getting unfinished {} process instances page. Parameters: {}", systemRole, page);
+
+    var cursor = Objects.isNull(page.getCursor()) || page.getCursor().isEmpty() ? null
+        : ProcessInstanceCursor.decode(page.getCursor());
+    var sortBy = Objects.isNull(cursor) ? page.getSortBy() : cursor.getSortBy();
+    var sortOrder = Objects.isNull(cursor) ? page.getSortOrder() : cursor.getSortOrder();
+    var position = Objects.isNull(cursor) ? Objects.requireNonNullElse(page.getFirstResult(), 0)
+        : cursor.getPosition();
+    // the last process instance of the previous page is read again to check the page boundary
+    var overlap = Objects.nonNull(cursor) && position > 0 ? 1 : 0;
+    var maxResults = page.getMaxResults();
+
+    var windowStart = position - overlap;
+    var readSize = Objects.isNull(maxResults) ? null : maxResults + overlap;
+    var result = readProcessInstances(windowStart, readSize, sortBy, sortOrder, systemRole);
+    var from = 0;
+    if (overlap > 0) {
+      var anchor = indexOf(result, cursor.getLastId());
+      if (anchor < 0) {
+        log.debug("Last process instance of the previous page isn't found at its position");
+        windowStart = Math.max(0, position - overlap - ANCHOR_SEARCH_DISTANCE);
+        readSize = Objects.isNull(maxResults) ? null
+            : position - windowStart + ANCHOR_SEARCH_DISTANCE + maxResults;
+        result = readProcessInstances(windowStart, readSize, sortBy, sortOrder, systemRole);
+        anchor = indexOf(result, cursor.getLastId());
+      }
+      // a full window could end before the page does if the anchor is shifted
+      if (anchor >= 0 && Objects.nonNull(maxResults) && result.size() == readSize
+          && result.size() - anchor - 1 < maxResults) {
+        log.debug("Last process instance of the previous page is shifted, reading the page again");
+        windowStart += anchor;
+        readSize = maxResults + 1;
+        result = readProcessInstances(windowStart, readSize, sortBy, sortOrder, systemRole);
+        anchor = indexOf(result, cursor.getLastId());
+      }
+      if (anchor < 0) {
+        throw new InvalidCursorException("Process instance cursor is outdated, "
+            + "the list has to be read from the first page");
+      }
+      from = anchor + 1;
+    }
+    var to = Objects.isNull(maxResults) ? result.size()
+        : Math.min(result.size(), from + maxResults);
+    var content = result.subList(from, to);
+
+    String nextCursor = null;
+    if (Objects.nonNull(maxResults) && !content.isEmpty() && content.size() == maxResults) {
+      nextCursor = ProcessInstanceCursor.builder()
+          .sortBy(sortBy)
+          .sortOrder(sortOrder)
+          .lastId(content.get(content.size() - 1).getId())
+          .position(windowStart + to)
+          .build()
+          .encode();
+    }
+
+    log.info("Found {} unfinished {} process instances", content.size(), systemRole);
+    return ProcessInstancePage.builder()
+        .content(content)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  private List<GetProcessInstanceResponse> readProcessInstances(int firstResult,
+      Integer maxResults, String sortBy, String sortOrder, SystemRole systemRole) {
+    return processInstanceRemoteService.getProcessInstances(Pageable.builder()
+        .firstResult(firstResult)
+        .maxResults(maxResults)
+        .sortBy(sortBy)
+        .sortOrder(sortOrder)
+        .build(), systemRole);
+  }
+
+  private int indexOf(List<GetProcessInstanceResponse> processInstances, String id) {
+    for (var i = 0; i < processInstances.size(); i++) {
+      if (id.equals(processInstances.get(i).getId())) {
+        return i;
+      }
+    }
+    return -1;
+  }
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.service;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.starter.errorhandling.BaseRestExceptionHandler;
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties.AsyncProperties;
+import com.epam.digital.data.platform.usrprcssmgt.exception.ProcessStartQueueFullException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.StartTicketNotFoundException;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.IdempotencyKeys;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.IdempotencyStore;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceTicketResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceTicketResponse.Status;
+import com.epam.digital.data.platform.usrprcssmgt.util.ErrorStatuses;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded queue of accepted asynchronous process instance starts.
+ * <p>
+ * A start is run by one of {@link AsyncProperties#getWorkers() workers} with the trace and
+ * security context of the request that accepted it. If all the workers are busy and the queue is
+ * full, the start is rejected with {@link ProcessStartQueueFullException}. Ticket states are kept
+ * in {@link IdempotencyStore} for {@link AsyncProperties#getTicketTimeToLive() ticket time to
+ * live}, so with redis form data storage a ticket could be polled on any pod. A ticket is
+ * available only to the user that has got it.
+ * <p>
+ * On shutdown new starts are rejected and the accepted ones are finished for
+ * {@link AsyncProperties#getDrainTimeout() drain timeout}, the ones that haven't been started by
+ * then are failed and cancelled. A failed start keeps the status that the synchronous start would
+ * respond with, see {@link ErrorStatuses}.
+ * <p>
+ * Queue and worker metrics are published as {@code executor*} meters with
+ * {@code name=process-start-async} tag, the number of accepted unfinished starts as
+ * {@code process.start.async.pending} meter and rejected starts as
+ * {@code process.start.async.rejected} meter.
+ */
+@Slf4j
+@Component
+public class ProcessStartQueue implements DisposableBean {
+
+  public static final String PENDING_METRIC = "process.start.async.pending";
+  public static final String REJECTED_METRIC = "process.start.async.rejected";
+
+  private static final String PROCESS_START_ASYNC = "process-start-async";
+  private static final String TICKET_KEY_PREFIX = "start-ticket:";
+
+  private final IdempotencyStore idempotencyStore;
+  private final ObjectMapper objectMapper;
+  private final AsyncProperties properties;
+  private final ExecutorService executor;
+  private final Map<String, PendingStart> pendingStarts = new ConcurrentHashMap<>();
+  private final Counter rejected;
+
+  public ProcessStartQueue(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+      ProcessStartProperties processStartProperties, MeterRegistry meterRegistry,
+      CurrentTraceContext currentTraceContext) {
+    this.idempotencyStore = idempotencyStore;
+    this.objectMapper = objectMapper;
+    this.properties = processStartProperties.getAsync();
+    var workers = new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(), 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        new CustomizableThreadFactory(PROCESS_START_ASYNC + "-"));
+    this.executor = new DelegatingSecurityContextExecutorService(
+        currentTraceContext.executorService(
+            ExecutorServiceMetrics.monitor(meterRegistry, workers, PROCESS_START_ASYNC)));
+    Gauge.builder(PENDING_METRIC, pendingStarts, Map::size)
+        .description("Number of accepted process instance starts that haven't finished")
+        .register(meterRegistry);
+    this.rejected = Counter.builder(REJECTED_METRIC)
+        .description("Number of process instance starts rejected because the queue is full")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Accepting the process instance start
+   *
+   * @param processDefinitionKey the process definition key
+   * @param authentication       the current user authentication
+   * @param start                the process instance start
+   * @param cancel               the action that cleans up after the start that won't be run,
+   *                             e.g. deletes the stored start form data
+   * @return the accepted ticket
+   * @throws ProcessStartQueueFullException if the queue is full or the service is stopping
+   */
+  public StartProcessInstanceTicketResponse submit(String processDefinitionKey,
+      Authentication authentication, Supplier<StartProcessInstanceResponse> start,
+      Runnable cancel) {
+    var ticket = StartProcessInstanceTicketResponse.builder()
+        .ticketId(UUID.randomUUID().toString())
+        .processDefinitionKey(processDefinitionKey)
+        .status(Status.ACCEPTED)
+        .build();
+    var storeKey = storeKey(ticket.getTicketId(), authentication);
+    idempotencyStore.put(storeKey, toJson(ticket), properties.getTicketTimeToLive());
+
+    var pendingStart = new PendingStart(ticket, storeKey, cancel);
+    pendingStarts.put(ticket.getTicketId(), pendingStart);
+    try {
+      executor.execute(() -> run(pendingStart, start));
+    } catch (RejectedExecutionException exception) {
+      pendingStarts.remove(ticket.getTicketId());
+      idempotencyStore.remove(storeKey);
+      cancel.run();
+      rejected.increment();
+      log.warn("Process start queue is full, process instance start is rejected");
+      throw new ProcessStartQueueFullException(
+          "Too many process instance starts are in progress, try again later");
+    }
+    log.info("Process instance start of process definition {} is accepted. Ticket {}",
+        processDefinitionKey, ticket.getTicketId());
+    return ticket;
+  }
+
+  /**
+   * Getting the state of the accepted process instance start
+   *
+   * @param ticketId       the ticket id
+   * @param authentication the current user authentication
+   * @return the ticket state
+   * @throws StartTicketNotFoundException if the ticket doesn't exist, has expired or belongs to
+   *                                      another user
+   */
+  public StartProcessInstanceTicketResponse getTicket(String ticketId,
+      Authentication authentication) {
+    var value = idempotencyStore.get(storeKey(ticketId, authentication));
+    if (Objects.isNull(value)) {
+      throw new StartTicketNotFoundException("Process instance start ticket is not found");
+    }
+    return fromJson(value);
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(properties.getDrainTimeout().toMillis(),
+        TimeUnit.MILLISECONDS)) {
+      log.warn("Process start queue hasn't been drained in {}, cancelling {} unfinished starts",
+          properties.getDrainTimeout(), pendingStarts.size());
+      executor.shutdownNow();
+      // interrupted starts store their failures
+      executor.awaitTermination(properties.getDrainTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+    // the starts that are still running after the drain were interrupted and store their failures
+    pendingStarts.values().stream()
+        .filter(pendingStart -> pendingStart.claimed.compareAndSet(false, true))
+        .forEach(pendingStart -> {
+          pendingStart.cancel.run();
+          complete(pendingStart, pendingStart.ticket.toBuilder()
+              .status(Status.FAILED)
+              .error(SystemErrorDto.builder()
+                  .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+                  .code(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()))
+                  .message("Service has stopped before the process instance start, start it again")
+                  .build())
+              .build());
+        });
+  }
+
+  private void run(PendingStart pendingStart, Supplier<StartProcessInstanceResponse> start) {
+    if (!pendingStart.claimed.compareAndSet(false, true)) {
+      return;
+    }
+    StartProcessInstanceTicketResponse result;
+    try {
+      result = pendingStart.ticket.toBuilder()
+          .status(Status.STARTED)
+          .result(start.get())
+          .build();
+    } catch (RuntimeException exception) {
+      log.warn("Accepted process instance start of process definition {} has failed",
+          pendingStart.ticket.getProcessDefinitionKey(), exception);
+      result = pendingStart.ticket.toBuilder()
+          .status(Status.FAILED)
+          .error(ErrorStatuses.toSystemError(exception))
+          .build();
+    }
+    complete(pendingStart, result);
+  }
+
+  private void complete(PendingStart pendingStart, StartProcessInstanceTicketResponse result) {
+    try {
+      idempotencyStore.put(pendingStart.storeKey, toJson(result),
+          properties.getTicketTimeToLive());
+    } catch (RuntimeException exception) {
+      log.error("Couldn't store result of process instance start ticket {}",
+          result.getTicketId(), exception);
+    } finally {
+      pendingStarts.remove(pendingStart.ticket.getTicketId());
+    }
+  }
+
+  private String storeKey(String ticketId, Authentication authentication) {
+    return TICKET_KEY_PREFIX + IdempotencyKeys.of(authentication.getName(), ticketId);
+  }
+
+  private String toJson(StartProcessInstanceTicketResponse ticket) {
+    try {
+      return objectMapper.writeValueAsString(ticket);
+    } catch (JsonProcessingException exception) {
+      throw new IllegalStateException("Couldn't serialize process instance start ticket",
+          exception);
+    }
+  }
+
+  private StartProcessInstanceTicketResponse fromJson(String value) {
+    try {
+      return objectMapper.readValue(value, StartProcessInstanceTicketResponse.class);
+    } catch (JsonProcessingException exception) {
+      throw new IllegalStateException("Couldn't deserialize process instance start ticket",
+          exception);
+    }
+  }
+
+  private static class PendingStart {
+
+    private final StartProcessInstanceTicketResponse ticket;
+    private final String storeKey;
+    private final Runnable cancel;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private PendingStart(StartProcessInstanceTicketResponse ticket, String storeKey,
+        Runnable cancel) {
+      this.ticket = ticket;
+      this.storeKey = storeKey;
+      this.cancel = cancel;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.AccessTokenReferenceProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+
+/**
+ * Interceptor of the redis {@code FormDataStorageService} that stores the access token of the
+ * stored {@link FormDataDto} in redis once per token until the token expires and replaces it with
+ * a reference to the token, so the same token isn't stored with every start form data of the
+ * user. The read form data gets the referenced token back, or no token if it has expired.
+ * <p>
+ * The token is stored by SHA-256 hash of the token. Hashes of the stored tokens are remembered by
+ * the pod until the tokens expire, so the token isn't sent to redis on the next start. The stored
+ * token could be evicted from redis meanwhile, so its expiration is set again on the next start
+ * and the token is stored again if the key is missing. A token without {@code exp} claim or that
+ * expires sooner than the minimum time to live is kept in the form data as is.
+ */
+@Slf4j
+public class AccessTokenReferenceInterceptor implements MethodInterceptor {
+
+  public static final String REFERENCE_PREFIX = "access-token-ref:";
+  public static final String REFERENCES_METRIC = "form.data.access.token.references";
+
+  private static final String KEY_PREFIX = "access-token:";
+
+  private final RedisCommandPipeline redisCommandPipeline;
+  private final ObjectMapper objectMapper;
+  private final Duration minimumTimeToLive;
+  private final Cache<String, Instant> storedTokens;
+  private final Counter stored;
+  private final Counter reused;
+  private final Counter inline;
+
+  public AccessTokenReferenceInterceptor(RedisCommandPipeline redisCommandPipeline,
+      ObjectMapper objectMapper, AccessTokenReferenceProperties properties,
+      MeterRegistry meterRegistry) {
+    this.redisCommandPipeline = redisCommandPipeline;
+    this.objectMapper = objectMapper;
+    this.minimumTimeToLive = properties.getMinimumTimeToLive();
+    this.storedTokens = Caffeine.newBuilder()
+        .maximumSize(properties.getMaximumRememberedTokens())
+        .build();
+    this.stored = references("stored", meterRegistry);
+    this.reused = references("reused", meterRegistry);
+    this.inline = references("inline", meterRegistry);
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    var arguments = invocation.getArguments();
+    for (var i = 0; i < arguments.length; i++) {
+      if (arguments[i] instanceof FormDataDto) {
+        arguments[i] = withTokenReference((FormDataDto) arguments[i]);
+      }
+    }
+    var result = invocation.proceed();
+    if (result instanceof FormDataDto) {
+      return withResolvedToken((FormDataDto) result);
+    }
+    if (result instanceof Optional) {
+      return ((Optional<?>) result).map(
+          value -> value instanceof FormDataDto ? withResolvedToken((FormDataDto) value) : value);
+    }
+    return result;
+  }
+
+  private FormDataDto withTokenReference(FormDataDto formDataDto) {
+    var accessToken = formDataDto.getAccessToken();
+    if (Objects.isNull(accessToken) || accessToken.startsWith(REFERENCE_PREFIX)) {
+      return formDataDto;
+    }
+    var expiresAt = expiresAt(accessToken);
+    var now = Instant.now();
+    if (Objects.isNull(expiresAt) || expiresAt.isBefore(now.plus(minimumTimeToLive))) {
+      inline.increment();
+      return formDataDto;
+    }
+
+    var hash = hash(accessToken);
+    var key = KEY_PREFIX + hash;
+    var knownExpiresAt = storedTokens.getIfPresent(hash);
+    if (Objects.nonNull(knownExpiresAt) && knownExpiresAt.isAfter(now)
+        && Boolean.TRUE.equals(redisCommandPipeline.executeRepeatable(
+            connection -> connection.pExpireAt(key, expiresAt.toEpochMilli())))) {
+      reused.increment();
+    } else {
+      var timeToLive = Duration.between(now, expiresAt);
+      // the same key always has the same token, so a repeated set is harmless
+      if (Boolean.TRUE.equals(redisCommandPipeline.executeRepeatable(connection -> connection.set(
+          key, accessToken, Expiration.milliseconds(timeToLive.toMillis()),
+          SetOption.SET_IF_ABSENT)))) {
+        stored.increment();
+      } else {
+        reused.increment();
+      }
+      storedTokens.put(hash, expiresAt);
+    }
+    return FormDataDto.builder()
+        .data(formDataDto.getData())
+        .signature(formDataDto.getSignature())
+        .accessToken(REFERENCE_PREFIX + hash)
+        .build();
+  }
+
+  private FormDataDto withResolvedToken(FormDataDto formDataDto) {
+    var accessToken = formDataDto.getAccessToken();
+    if (Objects.isNull(accessToken) || !accessToken.startsWith(REFERENCE_PREFIX)) {
+      return formDataDto;
+    }
+    var hash = accessToken.substring(REFERENCE_PREFIX.length());
+    return FormDataDto.builder()
+        .data(formDataDto.getData())
+        .signature(formDataDto.getSignature())
+        .accessToken(
+            redisCommandPipeline.executeRepeatable(connection -> connection.get(KEY_PREFIX + hash)))
+        .build();
+  }
+
+  private Instant expiresAt(String accessToken) {
+    var parts = accessToken.split("\\.");
+    if (parts.length < 2) {
+      return null;
+    }
+    try {
+      var exp = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+      return Objects.nonNull(exp) && exp.canConvertToLong()
+          ? Instant.ofEpochSecond(exp.asLong()) : null;
+    } catch (IOException | IllegalArgumentException exception) {
+      log.debug("Couldn't read access token expiration, the token is stored as is", exception);
+      return null;
+    }
+  }
+
+  private static String hash(String accessToken) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256")
+          .digest(accessToken.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not supported", exception);
+    }
+  }
+
+  private static Counter references(String outcome, MeterRegistry meterRegistry) {
+    return Counter.builder(REFERENCES_METRIC)
+        .description("Number of stored start form data access tokens by storage outcome")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataCodecProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.luben.zstd.Zstd;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Serializes a value to the configured format and compresses it if it's not smaller than the
+ * compression threshold.
+ * <p>
+ * Encoded value starts with a header, so it's decoded regardless of the current settings:
+ * <pre>
+ * 'F' 'D' version format compression [raw length, 4 bytes, if compressed] payload
+ * </pre>
+ */
+public class FormDataCodec {
+
+  private static final byte MAGIC_FIRST = 'F';
+  private static final byte MAGIC_SECOND = 'D';
+  private static final byte VERSION = 1;
+  private static final int HEADER_LENGTH = 5;
+  private static final int COMPRESSED_HEADER_LENGTH = HEADER_LENGTH + Integer.BYTES;
+
+  private final Map<Format, ObjectMapper> mappers = new EnumMap<>(Format.class);
+  private final Format format;
+  private final Compression compression;
+  private final int compressionThreshold;
+  private final int zstdLevel;
+  private final LZ4Compressor lz4Compressor = LZ4Factory.fastestInstance().fastCompressor();
+  private final LZ4FastDecompressor lz4Decompressor =
+      LZ4Factory.fastestInstance().fastDecompressor();
+
+  public FormDataCodec(ObjectMapper objectMapper, FormDataCodecProperties properties) {
+    this.mappers.put(Format.JSON, objectMapper);
+    this.mappers.put(Format.SMILE, new SmileMapper());
+    this.mappers.put(Format.CBOR, new CBORMapper());
+    this.format = properties.getFormat();
+    this.compression = properties.getCompression();
+    this.compressionThreshold = (int) properties.getCompressionThreshold().toBytes();
+    this.zstdLevel = properties.getZstdLevel();
+  }
+
+  /**
+   * Checking if the bytes are encoded by the codec
+   *
+   * @param bytes the bytes to check
+   * @return {@code true} if the bytes start with the codec header
+   */
+  public static boolean isEncoded(byte[] bytes) {
+    return bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC_FIRST && bytes[1] == MAGIC_SECOND;
+  }
+
+  /**
+   * Getting the length of the serialized value before compression
+   *
+   * @param encoded the encoded value
+   * @return the length of the serialized value
+   */
+  public static int rawLength(byte[] encoded) {
+    var compression = Compression.of(encoded[4]);
+    return compression == Compression.NONE ? encoded.length - HEADER_LENGTH
+        : ByteBuffer.wrap(encoded, HEADER_LENGTH, Integer.BYTES).getInt();
+  }
+
+  /**
+   * Getting the format the value has been serialized to
+   *
+   * @param encoded the encoded value
+   * @return the value format
+   */
+  public static Format format(byte[] encoded) {
+    return Format.of(encoded[3]);
+  }
+
+  /**
+   * Getting the length of the value serialized to json without encoding, as the value would be
+   * stored without the codec
+   *
+   * @param value the value
+   * @return the length of the json
+   */
+  public int jsonLength(Object value) {
+    try {
+      return mappers.get(Format.JSON).writeValueAsBytes(value).length;
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Couldn't serialize form data", exception);
+    }
+  }
+
+  /**
+   * Encoding the value
+   *
+   * @param value the value to encode
+   * @return the header followed by the serialized and possibly compressed value
+   */
+  public byte[] encode(Object value) {
+    byte[] serialized;
+    try {
+      serialized = mappers.get(format).writeValueAsBytes(value);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Couldn't serialize form data", exception);
+    }
+    if (compression == Compression.NONE || serialized.length < compressionThreshold) {
+      var encoded = new byte[HEADER_LENGTH + serialized.length];
+      writeHeader(encoded, Compression.NONE);
+      System.arraycopy(serialized, 0, encoded, HEADER_LENGTH, serialized.length);
+      return encoded;
+    }
+    var encoded = compression == Compression.LZ4 ? compressLz4(serialized)
+        : compressZstd(serialized);
+    writeHeader(encoded, compression);
+    ByteBuffer.wrap(encoded, HEADER_LENGTH, Integer.BYTES).putInt(serialized.length);
+    return encoded;
+  }
+
+  /**
+   * Decoding the value encoded with any settings
+   *
+   * @param encoded the encoded value
+   * @param type    the value type
+   * @param <T>     the value type
+   * @return the decoded value
+   * @throws IllegalArgumentException if the value isn't encoded by the codec
+   */
+  public <T> T decode(byte[] encoded, Class<T> type) {
+    if (!isEncoded(encoded)) {
+      throw new IllegalArgumentException("Form data isn't encoded");
+    }
+    if (encoded[2] != VERSION) {
+      throw new IllegalArgumentException("Unsupported form data encoding version " + encoded[2]);
+    }
+    var valueFormat = Format.of(encoded[3]);
+    var valueCompression = Compression.of(encoded[4]);
+    try {
+      if (valueCompression == Compression.NONE) {
+        return mappers.get(valueFormat).readValue(encoded, HEADER_LENGTH,
+            encoded.length - HEADER_LENGTH, type);
+      }
+      var serialized = valueCompression == Compression.LZ4 ? decompressLz4(encoded)
+          : decompressZstd(encoded);
+      return mappers.get(valueFormat).readValue(serialized, type);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Couldn't deserialize form data", exception);
+    }
+  }
+
+  private void writeHeader(byte[] encoded, Compression valueCompression) {
+    encoded[0] = MAGIC_FIRST;
+    encoded[1] = MAGIC_SECOND;
+    encoded[2] = VERSION;
+    encoded[3] = format.id;
+    encoded[4] = valueCompression.id;
+  }
+
+  private byte[] compressLz4(byte[] serialized) {
+    var encoded = new byte[COMPRESSED_HEADER_LENGTH
+        + lz4Compressor.maxCompressedLength(serialized.length)];
+    var length = lz4Compressor.compress(serialized, 0, serialized.length, encoded,
+        COMPRESSED_HEADER_LENGTH, encoded.length - COMPRESSED_HEADER_LENGTH);
+    return Arrays.copyOf(encoded, COMPRESSED_HEADER_LENGTH + length);
+  }
+
+  private byte[] compressZstd(byte[] serialized) {
+    var encoded = new byte[COMPRESSED_HEADER_LENGTH
+        + (int) Zstd.compressBound(serialized.length)];
+    var length = Zstd.compressByteArray(encoded, COMPRESSED_HEADER_LENGTH,
+        encoded.length - COMPRESSED_HEADER_LENGTH, serialized, 0, serialized.length, zstdLevel);
+    if (Zstd.isError(length)) {
+      throw new IllegalStateException("Couldn't compress form data: "
+          + Zstd.getErrorName(length));
+    }
+    return Arrays.copyOf(encoded, COMPRESSED_HEADER_LENGTH + (int) length);
+  }
+
+  private byte[] decompressLz4(byte[] encoded) {
+    var serialized = new byte[rawLength(encoded)];
+    lz4Decompressor.decompress(encoded, COMPRESSED_HEADER_LENGTH, serialized, 0,
+        serialized.length);
+    return serialized;
+  }
+
+  private byte[] decompressZstd(byte[] encoded) {
+    var serialized = new byte[rawLength(encoded)];
+    var length = Zstd.decompressByteArray(serialized, 0, serialized.length, encoded,
+        COMPRESSED_HEADER_LENGTH, encoded.length - COMPRESSED_HEADER_LENGTH);
+    if (Zstd.isError(length)) {
+      throw new IllegalArgumentException("Couldn't decompress form data: "
+          + Zstd.getErrorName(length));
+    }
+    return serialized;
+  }
+
+  public enum Format {
+    JSON(0),
+    SMILE(1),
+    CBOR(2);
+
+    private final byte id;
+
+    Format(int id) {
+      this.id = (byte) id;
+    }
+
+    private static Format of(byte id) {
+      return Arrays.stream(values())
+          .filter(value -> value.id == id)
+          .findFirst()
+          .orElseThrow(() -> new IllegalArgumentException("Unknown form data format " + id));
+    }
+  }
+
+  public enum Compression {
+    NONE(0),
+    LZ4(1),
+    ZSTD(2);
+
+    private final byte id;
+
+    Compression(int id) {
+      this.id = (byte) id;
+    }
+
+    private static Compression of(byte id) {
+      return Arrays.stream(values())
+          .filter(value -> value.id == id)
+          .findFirst()
+          .orElseThrow(() -> new IllegalArgumentException("Unknown form data compression " + id));
+    }
+  }
+}
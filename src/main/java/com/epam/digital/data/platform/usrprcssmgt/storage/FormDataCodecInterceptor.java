@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Format;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Interceptor of the {@code FormDataStorageService} that encodes form data and signature of the
+ * stored {@link FormDataDto} with {@link FormDataCodec} and decodes the read ones.
+ * <p>
+ * The storage service serializes {@link FormDataDto} itself, so the encoded value is kept as a
+ * base64 string under {@link #ENCODED_DATA_KEY} in the form data and the signature is cleared. The
+ * access token is kept as is. Form data that is read without the key or which key value isn't
+ * a base64 string of an encoded value is returned as is, so form data stored before the codec was
+ * enabled (or user data that has the same single key) is read too. Form data which encoded value
+ * isn't smaller than its json is stored as is, in any format.
+ */
+public class FormDataCodecInterceptor implements MethodInterceptor {
+
+  public static final String ENCODED_DATA_KEY = "@encoded";
+  public static final String STORED_SIZE_METRIC = "form.data.codec.stored.size";
+
+  private final FormDataCodec formDataCodec;
+  private final DistributionSummary encodedSize;
+  private final DistributionSummary plainSize;
+
+  public FormDataCodecInterceptor(FormDataCodec formDataCodec, MeterRegistry meterRegistry) {
+    this.formDataCodec = formDataCodec;
+    this.encodedSize = storedSize("encoded", meterRegistry);
+    this.plainSize = storedSize("plain", meterRegistry);
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    var arguments = invocation.getArguments();
+    for (var i = 0; i < arguments.length; i++) {
+      if (arguments[i] instanceof FormDataDto) {
+        arguments[i] = encode((FormDataDto) arguments[i]);
+      }
+    }
+    var result = invocation.proceed();
+    if (result instanceof FormDataDto) {
+      return decode((FormDataDto) result);
+    }
+    if (result instanceof Optional) {
+      return ((Optional<?>) result).map(
+          value -> value instanceof FormDataDto ? decode((FormDataDto) value) : value);
+    }
+    return result;
+  }
+
+  private FormDataDto encode(FormDataDto formDataDto) {
+    var payload = new Payload(formDataDto.getData(), formDataDto.getSignature());
+    var encoded = formDataCodec.encode(payload);
+    // json is serialized by the codec already, binary formats are serialized to json again
+    var plainLength = FormDataCodec.format(encoded) == Format.JSON
+        ? FormDataCodec.rawLength(encoded) : formDataCodec.jsonLength(payload);
+    var encodedLength = 4 * ((encoded.length + 2) / 3);
+    if (encodedLength >= plainLength) {
+      plainSize.record(plainLength);
+      return formDataDto;
+    }
+    encodedSize.record(encodedLength);
+    var data = new LinkedHashMap<String, Object>();
+    data.put(ENCODED_DATA_KEY, Base64.getEncoder().encodeToString(encoded));
+    return FormDataDto.builder()
+        .data(data)
+        .accessToken(formDataDto.getAccessToken())
+        .build();
+  }
+
+  private FormDataDto decode(FormDataDto formDataDto) {
+    var encoded = encodedValue(formDataDto.getData());
+    if (Objects.isNull(encoded)) {
+      return formDataDto;
+    }
+    var payload = formDataCodec.decode(encoded, Payload.class);
+    return FormDataDto.builder()
+        .data(payload.getData())
+        .signature(payload.getSignature())
+        .accessToken(formDataDto.getAccessToken())
+        .build();
+  }
+
+  private static byte[] encodedValue(Map<String, Object> data) {
+    if (Objects.isNull(data) || data.size() != 1
+        || !(data.get(ENCODED_DATA_KEY) instanceof String)) {
+      return null;
+    }
+    try {
+      var encoded = Base64.getDecoder().decode((String) data.get(ENCODED_DATA_KEY));
+      return FormDataCodec.isEncoded(encoded) ? encoded : null;
+    } catch (IllegalArgumentException exception) {
+      // user data that isn't base64
+      return null;
+    }
+  }
+
+  private static DistributionSummary storedSize(String encoding, MeterRegistry meterRegistry) {
+    return DistributionSummary.builder(STORED_SIZE_METRIC)
+        .description("Size of the stored form data and signature")
+        .baseUnit("bytes")
+        .tag("encoding", encoding)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class Payload {
+
+    private LinkedHashMap<String, Object> data;
+    private String signature;
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataStoragePipelineProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Executor of the redis commands that this service issues itself for the start form requests
+ * (idempotency entries and access token references). If pipelining is enabled, commands of
+ * concurrent requests are sent to redis in one pipeline.
+ * <p>
+ * Every command has to issue exactly one redis command on the given connection, the command result
+ * is taken from the pipeline results by its position, so a command never sees its result inside
+ * the pipeline. Executed commands are queued and the caller waits for the result no longer than
+ * {@code timeout}. A command that isn't sent in time is cancelled, a command that is already sent
+ * is awaited until redis answers. A single flusher thread takes the queued commands until
+ * {@code maxBatchSize} commands are collected or {@code maxDelay} passed since the first one and
+ * sends them in one pipeline.
+ * <p>
+ * If the pipeline fails, redis could have applied a part of its commands. Commands executed with
+ * {@link #executeRepeatable(Function)} (reads, deletes and unconditional sets) are then executed
+ * one by one, so each caller gets the result of its own command. The other commands (e.g. a
+ * conditional set) fail with the pipeline error, as a repeated command could see its own effect.
+ */
+@Slf4j
+public class RedisCommandPipeline implements DisposableBean {
+
+  public static final String PIPELINE_DEPTH_METRIC = "form.data.storage.pipeline.depth";
+  public static final String PIPELINE_FLUSH_METRIC = "form.data.storage.pipeline.flush";
+  public static final String PIPELINE_FALLBACK_METRIC = "form.data.storage.pipeline.fallbacks";
+
+  private final StringRedisTemplate redisTemplate;
+  private final boolean enabled;
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final long timeoutNanos;
+  private final BlockingQueue<PipelinedCommand> queue = new LinkedBlockingQueue<>();
+  private final ExecutorService flusher;
+  private final DistributionSummary pipelineDepth;
+  private final Timer flushLatency;
+  private final Counter fallbacks;
+  private volatile boolean running = true;
+
+  public RedisCommandPipeline(StringRedisTemplate redisTemplate,
+      FormDataStoragePipelineProperties properties, MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.enabled = properties.isEnabled();
+    this.maxBatchSize = properties.getMaxBatchSize();
+    this.maxDelayNanos = properties.getMaxDelay().toNanos();
+    this.timeoutNanos = properties.getTimeout().toNanos();
+    this.pipelineDepth = DistributionSummary.builder(PIPELINE_DEPTH_METRIC)
+        .description("Number of redis commands sent in one pipeline")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.flushLatency = Timer.builder(PIPELINE_FLUSH_METRIC)
+        .description("Time of sending one redis pipeline")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.fallbacks = Counter.builder(PIPELINE_FALLBACK_METRIC)
+        .description("Number of failed redis pipelines")
+        .register(meterRegistry);
+    if (enabled) {
+      this.flusher = Executors.newSingleThreadExecutor(
+          new CustomizableThreadFactory("form-data-pipeline-"));
+      this.flusher.execute(this::flushLoop);
+    } else {
+      this.flusher = null;
+    }
+  }
+
+  /**
+   * Executing the redis command that isn't repeated if the pipeline fails
+   *
+   * @param command function that issues exactly one redis command on the given connection
+   * @param <T>     type of the command result
+   * @return the command result
+   * @throws QueryTimeoutException if the pipeline didn't send the command in time
+   */
+  public <T> T execute(Function<StringRedisConnection, T> command) {
+    return execute(command, false);
+  }
+
+  /**
+   * Executing the redis command that has the same effect if it's executed again, it's repeated
+   * alone if the pipeline fails
+   *
+   * @param command function that issues exactly one redis command on the given connection
+   * @param <T>     type of the command result
+   * @return the command result
+   * @throws QueryTimeoutException if the pipeline didn't send the command in time
+   */
+  public <T> T executeRepeatable(Function<StringRedisConnection, T> command) {
+    return execute(command, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T execute(Function<StringRedisConnection, T> command, boolean repeatable) {
+    if (!enabled || !running) {
+      return executeDirectly(command);
+    }
+    var pipelinedCommand = new PipelinedCommand(command, repeatable);
+    queue.add(pipelinedCommand);
+    // the pipeline could be stopped after the check, the command is executed by the caller then,
+    // unless it's already taken by the stopping pipeline
+    if (!running && queue.remove(pipelinedCommand)) {
+      return executeDirectly(command);
+    }
+    try {
+      try {
+        return (T) pipelinedCommand.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        if (pipelinedCommand.claim()) {
+          throw new QueryTimeoutException("Redis pipeline didn't send the command in time", e);
+        }
+        // the command is already sent, its result is awaited so it isn't applied unnoticed
+        return (T) pipelinedCommand.result.get();
+      }
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Redis command failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pipelinedCommand.claim();
+      throw new QueryTimeoutException("Interrupted while waiting for redis pipeline", e);
+    }
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    running = false;
+    if (!enabled) {
+      return;
+    }
+    flusher.shutdownNow();
+    flusher.awaitTermination(1, TimeUnit.SECONDS);
+    var remaining = new ArrayList<PipelinedCommand>();
+    queue.drainTo(remaining);
+    remaining.stream().filter(PipelinedCommand::claim).forEach(this::executeAndComplete);
+  }
+
+  private void flushLoop() {
+    var batch = new ArrayList<PipelinedCommand>(maxBatchSize);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        collectBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (!batch.isEmpty()) {
+        flush(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void collectBatch(List<PipelinedCommand> batch) throws InterruptedException {
+    batch.add(queue.take());
+    var deadline = System.nanoTime() + maxDelayNanos;
+    while (batch.size() < maxBatchSize) {
+      var command = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+      if (command == null) {
+        return;
+      }
+      batch.add(command);
+    }
+  }
+
+  private void flush(List<PipelinedCommand> batch) {
+    // commands of the callers that stopped waiting aren't sent
+    batch.removeIf(command -> !command.claim());
+    if (batch.isEmpty()) {
+      return;
+    }
+    pipelineDepth.record(batch.size());
+    var sample = Timer.start();
+    try {
+      var results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        batch.forEach(command -> command.command.apply((StringRedisConnection) connection));
+        return null;
+      });
+      if (results.size() != batch.size()) {
+        throw new IllegalStateException(String.format(
+            "Redis pipeline of %d commands returned %d results", batch.size(), results.size()));
+      }
+      for (var i = 0; i < batch.size(); i++) {
+        batch.get(i).result.complete(results.get(i));
+      }
+    } catch (RuntimeException e) {
+      log.warn("Redis pipeline of {} commands failed, repeatable commands are repeated one by one",
+          batch.size(), e);
+      fallbacks.increment();
+      batch.forEach(command -> {
+        if (command.repeatable) {
+          executeAndComplete(command);
+        } else {
+          command.result.completeExceptionally(e);
+        }
+      });
+    } finally {
+      sample.stop(flushLatency);
+    }
+  }
+
+  private void executeAndComplete(PipelinedCommand command) {
+    try {
+      command.result.complete(executeDirectly(command.command));
+    } catch (RuntimeException e) {
+      command.result.completeExceptionally(e);
+    }
+  }
+
+  private <T> T executeDirectly(Function<StringRedisConnection, T> command) {
+    return redisTemplate.execute(
+        (RedisCallback<T>) connection -> command.apply((StringRedisConnection) connection));
+  }
+
+  private static class PipelinedCommand {
+
+    private final Function<StringRedisConnection, ?> command;
+    private final boolean repeatable;
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private PipelinedCommand(Function<StringRedisConnection, ?> command, boolean repeatable) {
+      this.command = command;
+      this.repeatable = repeatable;
+    }
+
+    /**
+     * Claiming the command either to send it or to cancel it
+     *
+     * @return {@code false} if the command is already sent or cancelled
+     */
+    private boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.util;
+
+import com.epam.digital.data.platform.starter.errorhandling.BaseRestExceptionHandler;
+import com.epam.digital.data.platform.starter.errorhandling.dto.SystemErrorDto;
+import com.epam.digital.data.platform.usrprcssmgt.exception.InvalidBatchItemException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.StartFormException;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuard;
+import feign.FeignException;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Mapping of the exceptions of a request that isn't served by the request thread, e.g. an
+ * asynchronous or batch process instance start, to the error that the request thread would
+ * respond with. Missing start form and malformed batch items are {@code 400}, downstream errors keep
+ * the downstream status, rejected downstream calls are {@code 503}, other errors are {@code 500}.
+ * Messages of the unexpected exceptions aren't exposed.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ErrorStatuses {
+
+  /**
+   * Getting the response status of the exception
+   *
+   * @param exception the exception
+   * @return the response status
+   */
+  public static HttpStatus statusOf(Throwable exception) {
+    var cause = unwrap(exception);
+    if (isBadRequest(cause)) {
+      return HttpStatus.BAD_REQUEST;
+    }
+    if (DownstreamGuard.isRejection(cause)) {
+      return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+    var status = -1;
+    if (cause instanceof FeignException) {
+      status = ((FeignException) cause).status();
+    } else if (cause instanceof WebClientResponseException) {
+      status = ((WebClientResponseException) cause).getRawStatusCode();
+    }
+    var httpStatus = HttpStatus.resolve(status);
+    return Objects.nonNull(httpStatus) && httpStatus.isError() ? httpStatus
+        : HttpStatus.INTERNAL_SERVER_ERROR;
+  }
+
+  /**
+   * Building the error response of the exception
+   *
+   * @param exception the exception
+   * @return the error with the response status as the code
+   */
+  public static SystemErrorDto toSystemError(Throwable exception) {
+    var cause = unwrap(exception);
+    var status = statusOf(cause);
+    return SystemErrorDto.builder()
+        .traceId(MDC.get(BaseRestExceptionHandler.TRACE_ID_KEY))
+        .code(String.valueOf(status.value()))
+        .message(isBadRequest(cause) ? cause.getMessage() : status.getReasonPhrase())
+        .build();
+  }
+
+  private static boolean isBadRequest(Throwable exception) {
+    return exception instanceof StartFormException
+        || exception instanceof InvalidBatchItemException;
+  }
+
+  private static Throwable unwrap(Throwable exception) {
+    return exception instanceof CompletionException && Objects.nonNull(exception.getCause())
+        ? exception.getCause() : exception;
+  }
+}
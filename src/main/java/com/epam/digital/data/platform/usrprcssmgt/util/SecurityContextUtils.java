@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.util;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SecurityContextUtils {
+
+  /**
+   * Getting roles of the current user. BPMS filters process definitions by user roles, so the roles
+   * have to be a part of the key of any data cached for several users.
+   *
+   * @return unmodifiable set of current user roles or empty set if there is no authenticated user
+   */
+  public static Set<String> getCurrentRoles() {
+    var authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (Objects.isNull(authentication)) {
+      return Set.of();
+    }
+    return authentication.getAuthorities().stream()
+        .map(GrantedAuthority::getAuthority)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Getting name of the current user. Unlike the access token, the name stays the same when the
+   * token is refreshed, so it identifies the user in data cached per user.
+   *
+   * @return name of the current user or empty string if there is no authenticated user
+   */
+  public static String getCurrentUserName() {
+    var authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (Objects.isNull(authentication) || Objects.isNull(authentication.getName())) {
+      return "";
+    }
+    return authentication.getName();
+  }
+
+  /**
+   * Getting access token of the current user. BPMS returns data that belongs to the token owner, so
+   * the token identifies calls with the same result.
+   *
+   * @return access token of the current user or empty string if there is no authenticated user
+   */
+  public static String getCurrentAccessToken() {
+    var authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (Objects.isNull(authentication) || Objects.isNull(authentication.getCredentials())) {
+      return "";
+    }
+    return authentication.getCredentials().toString();
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Virtual thread support. The service is compiled for Java 11, so virtual threads of Java 21+ are
+ * created reflectively.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreads {
+
+  /**
+   * Checks if the running JVM supports virtual threads
+   *
+   * @return true if virtual threads can be created
+   */
+  public static boolean isSupported() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (NoSuchMethodException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Creating an executor that starts a new virtual thread for each task
+   *
+   * @param namePrefix the prefix of thread names, the thread number is appended to it
+   * @return the executor
+   * @throws IllegalStateException if the running JVM doesn't support virtual threads
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+    if (!isSupported()) {
+      throw new IllegalStateException("Virtual threads require Java 21 or later, running on "
+          + System.getProperty("java.version"));
+    }
+    try {
+      var builderClass = Class.forName("java.lang.Thread$Builder");
+      var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class, long.class)
+          .invoke(builder, namePrefix, 0L);
+      var threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      return (ExecutorService) Executors.class
+          .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+          .invoke(null, threadFactory);
+    } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
+        | InvocationTargetException ex) {
+      throw new IllegalStateException("Couldn't create virtual thread executor", ex);
+    }
+  }
+
+  /**
+   * Creating an executor that starts a new virtual thread for each task, but runs at most the given
+   * number of tasks at once. The other started threads wait for a permit without blocking the
+   * submitting thread or a platform thread.
+   *
+   * @param namePrefix     the prefix of thread names, the thread number is appended to it
+   * @param maxConcurrency the maximum number of tasks run at once
+   * @return the executor
+   * @throws IllegalStateException if the running JVM doesn't support virtual threads
+   */
+  public static ExecutorService newBoundedVirtualThreadPerTaskExecutor(String namePrefix,
+      int maxConcurrency) {
+    return bounded(newVirtualThreadPerTaskExecutor(namePrefix), maxConcurrency);
+  }
+
+  static ExecutorService bounded(ExecutorService executor, int maxConcurrency) {
+    return new BoundedExecutorService(executor, new Semaphore(maxConcurrency));
+  }
+
+  private static class BoundedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    BoundedExecutorService(ExecutorService delegate, Semaphore permits) {
+      this.delegate = delegate;
+      this.permits = permits;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      delegate.execute(() -> {
+        // not interruptible, a task that isn't run would leave its future incomplete
+        permits.acquireUninterruptibly();
+        try {
+          command.run();
+        } finally {
+          permits.release();
+        }
+      });
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+    }
+  }
+}
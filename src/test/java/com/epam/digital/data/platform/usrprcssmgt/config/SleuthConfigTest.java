@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import brave.Tracing;
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import com.epam.digital.data.platform.usrprcssmgt.util.VirtualThreads;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class SleuthConfigTest {
+
+  @Test
+  void shouldPutTraceIdsToMdcOnVirtualThread() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+    var currentTraceContext = ThreadLocalCurrentTraceContext.newBuilder()
+        .addScopeDecorator(new SleuthConfig().legacyIds())
+        .build();
+    var executor = currentTraceContext.executorService(
+        VirtualThreads.newVirtualThreadPerTaskExecutor("test-virtual-"));
+
+    try (var tracing = Tracing.newBuilder().currentTraceContext(currentTraceContext).build()) {
+      var span = tracing.tracer().nextSpan().start();
+      String traceId;
+      String threadName;
+      try (var scope = tracing.tracer().withSpanInScope(span)) {
+        traceId = executor.submit(() -> MDC.get("X-B3-TraceId")).get();
+        threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+      } finally {
+        span.finish();
+        executor.shutdown();
+      }
+
+      assertThat(traceId).isEqualTo(span.context().traceIdString());
+      assertThat(threadName).startsWith("test-virtual-");
+    }
+  }
+
+  @Test
+  void shouldFailIfVirtualThreadsAreNotSupported() {
+    assumeFalse(VirtualThreads.isSupported());
+
+    assertThrows(IllegalStateException.class,
+        () -> VirtualThreads.newVirtualThreadPerTaskExecutor("test-virtual-"));
+  }
+}
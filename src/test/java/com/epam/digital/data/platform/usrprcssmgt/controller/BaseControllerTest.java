@@ -20,11 +20,18 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 
+import com.epam.digital.data.platform.starter.errorhandling.dto.ValidationErrorDto;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessDefinitionCacheProperties;
 import com.epam.digital.data.platform.usrprcssmgt.controller.config.CustomMockMvcConfigurer;
+import com.epam.digital.data.platform.usrprcssmgt.controller.support.CachedJsonResponseWriter;
+import com.epam.digital.data.platform.usrprcssmgt.controller.support.JsonArrayResponseWriter;
 import com.epam.digital.data.platform.usrprcssmgt.model.UserProcessInstanceStatus;
 import com.epam.digital.data.platform.usrprcssmgt.model.StatusModel;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.BatchStartProcessInstanceItemResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.BatchStartProcessInstanceItemResponse.Status;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
@@ -34,10 +41,13 @@ import com.epam.digital.data.platform.usrprcssmgt.service.ProcessInstanceService
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +62,13 @@ public abstract class BaseControllerTest {
   private ProcessDefinitionService processDefinitionService;
   @Mock
   private ProcessInstanceService processInstanceService;
+  @Spy
+  private CachedJsonResponseWriter cachedJsonResponseWriter =
+      new CachedJsonResponseWriter(CustomMockMvcConfigurer.objectMapper(),
+          new ProcessDefinitionCacheProperties());
+  @Spy
+  private JsonArrayResponseWriter jsonArrayResponseWriter =
+      new JsonArrayResponseWriter(CustomMockMvcConfigurer.objectMapper());
 
   @BeforeEach
   public void setup() {
@@ -64,6 +81,7 @@ public abstract class BaseControllerTest {
     initCountProcessDefinitionsResponse();
     initStartProcessInstanceResponse();
     initStartProcessInstanceWithFormResponse();
+    initStartProcessInstancesWithFormResponse();
 
     // init process instance controller
     initCountProcessInstancesResponse();
@@ -114,9 +132,11 @@ public abstract class BaseControllerTest {
 
   private void initStartProcessInstanceResponse() {
     lenient()
-        .when(processDefinitionService.startProcessInstance(eq("processDefinitionKey"), any()))
-        .thenReturn(StartProcessInstanceResponse.builder().id("processInstanceId")
-            .processDefinitionId("processDefinitionId").ended(true).build());
+        .when(processDefinitionService.startProcessInstanceAsync(eq("processDefinitionKey"),
+            any()))
+        .thenReturn(CompletableFuture.completedFuture(StartProcessInstanceResponse.builder()
+            .id("processInstanceId").processDefinitionId("processDefinitionId").ended(true)
+            .build()));
   }
 
   private void initStartProcessInstanceWithFormResponse() {
@@ -126,15 +146,40 @@ public abstract class BaseControllerTest {
         .ended(false)
         .build();
     lenient()
-        .when(processDefinitionService.startProcessInstanceWithForm(eq("processDefinitionKey"),
-            any(), any()))
-        .thenReturn(expectedResponse);
+        .when(processDefinitionService.startProcessInstanceWithFormAsync(
+            eq("processDefinitionKey"), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(expectedResponse));
+  }
+
+  private void initStartProcessInstancesWithFormResponse() {
+    var startedItem = BatchStartProcessInstanceItemResponse.builder()
+        .index(0)
+        .processDefinitionKey("processDefinitionKey")
+        .status(Status.STARTED)
+        .result(StartProcessInstanceResponse.builder()
+            .id("processInstanceId")
+            .processDefinitionId("processDefinitionId")
+            .ended(false)
+            .build())
+        .build();
+    var failedItem = BatchStartProcessInstanceItemResponse.builder()
+        .index(1)
+        .processDefinitionKey("processDefinitionKey")
+        .status(Status.FAILED)
+        .validationError(ValidationErrorDto.builder()
+            .code("VALIDATION_ERROR")
+            .message("Validation error")
+            .build())
+        .build();
+    lenient()
+        .when(processDefinitionService.startProcessInstancesWithForm(any(), any()))
+        .thenReturn(List.of(startedItem, failedItem));
   }
 
   private void initCountProcessInstancesResponse() {
     lenient()
-        .when(processInstanceService.countProcessInstances())
-        .thenReturn(new CountResponse(3L));
+        .when(processInstanceService.countProcessInstancesAsync())
+        .thenReturn(CompletableFuture.completedFuture(new CountResponse(3L)));
   }
 
   private void initGetOfficerProcessInstancesResponse() {
@@ -154,9 +199,7 @@ public abstract class BaseControllerTest {
             .code(UserProcessInstanceStatus.PENDING)
             .build())
         .build();
-    lenient()
-        .when(processInstanceService.getOfficerProcessInstances(new Pageable()))
-        .thenReturn(List.of(processInstance1, processInstance2));
+    mockStreamProcessInstances(SystemRole.OFFICER, List.of(processInstance1, processInstance2));
   }
 
   private void initGetCitizenProcessInstancesResponse() {
@@ -176,8 +219,18 @@ public abstract class BaseControllerTest {
             .code(UserProcessInstanceStatus.PENDING)
             .build())
         .build();
+    mockStreamProcessInstances(SystemRole.CITIZEN, List.of(processInstance1, processInstance2));
+  }
+
+  private void mockStreamProcessInstances(SystemRole systemRole,
+      List<GetProcessInstanceResponse> processInstances) {
     lenient()
-        .when(processInstanceService.getCitizenProcessInstances(new Pageable()))
-        .thenReturn(List.of(processInstance1, processInstance2));
+        .doAnswer(invocation -> {
+          Consumer<GetProcessInstanceResponse> consumer = invocation.getArgument(2);
+          processInstances.forEach(consumer);
+          return null;
+        })
+        .when(processInstanceService)
+        .streamProcessInstances(eq(new Pageable()), eq(systemRole), any());
   }
 }
@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.usrprcssmgt.controller.config;
 
 import com.epam.digital.data.platform.usrprcssmgt.config.GeneralConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.lang.NonNull;
@@ -28,10 +29,13 @@ public class CustomMockMvcConfigurer implements MockMvcConfigurer {
 
   @Override
   public void afterConfigurerAdded(@NonNull ConfigurableMockMvcBuilder<?> builder) {
+    ((StandaloneMockMvcBuilder) builder).setMessageConverters(
+        new MappingJackson2HttpMessageConverter(objectMapper()));
+  }
+
+  public static ObjectMapper objectMapper() {
     var jacksonBuilder = Jackson2ObjectMapperBuilder.json();
     new GeneralConfig().jackson2ObjectMapperBuilderCustomizer().customize(jacksonBuilder);
-
-    ((StandaloneMockMvcBuilder) builder).setMessageConverters(
-        new MappingJackson2HttpMessageConverter(jacksonBuilder.build()));
+    return jacksonBuilder.build();
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.controller.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessDefinitionCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class CachedJsonResponseWriterTest {
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+  @Spy
+  private ProcessDefinitionCacheProperties cacheProperties = new ProcessDefinitionCacheProperties();
+  @InjectMocks
+  private CachedJsonResponseWriter cachedJsonResponseWriter;
+
+  @Test
+  @SneakyThrows
+  void shouldSerializeResponseOnceAndRespondNotModifiedOnMatchingEtag() {
+    var params = new GetProcessDefinitionsParams();
+    var body = new CountResponse(2L);
+
+    var firstResponse = new MockHttpServletResponse();
+    cachedJsonResponseWriter.write("count", params, body,
+        new MockHttpServletRequest("GET", "/count"), firstResponse);
+
+    var etag = firstResponse.getHeader(HttpHeaders.ETAG);
+    assertThat(firstResponse.getStatus()).isEqualTo(200);
+    assertThat(firstResponse.getContentAsString()).isEqualTo("{\"count\":2}");
+    assertThat(etag).isNotBlank();
+
+    var request = new MockHttpServletRequest("GET", "/count");
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+    var secondResponse = new MockHttpServletResponse();
+    cachedJsonResponseWriter.write("count", params, new CountResponse(2L), request,
+        secondResponse);
+
+    assertThat(secondResponse.getStatus()).isEqualTo(304);
+    assertThat(secondResponse.getContentAsByteArray()).isEmpty();
+    verify(objectMapper).writeValueAsBytes(any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSerializeResponseAgainWhenBodyIsChanged() {
+    var params = new GetProcessDefinitionsParams();
+
+    var firstResponse = new MockHttpServletResponse();
+    cachedJsonResponseWriter.write("count", params, new CountResponse(2L),
+        new MockHttpServletRequest("GET", "/count"), firstResponse);
+
+    var request = new MockHttpServletRequest("GET", "/count");
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, firstResponse.getHeader(HttpHeaders.ETAG));
+    var secondResponse = new MockHttpServletResponse();
+    cachedJsonResponseWriter.write("count", params, new CountResponse(3L), request,
+        secondResponse);
+
+    assertThat(secondResponse.getStatus()).isEqualTo(200);
+    assertThat(secondResponse.getContentAsString()).isEqualTo("{\"count\":3}");
+    assertThat(secondResponse.getHeader(HttpHeaders.ETAG))
+        .isNotEqualTo(firstResponse.getHeader(HttpHeaders.ETAG));
+    verify(objectMapper, times(2)).writeValueAsBytes(any());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSerializeResponseAgainAfterInvalidation() {
+    var params = new GetProcessDefinitionsParams();
+    var body = new CountResponse(2L);
+
+    cachedJsonResponseWriter.write("count", params, body,
+        new MockHttpServletRequest("GET", "/count"), new MockHttpServletResponse());
+    cachedJsonResponseWriter.invalidateAll();
+    cachedJsonResponseWriter.write("count", params, body,
+        new MockHttpServletRequest("GET", "/count"), new MockHttpServletResponse());
+
+    verify(objectMapper, times(2)).writeValueAsBytes(any());
+  }
+}
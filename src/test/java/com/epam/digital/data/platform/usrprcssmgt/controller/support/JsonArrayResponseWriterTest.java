@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.controller.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.usrprcssmgt.exception.ResponseAbortedException;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class JsonArrayResponseWriterTest {
+
+  private final JsonArrayResponseWriter jsonArrayResponseWriter =
+      new JsonArrayResponseWriter(new ObjectMapper());
+
+  @Test
+  @SneakyThrows
+  void shouldWriteElementsAsJsonArray() {
+    var response = new MockHttpServletResponse();
+
+    jsonArrayResponseWriter.<CountResponse>write(response, consumer -> {
+      consumer.accept(new CountResponse(1L));
+      consumer.accept(new CountResponse(2L));
+    });
+
+    assertThat(response.getContentAsString()).isEqualTo("[{\"count\":1},{\"count\":2}]");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldDiscardWrittenElementsIfProducerFailedBeforeCommit() {
+    var response = new MockHttpServletResponse();
+    var failure = new IllegalStateException("Bpms error");
+
+    var exception = assertThrows(IllegalStateException.class,
+        () -> jsonArrayResponseWriter.<CountResponse>write(response, consumer -> {
+          consumer.accept(new CountResponse(1L));
+          throw failure;
+        }));
+
+    assertThat(exception).isSameAs(failure);
+    assertThat(response.isCommitted()).isFalse();
+    assertThat(response.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  void shouldAbortResponseIfProducerFailedAfterCommit() {
+    var response = new MockHttpServletResponse();
+
+    var exception = assertThrows(ResponseAbortedException.class,
+        () -> jsonArrayResponseWriter.<CountResponse>write(response, consumer -> {
+          consumer.accept(new CountResponse(1L));
+          flush(response);
+          throw new IllegalStateException("Bpms error");
+        }));
+
+    assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @SneakyThrows
+  private static void flush(MockHttpServletResponse response) {
+    response.flushBuffer();
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.i18n;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.epam.digital.data.platform.bpms.api.dto.enums.DdmProcessInstanceStatus;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import org.junit.jupiter.api.Test;
+
+class ProcessInstanceStatusMessageTitleTest {
+
+  @Test
+  void shouldFindTitleByStatusAndRole() {
+    for (var title : ProcessInstanceStatusMessageTitle.values()) {
+      assertThat(ProcessInstanceStatusMessageTitle.from(title.getProcessInstanceStatus(),
+          title.getSystemRole())).isEqualTo(title);
+    }
+  }
+
+  @Test
+  void shouldReturnNullIfNoTitleFound() {
+    assertThat(ProcessInstanceStatusMessageTitle.from(DdmProcessInstanceStatus.COMPLETED,
+        SystemRole.OFFICER)).isNull();
+    assertThat(ProcessInstanceStatusMessageTitle.from(null, SystemRole.CITIZEN)).isNull();
+    assertThat(ProcessInstanceStatusMessageTitle.from(DdmProcessInstanceStatus.ACTIVE, null))
+        .isNull();
+  }
+}
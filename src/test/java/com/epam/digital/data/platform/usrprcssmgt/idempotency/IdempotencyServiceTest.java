@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.exception.IdempotencyKeyReusedException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.IdempotentRequestInProgressException;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class IdempotencyServiceTest {
+
+  private final Authentication authentication =
+      new UsernamePasswordAuthenticationToken("officer", "token");
+  private final StartProcessInstanceResponse response = StartProcessInstanceResponse.builder()
+      .id("processInstanceId")
+      .processDefinitionId("processDefinitionId")
+      .build();
+  private final FormDataDto request = FormDataDto.builder()
+      .data(new LinkedHashMap<>(Map.of("name", "value")))
+      .signature("signature")
+      .build();
+
+  private SimpleMeterRegistry meterRegistry;
+  private IdempotencyService idempotencyService;
+  private AtomicInteger starts;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    idempotencyService = new IdempotencyService(
+        new InMemoryIdempotencyStore(100, Duration.ofHours(1)), new ProcessStartProperties(),
+        new ObjectMapper(), meterRegistry);
+    starts = new AtomicInteger();
+  }
+
+  @Test
+  void shouldReturnFirstResultForRetriedRequest() {
+    var first = idempotencyService.startOnce("key", "processDefinitionKey", request,
+        authentication, this::start);
+    var retried = idempotencyService.startOnce("key", "processDefinitionKey", request,
+        authentication, this::start);
+
+    assertThat(first).isEqualTo(response);
+    assertThat(retried).isEqualTo(response);
+    assertThat(starts).hasValue(1);
+    assertThat(requests("started")).isOne();
+    assertThat(requests("replayed")).isOne();
+  }
+
+  @Test
+  void shouldRejectRequestWhileFirstOneIsInProgress() {
+    var concurrentRequestException = new AtomicReference<Throwable>();
+
+    var result = idempotencyService.startOnce("key", "processDefinitionKey", request,
+        authentication, () -> {
+          concurrentRequestException.set(catchThrowable(
+              () -> idempotencyService.startOnce("key", "processDefinitionKey", request,
+                  authentication, this::start)));
+          return response;
+        });
+
+    assertThat(result).isEqualTo(response);
+    assertThat(concurrentRequestException.get())
+        .isInstanceOf(IdempotentRequestInProgressException.class);
+    assertThat(starts).hasValue(0);
+    assertThat(requests("in-progress")).isOne();
+  }
+
+  @Test
+  void shouldReleaseKeyIfStartFailed() {
+    assertThrows(IllegalStateException.class,
+        () -> idempotencyService.startOnce("key", "processDefinitionKey", request,
+            authentication, () -> {
+              throw new IllegalStateException("Bpms error");
+            }));
+
+    var result = idempotencyService.startOnce("key", "processDefinitionKey", request,
+        authentication, this::start);
+
+    assertThat(result).isEqualTo(response);
+    assertThat(starts).hasValue(1);
+  }
+
+  @Test
+  void shouldScopeKeyByUserAndProcessDefinition() {
+    idempotencyService.startOnce("key", "processDefinitionKey", request, authentication,
+        this::start);
+    idempotencyService.startOnce("key", "anotherProcessDefinitionKey", request, authentication,
+        this::start);
+    idempotencyService.startOnce("key", "processDefinitionKey", request,
+        new UsernamePasswordAuthenticationToken("citizen", "token"), this::start);
+
+    assertThat(starts).hasValue(3);
+  }
+
+  @Test
+  void shouldRejectKeyReusedWithAnotherRequestBody() {
+    idempotencyService.startOnce("key", "processDefinitionKey", request, authentication,
+        this::start);
+
+    var anotherRequest = FormDataDto.builder().data(new LinkedHashMap<>(Map.of("name", "other")))
+        .build();
+    assertThrows(IdempotencyKeyReusedException.class,
+        () -> idempotencyService.startOnce("key", "processDefinitionKey", anotherRequest,
+            authentication, this::start));
+
+    assertThat(starts).hasValue(1);
+    assertThat(requests("reused")).isOne();
+  }
+
+  @Test
+  void shouldReleaseKeyIfResultCouldNotBeStored() {
+    var idempotencyStore = spy(new InMemoryIdempotencyStore(100, Duration.ofHours(1)));
+    doThrow(new IllegalStateException("Store error")).when(idempotencyStore)
+        .put(any(), any(), any());
+    idempotencyService = new IdempotencyService(idempotencyStore, new ProcessStartProperties(),
+        new ObjectMapper(), meterRegistry);
+
+    idempotencyService.startOnce("key", "processDefinitionKey", request, authentication,
+        this::start);
+    idempotencyService.startOnce("key", "processDefinitionKey", request, authentication,
+        this::start);
+
+    assertThat(starts).hasValue(2);
+    verify(idempotencyStore, times(2)).remove(any());
+  }
+
+  private StartProcessInstanceResponse start() {
+    starts.incrementAndGet();
+    return response;
+  }
+
+  private double requests(String outcome) {
+    return meterRegistry.get(IdempotencyService.IDEMPOTENT_REQUESTS_METRIC).tag("outcome", outcome)
+        .counter().count();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class DependencyCallTimerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private DependencyCallTimer bpmsCalls;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    bpmsCalls = new DependencyCallTimer(DependencyCallTimer.BPMS, meterRegistry,
+        DownstreamGuard.disabled(DependencyCallTimer.BPMS));
+  }
+
+  @Test
+  void shouldRecordNonBlockingCallOnSubscription() {
+    var call = Mono.just("result").transform(mono -> bpmsCalls.record("operation", mono));
+
+    assertThat(meterRegistry.find(DependencyCallTimer.OUTBOUND_CALL_METRIC).timer()).isNull();
+    assertThat(call.block()).isEqualTo("result");
+    assertThat(calls(DependencyCallTimer.SUCCESS)).isOne();
+  }
+
+  @Test
+  void shouldRecordOutcomeOfFailedNonBlockingCall() {
+    var call = Mono.<String>error(WebClientResponseException.create(
+            HttpStatus.FORBIDDEN.value(), "Forbidden", null, null, null))
+        .transform(mono -> bpmsCalls.record("operation", mono));
+
+    assertThrows(WebClientResponseException.class, call::block);
+    assertThat(calls(DependencyCallTimer.CLIENT_ERROR)).isOne();
+  }
+
+  @Test
+  void shouldRecordCancelledNonBlockingCallAsUnknown() {
+    var call = Mono.never().transform(mono -> bpmsCalls.record("operation", mono));
+
+    assertThat(call.timeout(Duration.ofMillis(10), Mono.empty()).block()).isNull();
+    assertThat(calls(DependencyCallTimer.UNKNOWN)).isOne();
+  }
+
+  private long calls(String outcome) {
+    return meterRegistry.get(DependencyCallTimer.OUTBOUND_CALL_METRIC)
+        .tag("dependency", DependencyCallTimer.BPMS)
+        .tag("operation", "operation")
+        .tag("outcome", outcome)
+        .timer().count();
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.CountCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessDefinitionCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class CachedProcessDefinitionRemoteServiceTest {
+
+  @Mock
+  private ProcessDefinitionRemoteServiceImpl processDefinitionRemoteServiceImpl;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CachedProcessDefinitionRemoteService cachedProcessDefinitionRemoteService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cachedProcessDefinitionRemoteService = new CachedProcessDefinitionRemoteService(
+        processDefinitionRemoteServiceImpl, new ProcessDefinitionCacheProperties(),
+        new CountCacheProperties(), meterRegistry, CurrentTraceContext.Default.create());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void shouldLoadProcessDefinitionsOncePerParams() {
+    var params = new GetProcessDefinitionsParams();
+    var definition = ProcessDefinitionResponse.builder().key("key").name("name").build();
+    when(processDefinitionRemoteServiceImpl.getProcessDefinitions(params))
+        .thenReturn(List.of(definition));
+
+    var first = cachedProcessDefinitionRemoteService.getProcessDefinitions(params);
+    var second = cachedProcessDefinitionRemoteService.getProcessDefinitions(
+        new GetProcessDefinitionsParams());
+
+    assertThat(first).containsExactly(definition);
+    assertThat(second).isSameAs(first);
+    verify(processDefinitionRemoteServiceImpl).getProcessDefinitions(params);
+    assertThat(meterRegistry.get("cache.gets")
+        .tag("cache", CachedProcessDefinitionRemoteService.PROCESS_DEFINITIONS_CACHE)
+        .tag("result", "hit")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReloadProcessDefinitionsAfterInvalidation() {
+    var definition = ProcessDefinitionResponse.builder().key("key").formKey("formKey").build();
+    when(processDefinitionRemoteServiceImpl.getProcessDefinitionByKey("key"))
+        .thenReturn(definition);
+
+    cachedProcessDefinitionRemoteService.getProcessDefinitionByKey("key");
+    cachedProcessDefinitionRemoteService.getProcessDefinitionByKey("key");
+    cachedProcessDefinitionRemoteService.invalidate();
+    var result = cachedProcessDefinitionRemoteService.getProcessDefinitionByKey("key");
+
+    assertThat(result).isSameAs(definition);
+    verify(processDefinitionRemoteServiceImpl, times(2)).getProcessDefinitionByKey("key");
+  }
+
+  @Test
+  void shouldCacheProcessDefinitionsCountPerUserRoles() {
+    var params = new GetProcessDefinitionsParams();
+    when(processDefinitionRemoteServiceImpl.countProcessDefinitions(params))
+        .thenReturn(new CountResponse(1L))
+        .thenReturn(new CountResponse(2L));
+
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user1", "token1", "officer"));
+    var officerCount = cachedProcessDefinitionRemoteService.countProcessDefinitions(params);
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user2", "token2", "officer", "head-officer"));
+    var headOfficerCount = cachedProcessDefinitionRemoteService.countProcessDefinitions(params);
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user3", "token3", "officer"));
+    var anotherOfficerCount = cachedProcessDefinitionRemoteService.countProcessDefinitions(params);
+
+    assertThat(officerCount.getCount()).isEqualTo(1L);
+    assertThat(headOfficerCount.getCount()).isEqualTo(2L);
+    assertThat(anotherOfficerCount).isSameAs(officerCount);
+    verify(processDefinitionRemoteServiceImpl, times(2)).countProcessDefinitions(params);
+  }
+
+  @Test
+  void shouldNotCacheProcessDefinitionsCountIfCountCacheDisabled() {
+    var countCacheProperties = new CountCacheProperties();
+    countCacheProperties.setEnabled(false);
+    var cachedService = new CachedProcessDefinitionRemoteService(
+        processDefinitionRemoteServiceImpl, new ProcessDefinitionCacheProperties(),
+        countCacheProperties, meterRegistry, CurrentTraceContext.Default.create());
+    var params = new GetProcessDefinitionsParams();
+
+    cachedService.countProcessDefinitions(params);
+    cachedService.countProcessDefinitions(params);
+
+    verify(processDefinitionRemoteServiceImpl, times(2)).countProcessDefinitions(params);
+  }
+
+  @Test
+  void shouldLoadProcessDefinitionsPerUserRoles() {
+    var params = new GetProcessDefinitionsParams();
+    var definition = ProcessDefinitionResponse.builder().key("key").name("name").build();
+    var definition2 = ProcessDefinitionResponse.builder().key("key2").name("name2").build();
+    when(processDefinitionRemoteServiceImpl.getProcessDefinitions(params))
+        .thenReturn(List.of(definition))
+        .thenReturn(List.of(definition, definition2));
+
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user1", "token1", "officer"));
+    var officerResult = cachedProcessDefinitionRemoteService.getProcessDefinitions(params);
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user2", "token2", "officer", "head-officer"));
+    var headOfficerResult = cachedProcessDefinitionRemoteService.getProcessDefinitions(params);
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user3", "token3", "officer"));
+    var anotherOfficerResult = cachedProcessDefinitionRemoteService.getProcessDefinitions(params);
+
+    assertThat(officerResult).containsExactly(definition);
+    assertThat(headOfficerResult).containsExactly(definition, definition2);
+    assertThat(anotherOfficerResult).isSameAs(officerResult);
+    verify(processDefinitionRemoteServiceImpl, times(2)).getProcessDefinitions(params);
+  }
+
+  @Test
+  void shouldRevalidateProcessDefinitionWhenAnotherVersionIsLoaded() {
+    var params = new GetProcessDefinitionsParams();
+    var definition = ProcessDefinitionResponse.builder().id("id1").key("key").formKey("form")
+        .build();
+    var newVersion = ProcessDefinitionResponse.builder().id("id2").key("key").formKey("form")
+        .build();
+    when(processDefinitionRemoteServiceImpl.getProcessDefinitionByKey("key"))
+        .thenReturn(definition)
+        .thenReturn(newVersion);
+    when(processDefinitionRemoteServiceImpl.getProcessDefinitions(params))
+        .thenReturn(List.of(newVersion));
+
+    cachedProcessDefinitionRemoteService.getProcessDefinitionByKey("key");
+    cachedProcessDefinitionRemoteService.getProcessDefinitions(params);
+
+    verify(processDefinitionRemoteServiceImpl, timeout(5000).times(2))
+        .getProcessDefinitionByKey("key");
+  }
+
+  @Test
+  void shouldDropProcessDefinitionWhenProcessStartFailed() {
+    var definition = ProcessDefinitionResponse.builder().id("id1").key("key").formKey("form")
+        .build();
+    when(processDefinitionRemoteServiceImpl.getProcessDefinitionByKey("key"))
+        .thenReturn(definition);
+    when(processDefinitionRemoteServiceImpl.startProcessInstance("key", "formDataKey"))
+        .thenThrow(new IllegalStateException("Process definition is suspended"));
+
+    cachedProcessDefinitionRemoteService.getProcessDefinitionByKey("key");
+    assertThrows(IllegalStateException.class,
+        () -> cachedProcessDefinitionRemoteService.startProcessInstance("key", "formDataKey"));
+    cachedProcessDefinitionRemoteService.getProcessDefinitionByKey("key");
+
+    verify(processDefinitionRemoteServiceImpl, times(2)).getProcessDefinitionByKey("key");
+  }
+}
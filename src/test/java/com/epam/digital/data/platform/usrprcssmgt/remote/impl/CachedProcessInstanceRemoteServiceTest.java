@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brave.propagation.CurrentTraceContext;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.CountCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class CachedProcessInstanceRemoteServiceTest {
+
+  @Mock
+  private ProcessInstanceRemoteServiceImpl processInstanceRemoteServiceImpl;
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void shouldCacheProcessInstancesCountPerUser() {
+    var cachedService = createService(new CountCacheProperties());
+    when(processInstanceRemoteServiceImpl.countProcessInstances())
+        .thenReturn(new CountResponse(1L))
+        .thenReturn(new CountResponse(5L));
+
+    authenticate("user1", "token1");
+    var firstUserCount = cachedService.countProcessInstances();
+    authenticate("user2", "token2");
+    var secondUserCount = cachedService.countProcessInstances();
+    authenticate("user1", "token1");
+    var firstUserCountAgain = cachedService.countProcessInstances();
+
+    assertThat(firstUserCount.getCount()).isEqualTo(1L);
+    assertThat(secondUserCount.getCount()).isEqualTo(5L);
+    assertThat(firstUserCountAgain).isSameAs(firstUserCount);
+    verify(processInstanceRemoteServiceImpl, times(2)).countProcessInstances();
+  }
+
+  @Test
+  void shouldKeepProcessInstancesCountIfAccessTokenIsRefreshed() {
+    var cachedService = createService(new CountCacheProperties());
+    when(processInstanceRemoteServiceImpl.countProcessInstances())
+        .thenReturn(new CountResponse(1L));
+
+    authenticate("user1", "token1");
+    var count = cachedService.countProcessInstances();
+    authenticate("user1", "token2");
+    var countAfterRefresh = cachedService.countProcessInstances();
+
+    assertThat(countAfterRefresh).isSameAs(count);
+    verify(processInstanceRemoteServiceImpl).countProcessInstances();
+  }
+
+  @Test
+  void shouldReloadProcessInstancesCountAfterTimeToLive() {
+    var cacheProperties = new CountCacheProperties();
+    cacheProperties.setTimeToLive(Duration.ZERO);
+    var cachedService = createService(cacheProperties);
+    when(processInstanceRemoteServiceImpl.countProcessInstances())
+        .thenReturn(new CountResponse(1L))
+        .thenReturn(new CountResponse(2L));
+
+    authenticate("user1", "token1");
+    cachedService.countProcessInstances();
+    var result = cachedService.countProcessInstances();
+
+    assertThat(result.getCount()).isEqualTo(2L);
+    verify(processInstanceRemoteServiceImpl, times(2)).countProcessInstances();
+  }
+
+  private CachedProcessInstanceRemoteService createService(CountCacheProperties cacheProperties) {
+    return new CachedProcessInstanceRemoteService(processInstanceRemoteServiceImpl,
+        cacheProperties, new SimpleMeterRegistry(), CurrentTraceContext.Default.create());
+  }
+
+  private void authenticate(String user, String token) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken(user, token, "officer"));
+  }
+}
@@ -17,21 +17,40 @@
 package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import brave.propagation.ThreadLocalCurrentTraceContext;
 import com.epam.digital.data.platform.bpms.api.dto.DdmProcessDefinitionDto;
 import com.epam.digital.data.platform.bpms.api.dto.DdmProcessDefinitionQueryDto;
 import com.epam.digital.data.platform.bpms.api.dto.enums.SortOrder;
 import com.epam.digital.data.platform.bpms.client.ProcessDefinitionRestClient;
 import com.epam.digital.data.platform.dataaccessor.sysvar.StartFormCephKeyVariable;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpmsHedgingProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ResilienceProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ResilienceProperties.DownstreamProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.VirtualThreadsProperties;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.BaseMapper;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessDefinitionMapper;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessInstanceMapper;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.DependencyCallTimer;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuard;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.HedgedCalls;
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Map;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
 import org.camunda.bpm.engine.rest.dto.VariableValueDto;
 import org.camunda.bpm.engine.rest.dto.runtime.ProcessInstanceWithVariablesDto;
@@ -57,11 +76,21 @@ class ProcessDefinitionRemoteServiceImplTest {
   @Spy
   private BaseMapper baseMapper = Mappers.getMapper(BaseMapper.class);
   @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy
   private ProcessDefinitionMapper processDefinitionMapper = Mappers.getMapper(
       ProcessDefinitionMapper.class);
   @Spy
   private ProcessInstanceMapper processInstanceMapper = Mappers.getMapper(
       ProcessInstanceMapper.class);
+  @Spy
+  private ResilienceProperties resilienceProperties = new ResilienceProperties();
+  @Spy
+  private DownstreamGuards downstreamGuards = new DownstreamGuards(resilienceProperties,
+      meterRegistry);
+  @Spy
+  private HedgedCalls hedgedCalls = new HedgedCalls(new BpmsHedgingProperties(),
+      new VirtualThreadsProperties(), meterRegistry, ThreadLocalCurrentTraceContext.create());
 
   @Captor
   private ArgumentCaptor<StartProcessInstanceDto> startProcessInstanceDtoArgumentCaptor;
@@ -81,6 +110,24 @@ class ProcessDefinitionRemoteServiceImplTest {
         new GetProcessDefinitionsParams());
 
     assertThat(result.getCount()).isEqualTo(7L);
+    assertThat(meterRegistry.get(DependencyCallTimer.OUTBOUND_CALL_METRIC)
+        .tags("dependency", "bpms", "operation", "count-process-definitions", "outcome", "SUCCESS")
+        .timer().count()).isOne();
+  }
+
+  @Test
+  void shouldRecordFailedBpmsCallTime() {
+    when(processDefinitionRestClient.getProcessDefinitionsCount(any()))
+        .thenThrow(bpmsUnavailable("getProcessDefinitionsCount"));
+
+    var params = new GetProcessDefinitionsParams();
+    assertThrows(FeignException.class,
+        () -> processDefinitionRemoteService.countProcessDefinitions(params));
+
+    assertThat(meterRegistry.get(DependencyCallTimer.OUTBOUND_CALL_METRIC)
+        .tags("dependency", "bpms", "operation", "count-process-definitions", "outcome",
+            "SERVER_ERROR")
+        .timer().count()).isOne();
   }
 
   @Test
@@ -109,6 +156,35 @@ class ProcessDefinitionRemoteServiceImplTest {
         .hasFieldOrPropertyWithValue("formKey", "testFormKey");
   }
 
+  @Test
+  void shouldReturnLastKnownProcessDefinitionsWhileCircuitIsOpen() {
+    var downstreamProperties = new DownstreamProperties();
+    downstreamProperties.setSlidingWindowSize(2);
+    downstreamProperties.setMinimumNumberOfCalls(2);
+    var properties = new ResilienceProperties();
+    properties.setDownstream(Map.of(DependencyCallTimer.BPMS, downstreamProperties));
+    var remoteService = new ProcessDefinitionRemoteServiceImpl(processDefinitionRestClient,
+        baseMapper, processDefinitionMapper, processInstanceMapper, meterRegistry,
+        new DownstreamGuards(properties, meterRegistry), properties, hedgedCalls);
+    var definition = DdmProcessDefinitionDto.builder().id("id").key("key").build();
+    when(processDefinitionRestClient.getProcessDefinitionsByParams(any()))
+        .thenReturn(Collections.singletonList(definition))
+        .thenThrow(bpmsUnavailable("getProcessDefinitionsByParams"));
+
+    var params = new GetProcessDefinitionsParams();
+    var lastKnownResult = remoteService.getProcessDefinitions(params);
+    assertThrows(FeignException.class, () -> remoteService.getProcessDefinitions(params));
+    var result = remoteService.getProcessDefinitions(params);
+
+    assertThat(result).isSameAs(lastKnownResult);
+    assertThrows(CallNotPermittedException.class,
+        () -> remoteService.countProcessDefinitions(params));
+    assertThat(meterRegistry.get(LastKnownGood.FALLBACKS_METRIC)
+        .tags("operation", "get-process-definitions").counter().count()).isOne();
+    assertThat(meterRegistry.get(DownstreamGuard.REJECTED_CALLS_METRIC)
+        .tags("dependency", "bpms", "reason", "circuit-open").counter().count()).isEqualTo(2);
+  }
+
   @Test
   void getProcessDefinitionByKey() {
     var processDefinitionId = "id";
@@ -181,4 +257,14 @@ class ProcessDefinitionRemoteServiceImplTest {
         .extracting(VariableValueDto::getValue)
         .isEqualTo(formDataKey);
   }
+
+  private FeignException bpmsUnavailable(String methodKey) {
+    var response = Response.builder()
+        .status(503)
+        .request(Request.create(HttpMethod.GET, "/api/process-definition", Map.of(), null,
+            StandardCharsets.UTF_8, null))
+        .headers(Map.of())
+        .build();
+    return FeignException.errorStatus(methodKey, response);
+  }
 }
@@ -17,8 +17,14 @@
 package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import brave.propagation.ThreadLocalCurrentTraceContext;
 import com.epam.digital.data.platform.bpms.api.dto.DdmProcessInstanceCountQueryDto;
 import com.epam.digital.data.platform.bpms.api.dto.DdmProcessInstanceDto;
 import com.epam.digital.data.platform.bpms.api.dto.DdmProcessInstanceQueryDto;
@@ -27,14 +33,33 @@ import com.epam.digital.data.platform.bpms.api.dto.enums.DdmProcessInstanceStatu
 import com.epam.digital.data.platform.bpms.client.ProcessInstanceRestClient;
 import com.epam.digital.data.platform.starter.localization.MessageResolver;
 import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpmsHedgingProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ResilienceProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.VirtualThreadsProperties;
 import com.epam.digital.data.platform.usrprcssmgt.i18n.ProcessInstanceStatusMessageTitle;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.BaseMapper;
 import com.epam.digital.data.platform.usrprcssmgt.mapper.ProcessInstanceMapper;
 import com.epam.digital.data.platform.usrprcssmgt.model.StatusModel;
 import com.epam.digital.data.platform.usrprcssmgt.model.UserProcessInstanceStatus;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.client.ProcessInstanceStreamRestClient;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.HedgedCalls;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +68,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.i18n.LocaleContextHolder;
 
 @ExtendWith(MockitoExtension.class)
 class ProcessInstanceRemoteServiceImplTest {
@@ -52,10 +79,24 @@ class ProcessInstanceRemoteServiceImplTest {
   @Mock
   private ProcessInstanceRestClient processInstanceRestClient;
   @Mock
+  private ProcessInstanceStreamRestClient processInstanceStreamRestClient;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+  @Mock
+  private ObjectProvider<ErrorDecoder> errorDecoder;
+  @Mock
   private MessageResolver messageResolver;
   @Spy
   private BaseMapper baseMapper = Mappers.getMapper(BaseMapper.class);
   @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy
+  private DownstreamGuards downstreamGuards = new DownstreamGuards(new ResilienceProperties(),
+      meterRegistry);
+  @Spy
+  private HedgedCalls hedgedCalls = new HedgedCalls(new BpmsHedgingProperties(),
+      new VirtualThreadsProperties(), meterRegistry, ThreadLocalCurrentTraceContext.create());
+  @Spy
   @InjectMocks
   private ProcessInstanceMapper processInstanceMapper = Mappers.getMapper(
       ProcessInstanceMapper.class);
@@ -161,4 +202,80 @@ class ProcessInstanceRemoteServiceImplTest {
             .title("citizen in progress title")
             .build());
   }
+
+  @Test
+  void shouldResolveStatusTitleOncePerLocale() {
+    var processInstances = List.of(
+        DdmProcessInstanceDto.builder().id("id1").state(DdmProcessInstanceStatus.PENDING).build(),
+        DdmProcessInstanceDto.builder().id("id2").state(DdmProcessInstanceStatus.PENDING).build(),
+        DdmProcessInstanceDto.builder().id("id3").state(DdmProcessInstanceStatus.PENDING).build());
+    when(messageResolver.getMessage(ProcessInstanceStatusMessageTitle.PENDING))
+        .thenReturn("officer pending title");
+
+    try {
+      LocaleContextHolder.setLocale(Locale.ENGLISH);
+      var englishResult = processInstanceMapper.toProcessInstanceResponses(processInstances,
+          SystemRole.OFFICER);
+      LocaleContextHolder.setLocale(Locale.forLanguageTag("uk"));
+      processInstanceMapper.toProcessInstanceResponses(processInstances, SystemRole.OFFICER);
+
+      assertThat(englishResult).extracting(response -> response.getStatus().getTitle())
+          .containsOnly("officer pending title");
+      verify(messageResolver, times(2)).getMessage(ProcessInstanceStatusMessageTitle.PENDING);
+    } finally {
+      LocaleContextHolder.resetLocaleContext();
+    }
+  }
+
+  @Test
+  void shouldStreamProcessInstances() {
+    var page = Pageable.builder().firstResult(0).maxResults(2).build();
+    when(processInstanceStreamRestClient.getProcessInstances(
+        DdmProcessInstanceQueryDto.builder().rootProcessInstances(true).build(),
+        PaginationQueryDto.builder().firstResult(0).maxResults(2).build()))
+        .thenReturn(bpmsResponse(200, "[{\"id\":\"id1\",\"state\":\"PENDING\"},"
+            + "{\"id\":\"id2\",\"processDefinitionName\":\"name2\"}]"));
+    when(messageResolver.getMessage(ProcessInstanceStatusMessageTitle.PENDING))
+        .thenReturn("officer pending title");
+
+    var result = new ArrayList<GetProcessInstanceResponse>();
+    processInstanceRemoteService.streamProcessInstances(page, SystemRole.OFFICER, result::add);
+
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0)).hasFieldOrPropertyWithValue("id", "id1")
+        .hasFieldOrPropertyWithValue("status", StatusModel.builder()
+            .code(UserProcessInstanceStatus.PENDING)
+            .title("officer pending title")
+            .build());
+    assertThat(result.get(1)).hasFieldOrPropertyWithValue("id", "id2")
+        .hasFieldOrPropertyWithValue("processDefinitionName", "name2");
+  }
+
+  @Test
+  void shouldDecodeStreamedErrorResponse() {
+    var page = Pageable.builder().build();
+    var queryDto = DdmProcessInstanceQueryDto.builder().rootProcessInstances(true).build();
+    var paginationQueryDto = PaginationQueryDto.builder().build();
+    when(processInstanceStreamRestClient.getProcessInstances(queryDto, paginationQueryDto))
+        .thenReturn(bpmsResponse(403, "{\"message\":\"error\"}"));
+
+    var result = new ArrayList<GetProcessInstanceResponse>();
+    var exception = assertThrows(FeignException.class,
+        () -> processInstanceRemoteService.streamProcessInstances(page, SystemRole.CITIZEN,
+            result::add));
+
+    assertThat(exception.status()).isEqualTo(403);
+    assertThat(result).isEmpty();
+    verify(processInstanceRestClient, never()).getProcessInstances(any(), any());
+  }
+
+  private Response bpmsResponse(int status, String body) {
+    return Response.builder()
+        .status(status)
+        .request(Request.create(HttpMethod.POST, "/api/extended/process-instance", Map.of(), null,
+            StandardCharsets.UTF_8, null))
+        .headers(Map.of())
+        .body(body, StandardCharsets.UTF_8)
+        .build();
+  }
 }
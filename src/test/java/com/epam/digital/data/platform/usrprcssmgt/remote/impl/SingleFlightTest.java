@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.remote.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private SingleFlight<String, String> singleFlight;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    singleFlight = new SingleFlight<>("test", meterRegistry);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldShareInFlightCallBetweenCallersWithSameKey() {
+    var calls = new AtomicInteger();
+    var callStarted = new CountDownLatch(1);
+    var releaseCall = new CountDownLatch(1);
+
+    var first = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      callStarted.countDown();
+      await(releaseCall);
+      return "result";
+    }));
+    assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    var second = CompletableFuture.supplyAsync(
+        () -> singleFlight.execute("key", () -> "another result"));
+    while (coalescedCallers() < 1) {
+      Thread.onSpinWait();
+    }
+    releaseCall.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(calls).hasValue(1);
+    assertThat(coalescedCallers()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotKeepResultAfterCallIsFinished() {
+    assertThat(singleFlight.execute("key", () -> "result")).isEqualTo("result");
+    assertThat(singleFlight.execute("key", () -> "new result")).isEqualTo("new result");
+    assertThat(coalescedCallers()).isZero();
+  }
+
+  @Test
+  void shouldRethrowCallException() {
+    var exception = new IllegalStateException("BPMS is unavailable");
+
+    var result = assertThrows(IllegalStateException.class,
+        () -> singleFlight.execute("key", () -> {
+          throw exception;
+        }));
+
+    assertThat(result).isSameAs(exception);
+    assertThat(singleFlight.execute("key", () -> "result")).isEqualTo("result");
+  }
+
+  private double coalescedCallers() {
+    return meterRegistry.get(SingleFlight.COALESCED_CALLERS_METRIC).tag("operation", "test")
+        .counter().count();
+  }
+
+  @SneakyThrows
+  private static void await(CountDownLatch latch) {
+    latch.await(5, TimeUnit.SECONDS);
+  }
+}
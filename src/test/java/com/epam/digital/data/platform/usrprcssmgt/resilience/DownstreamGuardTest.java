@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class DownstreamGuardTest {
+
+  private CircuitBreaker circuitBreaker;
+  private Bulkhead bulkhead;
+  private DownstreamGuard guard;
+
+  @BeforeEach
+  void setUp() {
+    circuitBreaker = CircuitBreaker.ofDefaults("bpms");
+    bulkhead = Bulkhead.of("bpms", BulkheadConfig.custom()
+        .maxConcurrentCalls(1)
+        .maxWaitDuration(Duration.ZERO)
+        .build());
+    guard = new DownstreamGuard("bpms", circuitBreaker, bulkhead, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldRecordNonBlockingCallOutcomeAndReleaseBulkhead() {
+    var result = guard.execute(Mono.just("result")).block();
+
+    assertThat(result).isEqualTo("result");
+    assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isOne();
+    assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isOne();
+  }
+
+  @Test
+  void shouldRejectNonBlockingCallIfCircuitIsOpen() {
+    circuitBreaker.transitionToOpenState();
+    var subscribed = new AtomicBoolean();
+
+    var call = guard.execute(Mono.just("result").doOnSubscribe(s -> subscribed.set(true)));
+
+    assertThrows(CallNotPermittedException.class, call::block);
+    assertThat(subscribed).isFalse();
+  }
+
+  @Test
+  void shouldRejectNonBlockingCallIfBulkheadIsFull() {
+    var inFlightCall = guard.execute(Mono.never()).subscribe();
+
+    assertThrows(BulkheadFullException.class, () -> guard.execute(Mono.just("result")).block());
+
+    inFlightCall.dispose();
+    assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isOne();
+    assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls()).isZero();
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpmsHedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HedgedCallTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ExecutorService executor;
+  private BpmsHedgingProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    executor = Executors.newCachedThreadPool();
+    properties = new BpmsHedgingProperties();
+    properties.setEnabled(true);
+    properties.setMinimumNumberOfCalls(0);
+    properties.setMinDelay(Duration.ofMillis(20));
+    properties.setMaxHedgeRatio(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldReturnHedgeResultWithoutInterruptingSlowPrimary() {
+    var hedgedCall = new HedgedCall("test", properties, executor, meterRegistry);
+    var attempts = new AtomicInteger();
+    var releasePrimary = new CountDownLatch(1);
+    var primaryFinished = new CountDownLatch(1);
+    var primaryInterrupted = new AtomicBoolean();
+
+    var result = hedgedCall.execute(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        try {
+          releasePrimary.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+          primaryInterrupted.set(true);
+        }
+        primaryFinished.countDown();
+        return "primary";
+      }
+      return "hedge";
+    });
+    releasePrimary.countDown();
+
+    assertThat(result).isEqualTo("hedge");
+    assertThat(attempts).hasValue(2);
+    assertThat(await(primaryFinished)).isTrue();
+    assertThat(primaryInterrupted).isFalse();
+    assertThat(calls(HedgedCall.HEDGE_WON)).isOne();
+  }
+
+  @Test
+  void shouldNotHedgeCallFasterThanDelay() {
+    properties.setMinDelay(Duration.ofSeconds(5));
+    var hedgedCall = new HedgedCall("test", properties, executor, meterRegistry);
+    var attempts = new AtomicInteger();
+
+    var result = hedgedCall.execute(() -> {
+      attempts.incrementAndGet();
+      return "primary";
+    });
+
+    assertThat(result).isEqualTo("primary");
+    assertThat(attempts).hasValue(1);
+    assertThat(calls(HedgedCall.NOT_HEDGED)).isOne();
+  }
+
+  @Test
+  void shouldNotHedgeIfBudgetIsExhausted() {
+    properties.setMaxHedgeRatio(0.1);
+    var hedgedCall = new HedgedCall("test", properties, executor, meterRegistry);
+    var attempts = new AtomicInteger();
+
+    var result = hedgedCall.execute(() -> {
+      attempts.incrementAndGet();
+      sleep(100);
+      return "primary";
+    });
+
+    assertThat(result).isEqualTo("primary");
+    assertThat(attempts).hasValue(1);
+    assertThat(calls(HedgedCall.BUDGET_EXHAUSTED)).isOne();
+  }
+
+  @Test
+  void shouldReturnHedgeResultIfPrimaryFailed() {
+    var hedgedCall = new HedgedCall("test", properties, executor, meterRegistry);
+    var attempts = new AtomicInteger();
+
+    var result = hedgedCall.execute(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        sleep(100);
+        throw new IllegalStateException("Bpms error");
+      }
+      sleep(200);
+      return "hedge";
+    });
+
+    assertThat(result).isEqualTo("hedge");
+    assertThat(calls(HedgedCall.HEDGE_WON)).isOne();
+  }
+
+  @Test
+  void shouldRethrowExceptionIfNotHedged() {
+    properties.setMinimumNumberOfCalls(1);
+    var hedgedCall = new HedgedCall("test", properties, executor, meterRegistry);
+    var exception = new IllegalStateException("Bpms error");
+
+    var result = assertThrows(IllegalStateException.class, () -> hedgedCall.execute(() -> {
+      throw exception;
+    }));
+
+    assertThat(result).isSameAs(exception);
+    assertThat(calls(HedgedCall.NOT_HEDGED)).isOne();
+  }
+
+  @Test
+  void shouldCallOnCallingThreadIfCallCanNotBeHedged() {
+    properties.setMinimumNumberOfCalls(1);
+    var hedgedCall = new HedgedCall("test", properties, executor, meterRegistry);
+
+    var result = hedgedCall.execute(() -> Thread.currentThread());
+
+    assertThat(result).isSameAs(Thread.currentThread());
+  }
+
+  @Test
+  void shouldCallSupplierIfDisabled() {
+    var hedgedCall = HedgedCall.disabled("test");
+
+    assertThat(hedgedCall.execute(() -> "result")).isEqualTo("result");
+  }
+
+  private double calls(String outcome) {
+    return meterRegistry.get(HedgedCall.HEDGING_CALLS_METRIC)
+        .tags("operation", "test", "outcome", outcome).counter().count();
+  }
+
+  @SneakyThrows
+  private static boolean await(CountDownLatch latch) {
+    return latch.await(5, TimeUnit.SECONDS);
+  }
+
+  @SneakyThrows
+  private static void sleep(long millis) {
+    Thread.sleep(millis);
+  }
+}
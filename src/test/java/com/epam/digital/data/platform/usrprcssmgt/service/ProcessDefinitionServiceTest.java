@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -36,22 +37,46 @@ import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
 import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
 import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpGroupConfigurationProperties;
 import com.epam.digital.data.platform.usrprcssmgt.config.properties.BpGroupConfigurationProperties.GroupedProcessDefinition;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ResilienceProperties;
+import com.epam.digital.data.platform.usrprcssmgt.exception.BatchSizeExceededException;
 import com.epam.digital.data.platform.usrprcssmgt.exception.StartFormException;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.DependencyCallTimer;
+import com.epam.digital.data.platform.usrprcssmgt.metrics.ProcessStartMetrics;
 import com.epam.digital.data.platform.usrprcssmgt.model.ProcessDefinitionGroup;
 import com.epam.digital.data.platform.usrprcssmgt.model.request.GetProcessDefinitionsParams;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.StartProcessInstanceWithFormRequest;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.BatchStartProcessInstanceItemResponse.Status;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.GroupedProcessDefinitionResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.ProcessDefinitionResponse;
 import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
 import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessDefinitionRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ReactiveProcessDefinitionRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.resilience.DownstreamGuards;
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
 import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 class ProcessDefinitionServiceTest {
@@ -66,6 +91,17 @@ class ProcessDefinitionServiceTest {
   private FormValidationService formValidationService;
   @Mock
   private BpGroupConfigurationProperties bpGroupConfigurationProperties;
+  @Spy
+  private ProcessStartProperties processStartProperties = new ProcessStartProperties();
+  @Mock
+  private Executor processStartExecutor;
+  @Mock
+  private ObjectProvider<ReactiveProcessDefinitionRemoteService>
+      reactiveProcessDefinitionRemoteService;
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy
+  private ProcessStartMetrics processStartMetrics = new ProcessStartMetrics(meterRegistry,
+      new DownstreamGuards(new ResilienceProperties(), meterRegistry));
 
   @Test
   void startProcessInstance() {
@@ -90,6 +126,76 @@ class ProcessDefinitionServiceTest {
     verify(formDataStorageService, never()).delete(any());
   }
 
+  @Test
+  void shouldStartProcessInstanceWithNonBlockingClient() {
+    var reactiveRemoteService = mock(ReactiveProcessDefinitionRemoteService.class);
+    when(reactiveProcessDefinitionRemoteService.getIfAvailable()).thenReturn(reactiveRemoteService);
+    var expectedResponse = StartProcessInstanceResponse.builder().id("processInstanceId").build();
+    var authentication = mock(Authentication.class);
+    when(authentication.getCredentials()).thenReturn("token");
+    when(formDataStorageService.putStartFormData(eq("processDefinitionKey"), anyString(), any()))
+        .thenReturn("formDataKey");
+    when(reactiveRemoteService.startProcessInstance("processDefinitionKey", "formDataKey"))
+        .thenReturn(Mono.just(expectedResponse));
+
+    var result = processDefinitionService.startProcessInstanceAsync("processDefinitionKey",
+        authentication);
+
+    assertThat(result.join()).isSameAs(expectedResponse);
+    verify(processDefinitionRemoteService, never()).startProcessInstance(any(), any());
+    verify(formDataStorageService, never()).delete(any());
+  }
+
+  @Test
+  void shouldDeleteFormDataIfNonBlockingClientFailedToStartProcessInstance() {
+    var reactiveRemoteService = mock(ReactiveProcessDefinitionRemoteService.class);
+    when(reactiveProcessDefinitionRemoteService.getIfAvailable()).thenReturn(reactiveRemoteService);
+    var authentication = mock(Authentication.class);
+    when(authentication.getCredentials()).thenReturn("token");
+    when(formDataStorageService.putStartFormData(eq("processDefinitionKey"), anyString(), any()))
+        .thenReturn("formDataKey");
+    when(reactiveRemoteService.startProcessInstance("processDefinitionKey", "formDataKey"))
+        .thenReturn(Mono.error(new IllegalStateException("Process definition is suspended")));
+
+    var result = processDefinitionService.startProcessInstanceAsync("processDefinitionKey",
+        authentication);
+
+    var exception = assertThrows(CompletionException.class, result::join);
+    assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+    verify(formDataStorageService).delete(Set.of("formDataKey"));
+  }
+
+  @Test
+  void shouldStartProcessInstanceWithFormWithNonBlockingClient() {
+    var reactiveRemoteService = mock(ReactiveProcessDefinitionRemoteService.class);
+    when(reactiveProcessDefinitionRemoteService.getIfAvailable()).thenReturn(reactiveRemoteService);
+    var formDataDto = mock(FormDataDto.class);
+    var processDefinition = ProcessDefinitionResponse.builder()
+        .key("processDefinitionKey")
+        .formKey("startFormKey")
+        .build();
+    when(processDefinitionRemoteService.getProcessDefinitionByKey("processDefinitionKey"))
+        .thenReturn(processDefinition);
+    when(formValidationService.validateForm(eq("startFormKey"), any()))
+        .thenReturn(FormValidationResponseDto.builder().isValid(true).build());
+    when(formDataStorageService.putStartFormData(eq("processDefinitionKey"), anyString(),
+        eq(formDataDto))).thenReturn("formDataKey");
+    var expectedResponse = StartProcessInstanceResponse.builder().id("processInstanceId").build();
+    when(reactiveRemoteService.startProcessInstance("processDefinitionKey", "formDataKey"))
+        .thenReturn(Mono.just(expectedResponse));
+    var authentication = mock(Authentication.class);
+    when(authentication.getCredentials()).thenReturn("token");
+
+    var result = processDefinitionService.startProcessInstanceWithFormAsync(
+        "processDefinitionKey", formDataDto, authentication, null);
+
+    assertThat(result.join()).isSameAs(expectedResponse);
+    verify(processDefinitionRemoteService, never()).startProcessInstance(any(), any());
+    assertThat(meterRegistry.get(ProcessStartMetrics.STAGE_METRIC)
+        .tags("stage", ProcessStartMetrics.START_PROCESS_INSTANCE, "outcome", "SUCCESS")
+        .timer().count()).isOne();
+  }
+
   @Test
   void startProcessDefinitionWithForm() {
     var formDataDto = mock(FormDataDto.class);
@@ -127,6 +233,18 @@ class ProcessDefinitionServiceTest {
 
     assertThat(result).isEqualTo(expectedResponse);
     verify(formDataStorageService, never()).delete(any());
+    assertThat(List.of(ProcessStartMetrics.GET_PROCESS_DEFINITION,
+        ProcessStartMetrics.VALIDATE_FORM_DATA, ProcessStartMetrics.STORE_FORM_DATA,
+        ProcessStartMetrics.START_PROCESS_INSTANCE))
+        .allSatisfy(stage -> assertThat(meterRegistry.get(ProcessStartMetrics.STAGE_METRIC)
+            .tags("stage", stage, "outcome", "SUCCESS").timer().count()).isOne());
+    assertThat(meterRegistry.get(DependencyCallTimer.OUTBOUND_CALL_METRIC)
+        .tags("dependency", DependencyCallTimer.FORM_VALIDATION, "operation", "validate-form")
+        .timer().count()).isOne();
+    assertThat(meterRegistry.get(DependencyCallTimer.OUTBOUND_CALL_METRIC)
+        .tags("dependency", DependencyCallTimer.FORM_DATA_STORAGE, "operation",
+            "put-start-form-data")
+        .timer().count()).isOne();
   }
 
   @Test
@@ -195,6 +313,9 @@ class ProcessDefinitionServiceTest {
     verify(formDataStorageService, never()).putStartFormData(anyString(), anyString(), any(FormDataDto.class));
     verify(formDataStorageService, never()).delete(any());
     verify(processDefinitionRemoteService, never()).startProcessInstance(anyString(), anyString());
+    assertThat(meterRegistry.get(ProcessStartMetrics.STAGE_METRIC)
+        .tags("stage", ProcessStartMetrics.VALIDATE_FORM_DATA, "outcome", "CLIENT_ERROR")
+        .timer().count()).isOne();
   }
 
   @Test
@@ -250,6 +371,188 @@ class ProcessDefinitionServiceTest {
     verify(formDataStorageService).delete(Set.of(formDataKey));
   }
 
+  @Test
+  void shouldStoreStartFormDataWhileValidatingWhenParallelFormDataStorageIsEnabled() {
+    processStartProperties.setParallelFormDataStorage(true);
+    runProcessStartTasksInPlace();
+    var formDataDto = mock(FormDataDto.class);
+    var processDefinitionKey = "processDefinitionKey";
+    var startFormKey = "startFormKey";
+    var processDefinition = ProcessDefinitionResponse.builder()
+        .key(processDefinitionKey)
+        .formKey(startFormKey)
+        .build();
+    when(processDefinitionRemoteService.getProcessDefinitionByKey(processDefinitionKey))
+        .thenReturn(processDefinition);
+    when(formValidationService.validateForm(eq(startFormKey), any()))
+        .thenReturn(FormValidationResponseDto.builder().isValid(true).build());
+    var formDataKey = "formDataKey";
+    when(formDataStorageService.putStartFormData(eq(processDefinitionKey), anyString(),
+        eq(formDataDto))).thenReturn(formDataKey);
+    var expectedResponse = StartProcessInstanceResponse.builder()
+        .id("processInstanceId")
+        .processDefinitionId("processDefinitionId")
+        .build();
+    when(processDefinitionRemoteService.startProcessInstance(processDefinitionKey, formDataKey))
+        .thenReturn(expectedResponse);
+    var authentication = mock(Authentication.class);
+    when(authentication.getCredentials()).thenReturn("token");
+
+    var result = processDefinitionService.startProcessInstanceWithForm(processDefinitionKey,
+        formDataDto, authentication);
+
+    assertThat(result).isEqualTo(expectedResponse);
+    verify(formDataDto).setAccessToken("token");
+    verify(formDataStorageService, never()).delete(any());
+  }
+
+  @Test
+  void shouldDeleteSpeculativelyStoredStartFormDataWhenValidationFailed() {
+    processStartProperties.setParallelFormDataStorage(true);
+    runProcessStartTasksInPlace();
+    var formDataDto = mock(FormDataDto.class);
+    var processDefinitionKey = "processDefinitionKey";
+    var startFormKey = "startFormKey";
+    var processDefinition = ProcessDefinitionResponse.builder()
+        .key(processDefinitionKey)
+        .formKey(startFormKey)
+        .build();
+    when(processDefinitionRemoteService.getProcessDefinitionByKey(processDefinitionKey))
+        .thenReturn(processDefinition);
+    var error = ValidationErrorDto.builder().code("code").message("message").build();
+    when(formValidationService.validateForm(eq(startFormKey), any()))
+        .thenReturn(FormValidationResponseDto.builder().isValid(false).error(error).build());
+    var formDataKey = "formDataKey";
+    when(formDataStorageService.putStartFormData(eq(processDefinitionKey), anyString(),
+        eq(formDataDto))).thenReturn(formDataKey);
+    var authentication = mock(Authentication.class);
+
+    assertThrows(ValidationException.class,
+        () -> processDefinitionService.startProcessInstanceWithForm(processDefinitionKey,
+            formDataDto, authentication));
+
+    verify(formDataStorageService).delete(Set.of(formDataKey));
+    verify(processDefinitionRemoteService, never()).startProcessInstance(anyString(), anyString());
+  }
+
+  @Test
+  void shouldStartProcessInstancesWithFormInBatch() {
+    runProcessStartTasksInPlace();
+    var processDefinitionKey = "processDefinitionKey";
+    var startFormKey = "startFormKey";
+    var processDefinition = ProcessDefinitionResponse.builder()
+        .key(processDefinitionKey)
+        .formKey(startFormKey)
+        .build();
+    when(processDefinitionRemoteService.getProcessDefinitionByKey(processDefinitionKey))
+        .thenReturn(processDefinition);
+    var validFormData = FormDataDto.builder().data(new LinkedHashMap<>(Map.of("field", "valid")))
+        .build();
+    var invalidFormData = FormDataDto.builder()
+        .data(new LinkedHashMap<>(Map.of("field", "invalid"))).build();
+    var error = ValidationErrorDto.builder().code("code").message("message").build();
+    when(formValidationService.validateForm(eq(startFormKey), any())).thenAnswer(
+        invocation -> invocation.<FormDataValidationDto>getArgument(1).getData()
+            == validFormData.getData()
+            ? FormValidationResponseDto.builder().isValid(true).build()
+            : FormValidationResponseDto.builder().isValid(false).error(error).build());
+    var formDataKey = "formDataKey";
+    when(formDataStorageService.putStartFormData(eq(processDefinitionKey), anyString(),
+        eq(validFormData))).thenReturn(formDataKey);
+    var startedProcessInstance = StartProcessInstanceResponse.builder()
+        .id("processInstanceId")
+        .processDefinitionId("processDefinitionId")
+        .build();
+    when(processDefinitionRemoteService.startProcessInstance(processDefinitionKey, formDataKey))
+        .thenReturn(startedProcessInstance);
+    var authentication = mock(Authentication.class);
+    when(authentication.getCredentials()).thenReturn("token");
+
+    var result = processDefinitionService.startProcessInstancesWithForm(List.of(
+        new StartProcessInstanceWithFormRequest(processDefinitionKey, validFormData),
+        new StartProcessInstanceWithFormRequest(processDefinitionKey, invalidFormData)),
+        authentication);
+
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0))
+        .hasFieldOrPropertyWithValue("index", 0)
+        .hasFieldOrPropertyWithValue("status", Status.STARTED)
+        .hasFieldOrPropertyWithValue("result", startedProcessInstance);
+    assertThat(result.get(1))
+        .hasFieldOrPropertyWithValue("index", 1)
+        .hasFieldOrPropertyWithValue("status", Status.FAILED)
+        .hasFieldOrPropertyWithValue("result", null);
+    assertThat(result.get(1).getValidationError())
+        .hasFieldOrPropertyWithValue("code", "code")
+        .hasFieldOrPropertyWithValue("message", "message");
+    assertThat(validFormData.getAccessToken()).isEqualTo("token");
+    verify(processDefinitionRemoteService).getProcessDefinitionByKey(processDefinitionKey);
+    verify(formDataStorageService, never()).delete(any());
+  }
+
+  @Test
+  void shouldKeepDownstreamStatusOfFailedBatchItem() {
+    runProcessStartTasksInPlace();
+    var processDefinitionKey = "unknownProcessDefinitionKey";
+    var bpmsResponse = Response.builder()
+        .status(404)
+        .request(Request.create(HttpMethod.GET, "/api/process-definition/key", Map.of(), null,
+            StandardCharsets.UTF_8, null))
+        .headers(Map.of())
+        .build();
+    when(processDefinitionRemoteService.getProcessDefinitionByKey(processDefinitionKey))
+        .thenThrow(FeignException.errorStatus("getProcessDefinitionByKey", bpmsResponse));
+    var authentication = mock(Authentication.class);
+
+    var result = processDefinitionService.startProcessInstancesWithForm(List.of(
+        new StartProcessInstanceWithFormRequest(processDefinitionKey, new FormDataDto())),
+        authentication);
+
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0))
+        .hasFieldOrPropertyWithValue("status", Status.FAILED)
+        .hasFieldOrPropertyWithValue("validationError", null);
+    assertThat(result.get(0).getError())
+        .hasFieldOrPropertyWithValue("code", "404")
+        .hasFieldOrPropertyWithValue("message", "Not Found");
+    verify(processDefinitionRemoteService, never()).startProcessInstance(anyString(), anyString());
+  }
+
+  @Test
+  void shouldRejectMalformedBatchItems() {
+    var authentication = mock(Authentication.class);
+    var requests = new ArrayList<StartProcessInstanceWithFormRequest>();
+    requests.add(null);
+    requests.add(new StartProcessInstanceWithFormRequest(null, new FormDataDto()));
+
+    var result = processDefinitionService.startProcessInstancesWithForm(requests, authentication);
+
+    assertThat(result).hasSize(2);
+    assertThat(result).allSatisfy(item -> {
+      assertThat(item)
+          .hasFieldOrPropertyWithValue("status", Status.FAILED)
+          .hasFieldOrPropertyWithValue("processDefinitionKey", null);
+      assertThat(item.getError())
+          .hasFieldOrPropertyWithValue("code", "400")
+          .hasFieldOrPropertyWithValue("message", "Process definition key is required");
+    });
+    assertThat(result.get(1).getIndex()).isEqualTo(1);
+    verify(processDefinitionRemoteService, never()).getProcessDefinitionByKey(any());
+  }
+
+  @Test
+  void shouldNotStartProcessInstancesWhenBatchSizeIsExceeded() {
+    processStartProperties.setMaxBatchSize(1);
+    var request = new StartProcessInstanceWithFormRequest("key", new FormDataDto());
+    var authentication = mock(Authentication.class);
+
+    assertThrows(BatchSizeExceededException.class,
+        () -> processDefinitionService.startProcessInstancesWithForm(List.of(request, request),
+            authentication));
+
+    verify(processDefinitionRemoteService, never()).getProcessDefinitionByKey(anyString());
+  }
+
   @Test
   void shouldObtainGroupedProcessDefinitions() {
     var params = new GetProcessDefinitionsParams();
@@ -283,4 +586,51 @@ class ProcessDefinitionServiceTest {
     assertThat(result).isEqualTo(expectedResponse);
     verify(processDefinitionRemoteService).getProcessDefinitions(params);
   }
+
+  @Test
+  void shouldReuseGroupedProcessDefinitionsWhileSourcesAreNotChanged() {
+    var params = new GetProcessDefinitionsParams();
+    var processDefinition = ProcessDefinitionResponse.builder().key("123").name("name1").build();
+    var processDefinitionResponses = List.of(processDefinition);
+    var ungrouped = List.of("123");
+
+    when(bpGroupConfigurationProperties.getUngrouped()).thenReturn(ungrouped);
+    when(processDefinitionRemoteService.getProcessDefinitions(params))
+        .thenReturn(processDefinitionResponses);
+
+    var first = processDefinitionService.getGroupedProcessDefinitions(params);
+    var second = processDefinitionService.getGroupedProcessDefinitions(params);
+
+    assertThat(second).isSameAs(first);
+    assertThat(second.getUngrouped()).containsExactly(processDefinition);
+  }
+
+  @Test
+  void shouldRebuildGroupedProcessDefinitionsWhenSourcesAreChanged() {
+    var params = new GetProcessDefinitionsParams();
+    var processDefinition = ProcessDefinitionResponse.builder().key("123").name("name1").build();
+    var processDefinition2 = ProcessDefinitionResponse.builder().key("234").name("name2").build();
+
+    when(processDefinitionRemoteService.getProcessDefinitions(params))
+        .thenReturn(List.of(processDefinition))
+        .thenReturn(List.of(processDefinition, processDefinition2))
+        .thenReturn(List.of(processDefinition, processDefinition2));
+
+    var first = processDefinitionService.getGroupedProcessDefinitions(params);
+    var second = processDefinitionService.getGroupedProcessDefinitions(params);
+    processDefinitionService.onEnvironmentChange(
+        new EnvironmentChangeEvent(Set.of("bp-grouping.ungrouped[0]")));
+    var third = processDefinitionService.getGroupedProcessDefinitions(params);
+
+    assertThat(first.getUngrouped()).containsExactly(processDefinition);
+    assertThat(second.getUngrouped()).containsExactly(processDefinition, processDefinition2);
+    assertThat(third).isNotSameAs(second).isEqualTo(second);
+  }
+
+  private void runProcessStartTasksInPlace() {
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(processStartExecutor).execute(any());
+  }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import brave.Tracing;
+import brave.baggage.BaggageField;
+import brave.baggage.BaggagePropagation;
+import brave.baggage.BaggagePropagationConfig.SingleBaggageField;
+import brave.propagation.B3Propagation;
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessInstanceEventsProperties;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessInstanceRemoteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessInstanceEventServiceTest {
+
+  private static final Pageable PAGE = Pageable.builder().maxResults(100).build();
+
+  @Mock
+  private ProcessInstanceRemoteService processInstanceRemoteService;
+
+  private final BaggageField accessToken = BaggageField.create("x-access-token");
+
+  private Tracing tracing;
+  private SimpleMeterRegistry meterRegistry;
+  private ProcessInstanceEventService processInstanceEventService;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new ProcessInstanceEventsProperties();
+    properties.setPollInterval(Duration.ofHours(1));
+    meterRegistry = new SimpleMeterRegistry();
+    tracing = Tracing.newBuilder()
+        .currentTraceContext(ThreadLocalCurrentTraceContext.create())
+        .propagationFactory(BaggagePropagation.newFactoryBuilder(B3Propagation.FACTORY)
+            .add(SingleBaggageField.remote(accessToken)).build())
+        .build();
+    processInstanceEventService = new ProcessInstanceEventService(processInstanceRemoteService,
+        properties, meterRegistry, tracing.currentTraceContext());
+  }
+
+  @AfterEach
+  void tearDown() {
+    processInstanceEventService.destroy();
+    SecurityContextHolder.clearContext();
+    tracing.close();
+  }
+
+  @Test
+  void shouldPollBpmsOncePerUserForAllConnections() {
+    when(processInstanceRemoteService.getProcessInstances(PAGE, SystemRole.CITIZEN))
+        .thenReturn(List.of(GetProcessInstanceResponse.builder().id("id1").build()));
+    when(processInstanceRemoteService.countProcessInstances()).thenReturn(new CountResponse(1L));
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user1", "token1", "citizen"));
+
+    processInstanceEventService.subscribe(SystemRole.CITIZEN);
+    processInstanceEventService.subscribe(SystemRole.CITIZEN);
+
+    verify(processInstanceRemoteService, after(500).times(1)).countProcessInstances();
+    assertThat(processInstanceEventService.subscriptionCount()).isEqualTo(1);
+    assertThat(meterRegistry.get("process.instance.events.subscriptions").gauge().value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldPollBpmsOnBehalfOfEveryUser() {
+    when(processInstanceRemoteService.getProcessInstances(PAGE, SystemRole.OFFICER))
+        .thenReturn(List.of());
+    when(processInstanceRemoteService.countProcessInstances()).thenReturn(new CountResponse(0L));
+
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user1", "token1", "officer"));
+    processInstanceEventService.subscribe(SystemRole.OFFICER);
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user2", "token2", "officer"));
+    processInstanceEventService.subscribe(SystemRole.OFFICER);
+
+    verify(processInstanceRemoteService, timeout(5000).times(2))
+        .getProcessInstances(PAGE, SystemRole.OFFICER);
+    assertThat(processInstanceEventService.subscriptionCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldPollBpmsWithAccessTokenBaggageOfSubscriber() throws Exception {
+    var polledAccessToken = new CompletableFuture<String>();
+    when(processInstanceRemoteService.getProcessInstances(PAGE, SystemRole.CITIZEN))
+        .thenAnswer(invocation -> {
+          polledAccessToken.complete(accessToken.getValue(tracing.currentTraceContext().get()));
+          return List.of();
+        });
+    when(processInstanceRemoteService.countProcessInstances()).thenReturn(new CountResponse(0L));
+    SecurityContextHolder.getContext().setAuthentication(
+        new TestingAuthenticationToken("user1", "token1", "citizen"));
+
+    var span = tracing.tracer().nextSpan();
+    accessToken.updateValue(span.context(), "token1");
+    try (var scope = tracing.tracer().withSpanInScope(span)) {
+      processInstanceEventService.subscribe(SystemRole.CITIZEN);
+    }
+
+    assertThat(polledAccessToken.get(5, TimeUnit.SECONDS)).isEqualTo("token1");
+  }
+}
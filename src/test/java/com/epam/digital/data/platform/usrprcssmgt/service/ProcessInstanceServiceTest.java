@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.starter.security.SystemRole;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.CountCacheProperties;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessInstanceStreamingProperties;
+import com.epam.digital.data.platform.usrprcssmgt.exception.InvalidCursorException;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.Pageable;
+import com.epam.digital.data.platform.usrprcssmgt.model.request.ProcessInstanceCursor;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.CountResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.GetProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ProcessInstanceRemoteService;
+import com.epam.digital.data.platform.usrprcssmgt.remote.ReactiveProcessInstanceRemoteService;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessInstanceServiceTest {
+
+  @Mock
+  private ProcessInstanceRemoteService processInstanceRemoteService;
+
+  private ProcessInstanceService processInstanceService;
+
+  @BeforeEach
+  void setUp() {
+    var reactiveRemoteService = new StaticListableBeanFactory()
+        .getBeanProvider(ReactiveProcessInstanceRemoteService.class);
+    processInstanceService = new ProcessInstanceService(processInstanceRemoteService,
+        new ProcessInstanceStreamingProperties(), reactiveRemoteService,
+        new CountCacheProperties());
+  }
+
+  @Test
+  void shouldReturnFirstPageWithNextCursor() {
+    when(processInstanceRemoteService.getProcessInstances(Pageable.builder()
+        .firstResult(0).maxResults(2).sortBy("startTime").sortOrder("desc").build(),
+        SystemRole.OFFICER)).thenReturn(processInstances("id1", "id2"));
+
+    var result = processInstanceService.getProcessInstancePage(Pageable.builder()
+        .maxResults(2).sortBy("startTime").sortOrder("desc").cursor("").build(),
+        SystemRole.OFFICER);
+
+    assertThat(result.getContent()).extracting(GetProcessInstanceResponse::getId)
+        .containsExactly("id1", "id2");
+    assertThat(ProcessInstanceCursor.decode(result.getNextCursor()))
+        .isEqualTo(ProcessInstanceCursor.builder()
+            .sortBy("startTime").sortOrder("desc").lastId("id2").position(2).build());
+  }
+
+  @Test
+  void shouldReturnNextPageAfterLastProcessInstance() {
+    var cursor = ProcessInstanceCursor.builder()
+        .sortBy("startTime").sortOrder("desc").lastId("id2").position(2).build();
+    when(processInstanceRemoteService.getProcessInstances(Pageable.builder()
+        .firstResult(1).maxResults(3).sortBy("startTime").sortOrder("desc").build(),
+        SystemRole.CITIZEN)).thenReturn(processInstances("id2", "id3", "id4"));
+
+    var result = processInstanceService.getProcessInstancePage(Pageable.builder()
+        .maxResults(2).cursor(cursor.encode()).build(), SystemRole.CITIZEN);
+
+    assertThat(result.getContent()).extracting(GetProcessInstanceResponse::getId)
+        .containsExactly("id3", "id4");
+    assertThat(ProcessInstanceCursor.decode(result.getNextCursor()))
+        .isEqualTo(ProcessInstanceCursor.builder()
+            .sortBy("startTime").sortOrder("desc").lastId("id4").position(4).build());
+  }
+
+  @Test
+  void shouldNotRepeatProcessInstancesIfNewOnesWereStarted() {
+    var cursor = ProcessInstanceCursor.builder().lastId("id2").position(2).build();
+    when(processInstanceRemoteService.getProcessInstances(
+        Pageable.builder().firstResult(1).maxResults(3).build(), SystemRole.OFFICER))
+        .thenReturn(processInstances("id1", "id2", "id3"));
+    when(processInstanceRemoteService.getProcessInstances(
+        Pageable.builder().firstResult(2).maxResults(3).build(), SystemRole.OFFICER))
+        .thenReturn(processInstances("id2", "id3", "id4"));
+
+    var result = processInstanceService.getProcessInstancePage(Pageable.builder()
+        .maxResults(2).cursor(cursor.encode()).build(), SystemRole.OFFICER);
+
+    assertThat(result.getContent()).extracting(GetProcessInstanceResponse::getId)
+        .containsExactly("id3", "id4");
+    assertThat(ProcessInstanceCursor.decode(result.getNextCursor()))
+        .isEqualTo(ProcessInstanceCursor.builder().lastId("id4").position(5).build());
+  }
+
+  @Test
+  void shouldNotSkipProcessInstancesIfPreviousOnesWereFinished() {
+    var cursor = ProcessInstanceCursor.builder().lastId("id2").position(2).build();
+    when(processInstanceRemoteService.getProcessInstances(
+        Pageable.builder().firstResult(1).maxResults(3).build(), SystemRole.OFFICER))
+        .thenReturn(processInstances("id3", "id4", "id5"));
+    when(processInstanceRemoteService.getProcessInstances(
+        Pageable.builder().firstResult(0).maxResults(24).build(), SystemRole.OFFICER))
+        .thenReturn(processInstances("id2", "id3", "id4", "id5"));
+
+    var result = processInstanceService.getProcessInstancePage(Pageable.builder()
+        .maxResults(2).cursor(cursor.encode()).build(), SystemRole.OFFICER);
+
+    assertThat(result.getContent()).extracting(GetProcessInstanceResponse::getId)
+        .containsExactly("id3", "id4");
+    assertThat(ProcessInstanceCursor.decode(result.getNextCursor()).getPosition()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldCountWithCacheEvenIfNonBlockingClientIsEnabled() {
+    var reactiveRemoteService = mock(ReactiveProcessInstanceRemoteService.class);
+    var beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("reactiveProcessInstanceRemoteService", reactiveRemoteService);
+    processInstanceService = new ProcessInstanceService(processInstanceRemoteService,
+        new ProcessInstanceStreamingProperties(),
+        beanFactory.getBeanProvider(ReactiveProcessInstanceRemoteService.class),
+        new CountCacheProperties());
+    when(processInstanceRemoteService.countProcessInstances()).thenReturn(new CountResponse(3L));
+
+    var result = processInstanceService.countProcessInstancesAsync();
+
+    assertThat(result.join()).isEqualTo(new CountResponse(3L));
+    verifyNoInteractions(reactiveRemoteService);
+  }
+
+  @Test
+  void shouldThrowExceptionIfLastProcessInstanceIsNotFound() {
+    var cursor = ProcessInstanceCursor.builder().lastId("id2").position(2).build();
+    when(processInstanceRemoteService.getProcessInstances(
+        Pageable.builder().firstResult(1).maxResults(3).build(), SystemRole.OFFICER))
+        .thenReturn(processInstances("id3", "id4", "id5"));
+    when(processInstanceRemoteService.getProcessInstances(
+        Pageable.builder().firstResult(0).maxResults(24).build(), SystemRole.OFFICER))
+        .thenReturn(processInstances("id1", "id3", "id4", "id5"));
+    var page = Pageable.builder().maxResults(2).cursor(cursor.encode()).build();
+
+    assertThrows(InvalidCursorException.class,
+        () -> processInstanceService.getProcessInstancePage(page, SystemRole.OFFICER));
+  }
+
+  @Test
+  void shouldThrowExceptionIfCursorIsMalformed() {
+    var page = Pageable.builder().maxResults(2).cursor("not a cursor").build();
+
+    assertThrows(InvalidCursorException.class,
+        () -> processInstanceService.getProcessInstancePage(page, SystemRole.OFFICER));
+  }
+
+  private List<GetProcessInstanceResponse> processInstances(String... ids) {
+    return Stream.of(ids)
+        .map(id -> GetProcessInstanceResponse.builder().id(id).build())
+        .collect(Collectors.toList());
+  }
+}
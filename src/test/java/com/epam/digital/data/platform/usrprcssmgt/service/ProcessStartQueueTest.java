@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.ProcessStartProperties;
+import com.epam.digital.data.platform.usrprcssmgt.exception.ProcessStartQueueFullException;
+import com.epam.digital.data.platform.usrprcssmgt.exception.StartTicketNotFoundException;
+import com.epam.digital.data.platform.usrprcssmgt.idempotency.InMemoryIdempotencyStore;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceResponse;
+import com.epam.digital.data.platform.usrprcssmgt.model.response.StartProcessInstanceTicketResponse.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class ProcessStartQueueTest {
+
+  private final Authentication authentication =
+      new UsernamePasswordAuthenticationToken("officer", "token");
+  private final StartProcessInstanceResponse response = StartProcessInstanceResponse.builder()
+      .id("processInstanceId")
+      .processDefinitionId("processDefinitionId")
+      .build();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private SimpleMeterRegistry meterRegistry;
+  private ProcessStartProperties properties;
+  private ProcessStartQueue processStartQueue;
+  private AtomicInteger cancellations;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new ProcessStartProperties();
+    properties.getAsync().setWorkers(1);
+    properties.getAsync().setQueueCapacity(1);
+    properties.getAsync().setDrainTimeout(Duration.ofSeconds(10));
+    processStartQueue = createProcessStartQueue();
+    cancellations = new AtomicInteger();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    release.countDown();
+    processStartQueue.destroy();
+  }
+
+  @Test
+  void shouldStoreStartedProcessInstanceByTicket() throws InterruptedException {
+    var ticket = processStartQueue.submit("processDefinitionKey", authentication,
+        () -> response, cancellations::incrementAndGet);
+
+    assertThat(ticket.getStatus()).isEqualTo(Status.ACCEPTED);
+    assertThat(ticket.getProcessDefinitionKey()).isEqualTo("processDefinitionKey");
+
+    processStartQueue.destroy();
+
+    var result = processStartQueue.getTicket(ticket.getTicketId(), authentication);
+    assertThat(result.getStatus()).isEqualTo(Status.STARTED);
+    assertThat(result.getResult()).isEqualTo(response);
+    assertThat(cancellations).hasValue(0);
+  }
+
+  @Test
+  void shouldStoreErrorIfStartFailed() throws InterruptedException {
+    var ticket = processStartQueue.submit("processDefinitionKey", authentication, () -> {
+      throw new IllegalStateException("Bpms error");
+    }, cancellations::incrementAndGet);
+
+    processStartQueue.destroy();
+
+    var result = processStartQueue.getTicket(ticket.getTicketId(), authentication);
+    assertThat(result.getStatus()).isEqualTo(Status.FAILED);
+    assertThat(result.getError().getCode()).isEqualTo("500");
+    assertThat(result.getError().getMessage()).isEqualTo("Internal Server Error");
+  }
+
+  @Test
+  void shouldStoreDownstreamStatusIfStartFailed() throws InterruptedException {
+    var bpmsResponse = Response.builder()
+        .status(404)
+        .request(Request.create(HttpMethod.POST, "/api/process-definition/key/start", Map.of(),
+            null, StandardCharsets.UTF_8, null))
+        .headers(Map.of())
+        .body("{\"message\":\"Process definition not found\"}", StandardCharsets.UTF_8)
+        .build();
+    var ticket = processStartQueue.submit("processDefinitionKey", authentication, () -> {
+      throw FeignException.errorStatus("startProcessInstance", bpmsResponse);
+    }, cancellations::incrementAndGet);
+
+    processStartQueue.destroy();
+
+    var result = processStartQueue.getTicket(ticket.getTicketId(), authentication);
+    assertThat(result.getStatus()).isEqualTo(Status.FAILED);
+    assertThat(result.getError().getCode()).isEqualTo("404");
+    assertThat(result.getError().getMessage()).isEqualTo("Not Found");
+  }
+
+  @Test
+  void shouldCountRunningStartAsPending() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    processStartQueue.submit("processDefinitionKey", authentication, () -> {
+      started.countDown();
+      return awaitRelease();
+    }, cancellations::incrementAndGet);
+
+    started.await();
+
+    assertThat(meterRegistry.get(ProcessStartQueue.PENDING_METRIC).gauge().value()).isOne();
+    release.countDown();
+    processStartQueue.destroy();
+    assertThat(meterRegistry.get(ProcessStartQueue.PENDING_METRIC).gauge().value()).isZero();
+  }
+
+  @Test
+  void shouldRejectStartIfQueueIsFull() {
+    processStartQueue.submit("processDefinitionKey", authentication, this::awaitRelease,
+        cancellations::incrementAndGet);
+    processStartQueue.submit("processDefinitionKey", authentication, this::awaitRelease,
+        cancellations::incrementAndGet);
+
+    assertThrows(ProcessStartQueueFullException.class,
+        () -> processStartQueue.submit("processDefinitionKey", authentication, () -> response,
+            cancellations::incrementAndGet));
+
+    assertThat(cancellations).hasValue(1);
+    assertThat(meterRegistry.get(ProcessStartQueue.REJECTED_METRIC).counter().count())
+        .isOne();
+    assertThat(meterRegistry.get(ProcessStartQueue.PENDING_METRIC).gauge().value())
+        .isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  void shouldNotReturnTicketOfAnotherUser() {
+    var ticket = processStartQueue.submit("processDefinitionKey", authentication,
+        () -> response, cancellations::incrementAndGet);
+
+    var anotherUser = new UsernamePasswordAuthenticationToken("citizen", "token");
+    assertThrows(StartTicketNotFoundException.class,
+        () -> processStartQueue.getTicket(ticket.getTicketId(), anotherUser));
+  }
+
+  @Test
+  void shouldFailNotStartedProcessInstancesIfNotDrainedOnShutdown() throws InterruptedException {
+    properties.getAsync().setDrainTimeout(Duration.ofMillis(100));
+    processStartQueue = createProcessStartQueue();
+    var running = processStartQueue.submit("processDefinitionKey", authentication,
+        this::awaitRelease, cancellations::incrementAndGet);
+    var queued = processStartQueue.submit("processDefinitionKey", authentication,
+        () -> response, cancellations::incrementAndGet);
+
+    processStartQueue.destroy();
+
+    assertThat(processStartQueue.getTicket(running.getTicketId(), authentication).getStatus())
+        .isEqualTo(Status.FAILED);
+    var queuedResult = processStartQueue.getTicket(queued.getTicketId(), authentication);
+    assertThat(queuedResult.getStatus()).isEqualTo(Status.FAILED);
+    assertThat(queuedResult.getError().getCode()).isEqualTo("503");
+    assertThat(cancellations).hasValue(1);
+  }
+
+  private ProcessStartQueue createProcessStartQueue() {
+    return new ProcessStartQueue(new InMemoryIdempotencyStore(100, Duration.ofHours(1)),
+        new ObjectMapper(), properties, meterRegistry, ThreadLocalCurrentTraceContext.create());
+  }
+
+  private StartProcessInstanceResponse awaitRelease() {
+    try {
+      release.await();
+      return response;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Process instance start is interrupted", exception);
+    }
+  }
+}
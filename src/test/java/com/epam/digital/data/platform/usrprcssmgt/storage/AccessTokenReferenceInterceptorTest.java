@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
+import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.AccessTokenReferenceProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.types.Expiration;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenReferenceInterceptorTest {
+
+  @Mock
+  private FormDataStorageService formDataStorageService;
+  @Mock
+  private RedisCommandPipeline redisCommandPipeline;
+  @Mock
+  private StringRedisConnection connection;
+
+  private SimpleMeterRegistry meterRegistry;
+  private FormDataStorageService referencingFormDataStorageService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    var interceptor = new AccessTokenReferenceInterceptor(redisCommandPipeline, new ObjectMapper(),
+        new AccessTokenReferenceProperties(), meterRegistry);
+    var proxyFactory = new ProxyFactory(formDataStorageService);
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvice(interceptor);
+    referencingFormDataStorageService = (FormDataStorageService) proxyFactory.getProxy();
+  }
+
+  @Test
+  void shouldStoreTokenOnceAndReferenceItFromFormData() {
+    var token = token(Instant.now().plus(Duration.ofMinutes(5)));
+    when(redisCommandPipeline.executeRepeatable(any())).thenAnswer(invocation -> invocation
+        .<Function<StringRedisConnection, ?>>getArgument(0).apply(connection));
+    when(connection.set(anyString(), eq(token), any(Expiration.class),
+        eq(SetOption.SET_IF_ABSENT))).thenReturn(true);
+    when(connection.pExpireAt(anyString(), anyLong())).thenReturn(true);
+    var stored = ArgumentCaptor.forClass(FormDataDto.class);
+
+    referencingFormDataStorageService.putStartFormData("key", "uuid", formData(token));
+    referencingFormDataStorageService.putStartFormData("key", "uuid2", formData(token));
+
+    verify(formDataStorageService, times(2))
+        .putStartFormData(eq("key"), anyString(), stored.capture());
+    assertThat(stored.getAllValues()).allSatisfy(formData -> {
+      assertThat(formData.getAccessToken())
+          .startsWith(AccessTokenReferenceInterceptor.REFERENCE_PREFIX);
+      assertThat(formData.getData()).containsEntry("name", "value");
+      assertThat(formData.getSignature()).isEqualTo("signature");
+    });
+    verify(connection).set(anyString(), eq(token), any(Expiration.class),
+        eq(SetOption.SET_IF_ABSENT));
+    assertThat(references("stored")).isOne();
+    assertThat(references("reused")).isOne();
+
+    var reference = stored.getValue().getAccessToken();
+    when(connection.get("access-token:"
+        + reference.substring(AccessTokenReferenceInterceptor.REFERENCE_PREFIX.length())))
+        .thenReturn(token);
+    when(formDataStorageService.getFormData("formDataKey"))
+        .thenReturn(Optional.of(stored.getValue()));
+
+    var read = referencingFormDataStorageService.getFormData("formDataKey").orElseThrow();
+
+    assertThat(read.getAccessToken()).isEqualTo(token);
+    assertThat(read.getData()).containsEntry("name", "value");
+  }
+
+  @Test
+  void shouldStoreRememberedTokenAgainIfItIsEvicted() {
+    var token = token(Instant.now().plus(Duration.ofMinutes(5)));
+    when(redisCommandPipeline.executeRepeatable(any())).thenAnswer(invocation -> invocation
+        .<Function<StringRedisConnection, ?>>getArgument(0).apply(connection));
+    when(connection.set(anyString(), eq(token), any(Expiration.class),
+        eq(SetOption.SET_IF_ABSENT))).thenReturn(true);
+    when(connection.pExpireAt(anyString(), anyLong())).thenReturn(false);
+
+    referencingFormDataStorageService.putStartFormData("key", "uuid", formData(token));
+    referencingFormDataStorageService.putStartFormData("key", "uuid2", formData(token));
+
+    verify(connection, times(2)).set(anyString(), eq(token), any(Expiration.class),
+        eq(SetOption.SET_IF_ABSENT));
+    assertThat(references("stored")).isEqualTo(2);
+    assertThat(references("reused")).isZero();
+  }
+
+  @Test
+  void shouldKeepTokenThatExpiresSoonInFormData() {
+    var token = token(Instant.now().plusSeconds(5));
+    var formData = formData(token);
+
+    referencingFormDataStorageService.putStartFormData("key", "uuid", formData);
+
+    verify(formDataStorageService).putStartFormData("key", "uuid", formData);
+    verify(redisCommandPipeline, never()).executeRepeatable(any());
+    assertThat(references("inline")).isOne();
+  }
+
+  @Test
+  void shouldKeepTokenWithoutExpirationInFormData() {
+    var formData = formData("not-a-jwt");
+
+    referencingFormDataStorageService.putStartFormData("key", "uuid", formData);
+
+    verify(formDataStorageService).putStartFormData("key", "uuid", formData);
+    assertThat(references("inline")).isOne();
+  }
+
+  private double references(String outcome) {
+    return meterRegistry.get(AccessTokenReferenceInterceptor.REFERENCES_METRIC)
+        .tag("outcome", outcome).counter().count();
+  }
+
+  private FormDataDto formData(String token) {
+    return FormDataDto.builder()
+        .data(new LinkedHashMap<>(Map.of("name", "value")))
+        .signature("signature")
+        .accessToken(token)
+        .build();
+  }
+
+  private String token(Instant expiresAt) {
+    var encoder = Base64.getUrlEncoder().withoutPadding();
+    return encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+        + encoder.encodeToString(("{\"sub\":\"user\",\"exp\":" + expiresAt.getEpochSecond() + "}")
+        .getBytes(StandardCharsets.UTF_8)) + ".signature";
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.storage.form.dto.FormDataDto;
+import com.epam.digital.data.platform.storage.form.service.FormDataStorageService;
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataCodecProperties;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Compression;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class FormDataCodecInterceptorTest {
+
+  @Mock
+  private FormDataStorageService formDataStorageService;
+
+  private final FormDataCodecProperties properties = new FormDataCodecProperties();
+  private SimpleMeterRegistry meterRegistry;
+  private FormDataStorageService encodingFormDataStorageService;
+
+  @BeforeEach
+  void setUp() {
+    properties.setCompressionThreshold(DataSize.ofBytes(256));
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void shouldStoreEncodedFormDataAndReadItDecoded() {
+    properties.setFormat(Format.SMILE);
+    properties.setCompression(Compression.ZSTD);
+    createEncodingFormDataStorageService();
+    var formData = formData("value".repeat(200));
+    var stored = ArgumentCaptor.forClass(FormDataDto.class);
+    when(formDataStorageService.putStartFormData(eq("key"), eq("uuid"), stored.capture()))
+        .thenReturn("formDataKey");
+
+    encodingFormDataStorageService.putStartFormData("key", "uuid", formData);
+
+    assertThat(stored.getValue().getData()).containsOnlyKeys(
+        FormDataCodecInterceptor.ENCODED_DATA_KEY);
+    assertThat(stored.getValue().getSignature()).isNull();
+    assertThat(stored.getValue().getAccessToken()).isEqualTo("token");
+    assertThat(formData.getData()).containsKey("name");
+
+    when(formDataStorageService.getFormData("formDataKey"))
+        .thenReturn(Optional.of(stored.getValue()));
+
+    var read = encodingFormDataStorageService.getFormData("formDataKey").orElseThrow();
+
+    assertThat(read.getData()).isEqualTo(formData.getData());
+    assertThat(read.getSignature()).isEqualTo("signature");
+    assertThat(read.getAccessToken()).isEqualTo("token");
+    assertThat(meterRegistry.get(FormDataCodecInterceptor.STORED_SIZE_METRIC)
+        .tag("encoding", "encoded").summary().count()).isOne();
+  }
+
+  @Test
+  void shouldStoreSmallJsonFormDataAsIs() {
+    createEncodingFormDataStorageService();
+    var formData = formData("value");
+
+    encodingFormDataStorageService.putStartFormData("key", "uuid", formData);
+
+    verify(formDataStorageService).putStartFormData("key", "uuid", formData);
+    assertThat(meterRegistry.get(FormDataCodecInterceptor.STORED_SIZE_METRIC)
+        .tag("encoding", "plain").summary().count()).isOne();
+  }
+
+  @Test
+  void shouldStoreSmallBinaryFormDataAsIs() {
+    properties.setFormat(Format.CBOR);
+    properties.setCompression(Compression.LZ4);
+    createEncodingFormDataStorageService();
+    var formData = formData("value");
+
+    encodingFormDataStorageService.putStartFormData("key", "uuid", formData);
+
+    verify(formDataStorageService).putStartFormData("key", "uuid", formData);
+    assertThat(meterRegistry.get(FormDataCodecInterceptor.STORED_SIZE_METRIC)
+        .tag("encoding", "plain").summary().count()).isOne();
+  }
+
+  @Test
+  void shouldReadUserDataWithEncodedKeyAsIs() {
+    createEncodingFormDataStorageService();
+    var notBase64 = FormDataDto.builder()
+        .data(new LinkedHashMap<>(Map.of(FormDataCodecInterceptor.ENCODED_DATA_KEY, "value")))
+        .build();
+    var notEncoded = FormDataDto.builder()
+        .data(new LinkedHashMap<>(Map.of(FormDataCodecInterceptor.ENCODED_DATA_KEY, "dmFsdWU=")))
+        .build();
+    when(formDataStorageService.getFormData("notBase64")).thenReturn(Optional.of(notBase64));
+    when(formDataStorageService.getFormData("notEncoded")).thenReturn(Optional.of(notEncoded));
+
+    assertThat(encodingFormDataStorageService.getFormData("notBase64")).containsSame(notBase64);
+    assertThat(encodingFormDataStorageService.getFormData("notEncoded")).containsSame(notEncoded);
+  }
+
+  @Test
+  void shouldReadFormDataStoredAsIs() {
+    createEncodingFormDataStorageService();
+    var formData = formData("value");
+    when(formDataStorageService.getFormData(any())).thenReturn(Optional.of(formData));
+
+    assertThat(encodingFormDataStorageService.getFormData("formDataKey")).containsSame(formData);
+  }
+
+  private void createEncodingFormDataStorageService() {
+    var interceptor = new FormDataCodecInterceptor(
+        new FormDataCodec(new ObjectMapper(), properties), meterRegistry);
+    var proxyFactory = new ProxyFactory(formDataStorageService);
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvice(interceptor);
+    encodingFormDataStorageService = (FormDataStorageService) proxyFactory.getProxy();
+  }
+
+  private FormDataDto formData(String value) {
+    return FormDataDto.builder()
+        .data(new LinkedHashMap<>(Map.of("name", value)))
+        .signature("signature")
+        .accessToken("token")
+        .build();
+  }
+}
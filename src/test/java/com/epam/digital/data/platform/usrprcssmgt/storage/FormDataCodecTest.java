@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataCodecProperties;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Compression;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodec.Format;
+import com.epam.digital.data.platform.usrprcssmgt.storage.FormDataCodecInterceptor.Payload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class FormDataCodecTest {
+
+  private final Payload payload = new Payload(
+      new LinkedHashMap<>(Map.of("name", "value".repeat(100), "items", List.of(1, 2, 3))),
+      "signature");
+
+  @Test
+  void shouldDecodeValueEncodedWithAnySettings() {
+    var decoder = codec(Format.JSON, Compression.NONE, DataSize.ofBytes(0));
+    for (var format : Format.values()) {
+      for (var compression : Compression.values()) {
+        var encoded = codec(format, compression, DataSize.ofBytes(0)).encode(payload);
+
+        assertThat(FormDataCodec.isEncoded(encoded)).isTrue();
+        assertThat(FormDataCodec.format(encoded)).isEqualTo(format);
+        assertThat(decoder.decode(encoded, Payload.class)).isEqualTo(payload);
+      }
+    }
+  }
+
+  @Test
+  void shouldCompressOnlyValuesNotSmallerThanThreshold() {
+    var codec = codec(Format.JSON, Compression.ZSTD, DataSize.ofKilobytes(1));
+
+    var small = codec.encode(new Payload(new LinkedHashMap<>(Map.of("name", "value")), null));
+    var large = codec.encode(payload);
+
+    assertThat(FormDataCodec.rawLength(small)).isEqualTo(small.length - 5);
+    assertThat(large.length).isLessThan(FormDataCodec.rawLength(large));
+  }
+
+  @Test
+  void shouldRejectValueWithoutHeader() {
+    var codec = codec(Format.JSON, Compression.LZ4, DataSize.ofBytes(0));
+    var json = "{\"data\":{}}".getBytes(StandardCharsets.UTF_8);
+
+    assertThat(FormDataCodec.isEncoded(json)).isFalse();
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(json, Payload.class));
+  }
+
+  private FormDataCodec codec(Format format, Compression compression, DataSize threshold) {
+    var properties = new FormDataCodecProperties();
+    properties.setFormat(format);
+    properties.setCompression(compression);
+    properties.setCompressionThreshold(threshold);
+    return new FormDataCodec(new ObjectMapper(), properties);
+  }
+}
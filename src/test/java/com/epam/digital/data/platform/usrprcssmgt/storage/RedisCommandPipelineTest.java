@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.usrprcssmgt.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.epam.digital.data.platform.usrprcssmgt.config.properties.FormDataStoragePipelineProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCommandPipelineTest {
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  private RedisCommandPipeline redisCommandPipeline;
+
+  @AfterEach
+  void destroyPipeline() throws InterruptedException {
+    redisCommandPipeline.destroy();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldRepeatOnlyRepeatableCommandsIfPipelineFails() {
+    redisCommandPipeline = pipeline(1, Duration.ofMillis(1), Duration.ofSeconds(5));
+    var exception = new RedisConnectionFailureException("Connection lost");
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(exception);
+    when(redisTemplate.execute(any(RedisCallback.class))).thenReturn("value");
+
+    var result = redisCommandPipeline.executeRepeatable(connection -> connection.get("key"));
+    var thrown = assertThrows(RedisConnectionFailureException.class,
+        () -> redisCommandPipeline.execute(connection -> connection.setNX("key", "value")));
+
+    assertThat(result).isEqualTo("value");
+    assertThat(thrown).isSameAs(exception);
+    verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    verify(redisTemplate).execute(any(RedisCallback.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldNotSendCommandIfCallerStoppedWaiting() {
+    redisCommandPipeline = pipeline(2, Duration.ofMillis(200), Duration.ofMillis(10));
+
+    assertThrows(QueryTimeoutException.class,
+        () -> redisCommandPipeline.execute(connection -> connection.setNX("key", "value")));
+
+    verify(redisTemplate, after(500).never()).executePipelined(any(RedisCallback.class));
+  }
+
+  private RedisCommandPipeline pipeline(int maxBatchSize, Duration maxDelay, Duration timeout) {
+    var properties = new FormDataStoragePipelineProperties();
+    properties.setEnabled(true);
+    properties.setMaxBatchSize(maxBatchSize);
+    properties.setMaxDelay(maxDelay);
+    properties.setTimeout(timeout);
+    return new RedisCommandPipeline(redisTemplate, properties, new SimpleMeterRegistry());
+  }
+}
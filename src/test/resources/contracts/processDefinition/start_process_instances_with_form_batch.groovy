@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package contracts.processDefinition
+
+import org.springframework.cloud.contract.spec.Contract
+
+Contract.make {
+  description 'should return results of started process instances'
+
+  request {
+    urlPath '/api/process-definition/start-with-form/batch'
+    method POST()
+    headers {
+      contentType applicationJson()
+      header("x-access-token", "testToken")
+
+    }
+    body([
+        [
+            processDefinitionKey: 'processDefinitionKey',
+            formData            : [
+                data: [
+                    formField1: "testValue"
+                ]
+            ]
+        ],
+        [
+            processDefinitionKey: 'processDefinitionKey',
+            formData            : [
+                data: [
+                    formField1: "invalidValue"
+                ]
+            ]
+        ]
+    ])
+  }
+
+  response {
+    status OK()
+    headers {
+      contentType applicationJson()
+    }
+    body([
+        [
+            index               : 0,
+            processDefinitionKey: 'processDefinitionKey',
+            status              : 'STARTED',
+            result              : [
+                id                 : 'processInstanceId',
+                processDefinitionId: 'processDefinitionId',
+                ended              : false
+            ]
+        ],
+        [
+            index               : 1,
+            processDefinitionKey: 'processDefinitionKey',
+            status              : 'FAILED',
+            validationError     : [
+                code   : 'VALIDATION_ERROR',
+                message: 'Validation error'
+            ]
+        ]
+    ])
+  }
+}
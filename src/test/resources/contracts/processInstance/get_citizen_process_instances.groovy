@@ -27,6 +27,7 @@ Contract.make {
   }
 
   response {
+    async()
     status OK()
     headers {
       contentType applicationJson()